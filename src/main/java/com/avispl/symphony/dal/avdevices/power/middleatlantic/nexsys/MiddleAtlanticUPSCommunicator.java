@@ -4,18 +4,17 @@
 
 package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys;
 
-import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSMonitoringCommand.INPUT_STATE;
 import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSMonitoringCommand.SELF_TEST_RESULTS;
 import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList.LAST_REPLACEMENT_DATE;
 import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList.NEXT_REPLACEMENT_DATE;
 
+import java.io.File;
 import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,9 +24,24 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.util.CollectionUtils;
@@ -46,12 +60,43 @@ import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.Batt
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.BatteryConditionEnum;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.BatteryStatusEnum;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.EnumTypeHandler;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.MonitoringGroupEnum;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.OutletActionEnum;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.OutputSourceEnum;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.SelfTestResultEnum;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSConstant;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSControlCommand;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSMonitoringCommand;
 import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSValueFormatter;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.config.AdapterConfiguration;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.LoadSheddingPolicy;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.OutletVerifier;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.PendingWriteOverlay;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.SelfTestTracker;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics.AdapterEvents;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics.OpenMetricsExporter;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording.FrameRecord;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording.FrameRecordType;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording.FrameRecorder;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording.FrameReplayer;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording.FrameRingBuffer;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule.OutletSchedule;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule.OutletScheduler;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule.TimingWheel;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.AdapterMetrics;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.BatteryRuntimeEstimator;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.DeadbandFilter;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.EnergyAccumulator;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.SnapshotFile;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.SlidingWindowAggregate;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.WindowedAggregator;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport.CommandRateLimiter;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport.FileSessionLease;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport.FrameCompletionDetector;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport.NexsysFrameCodec;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport.SessionLease;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport.SshFrameTransport;
 import com.avispl.symphony.dal.communicator.SshCommunicator;
 import com.avispl.symphony.dal.util.StringUtils;
 
@@ -70,12 +115,16 @@ import com.avispl.symphony.dal.util.StringUtils;
  * <li> - Capacity(%)</li>
  * <li> - Charge</li>
  * <li> - Condition</li>
+ * <li> - EstimatedRemainingTime</li>
+ * <li> - EstimatedRemainingTimeHigh</li>
+ * <li> - EstimatedRemainingTimeLow</li>
  * <li> - ExternalBatteryPackCount</li>
  * <li> - LastReplacementDate(MM/DD/YYYY)</li>
  * <li> - LastSelfTestResults</li>
  * <li> - NextReplacementDate(MM/DD/YYYY)</li>
  * <li> - OnBatteryTime(second)</li>
  * <li> - RemainingTime</li>
+ * <li> - SelfTest</li>
  * <li> - Status</li>
  * <li> - Temperature(C)</li>
  * <li> - Voltage(V)</li>
@@ -132,86 +181,985 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * localExtendedStatistics represents the extended statistics object.
+	 * localExtendedStatistics holds the latest published statistics snapshot. Every snapshot is immutable once published,
+	 * so readers can return it without taking {@link #reentrantLock}; changes are applied by swapping in a new snapshot.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private final AtomicReference<ExtendedStatistics> localExtendedStatistics = new AtomicReference<>();
 
 	/**
-	 * Local cache stores data after a period of time
+	 * localTelemetry holds an immutable copy of the raw device values taken when {@link #localExtendedStatistics} is published
 	 */
-	private final Map<String, String> localCacheMapOfPropertyNameAndValue = new HashMap<>();
+	private final AtomicReference<Map<String, String>> localTelemetry = new AtomicReference<>();
 
 	/**
-	 * Configurable property for historical properties, comma separated values kept as set locally
+	 * OpenMetrics endpoint serving {@link #localTelemetry}, created only when {@link #metricsPort} is configured
 	 */
-	private final Set<String> historicalProperties = new HashSet<>();
+	private OpenMetricsExporter openMetricsExporter;
+
+	/**
+	 * Records every raw exchange with the device, created only when {@link #recordingFile} is configured
+	 */
+	private FrameRecorder frameRecorder;
+
+	/**
+	 * Answers commands from a recording instead of the device, created only when {@link #replayFile} is configured
+	 */
+	private FrameReplayer frameReplayer;
+
+	/**
+	 * Last command/response exchanges kept in memory for diagnostics, created only when {@link #frameHistorySize} is configured
+	 */
+	private volatile FrameRingBuffer frameHistory;
+
+	/**
+	 * Number of times {@link #frameHistory} was dumped to the log
+	 */
+	private final AtomicLong frameHistoryDumps = new AtomicLong();
+
+	/**
+	 * True while a monitoring cycle reaching {@link #frameHistoryDumpThreshold} dumps {@link #frameHistory}, cleared by the dump
+	 * and set again by a cycle below the threshold, guarded by {@link #reentrantLock}
+	 */
+	private boolean isFrameHistoryDumpArmed = true;
+
+	/**
+	 * Local cache stores data after a period of time, concurrent as controls on {@link #controlTransport} update it while a poll runs
+	 */
+	private final Map<String, String> localCacheMapOfPropertyNameAndValue = new ConcurrentHashMap<>();
+
+	/**
+	 * Predicts the remaining battery runtime from the discharge telemetry while the UPS runs on battery
+	 */
+	private final BatteryRuntimeEstimator batteryRuntimeEstimator = new BatteryRuntimeEstimator();
+
+	/**
+	 * Rolling min/max/mean/standard deviation of the output and battery metrics, created only when {@link #aggregateWindows} is configured
+	 */
+	private WindowedAggregator windowedAggregator;
+
+	/**
+	 * Integrates the output power into energy counters, created only when {@link #energyAccounting} is enabled
+	 */
+	private EnergyAccumulator energyAccumulator;
+
+	/**
+	 * Properties {@link #windowedAggregator} aggregates
+	 */
+	private static final List<UPSPropertiesList> aggregatedProperties = Collections.unmodifiableList(Arrays.asList(UPSPropertiesList.OUTPUT_VOLTAGE,
+			UPSPropertiesList.OUTPUT_CURRENT, UPSPropertiesList.OUTPUT_POWER, UPSPropertiesList.OUTPUT_LOAD, UPSPropertiesList.BATTERY_VOLTAGE,
+			UPSPropertiesList.TEMPERATURE, UPSPropertiesList.CAPACITY));
+
+	/**
+	 * Futures returned by {@link #submitAsync(Callable, long)} that are not completed yet, failed when the adapter is destroyed
+	 */
+	private final Set<CompletableFuture<?>> pendingCalls = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Keeps the raw values of the last published snapshot across restarts, created only when {@link #snapshotFile} is configured
+	 */
+	private SnapshotFile warmStartFile;
+
+	/**
+	 * True while {@link #localExtendedStatistics} holds the snapshot loaded from {@link #warmStartFile} and no live poll completed yet
+	 */
+	private volatile boolean isStaleSnapshot;
+
+	/**
+	 * True while {@link #refreshStaleSnapshot()} runs the first live poll after a warm start; callers get the stale snapshot
+	 * meanwhile instead of waiting for that poll
+	 */
+	private final AtomicBoolean warmingUp = new AtomicBoolean();
+
+	/**
+	 * Lock, cycle, parse and allocation measurements of the adapter itself
+	 */
+	private final AdapterMetrics adapterMetrics = new AdapterMetrics();
+
+	/**
+	 * Time spent parsing device responses in the current monitoring cycle, guarded by {@link #reentrantLock}
+	 */
+	private long cycleParseNanos;
+
+	/**
+	 * Suppresses historical points that stay within their deadband until the heartbeat expires
+	 */
+	private final DeadbandFilter deadbandFilter = new DeadbandFilter();
+
+	/**
+	 * Scheduler running the adapter's background work, created in {@link #internalInit()}
+	 */
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Executor running the calls of {@link #submitAsync(Callable, long)}, apart from {@link #scheduler} so interrupting a
+	 * cancelled call never interrupts the adapter's background work, created in {@link #internalInit()}
+	 */
+	private ThreadPoolExecutor asyncExecutor;
+
+	/**
+	 * Scheduler failing the futures of {@link #submitAsync(Callable, long)} whose timeout expires, created in {@link #internalInit()}
+	 */
+	private ScheduledThreadPoolExecutor asyncTimeoutScheduler;
+
+	/**
+	 * Follows a self-test started from {@link #controlProperty(ControllableProperty)} until it reports a final result
+	 */
+	private SelfTestTracker selfTestTracker;
+
+	/**
+	 * Reads the outlet bitmask back after outlet and cycle controls until the outlets report their expected state
+	 */
+	private OutletVerifier outletVerifier;
+
+	/**
+	 * Runs the scheduled outlet actions, created only when {@link #outletSchedules} is configured
+	 */
+	private OutletScheduler outletScheduler;
+
+	/**
+	 * Sheds outlets while the battery runs low, created only when {@link #loadSheddingOutlets} is configured
+	 */
+	private LoadSheddingPolicy loadSheddingPolicy;
+
+	/**
+	 * Monitoring groups {@link #loadSheddingPolicy} reads the source, battery and outlet states from
+	 */
+	private static final List<MonitoringGroupEnum> loadSheddingMonitoringGroups = Collections.unmodifiableList(Arrays.asList(MonitoringGroupEnum.OUTPUT,
+			MonitoringGroupEnum.BATTERY, MonitoringGroupEnum.OUTLET));
+
+	/**
+	 * Output sources running on input power, which let {@link #loadSheddingPolicy} restore shed outlets
+	 */
+	private static final List<OutputSourceEnum> linePowerSources = Collections.unmodifiableList(Arrays.asList(OutputSourceEnum.NORMAL, OutputSourceEnum.BYPASS,
+			OutputSourceEnum.REDUCING, OutputSourceEnum.BOOSTING, OutputSourceEnum.MANUAL_BYPASS, OutputSourceEnum.ON_ECO));
+
+	/**
+	 * Version of {@link #configuration} load shedding was last reported suspended for, so the error is logged once per change
+	 */
+	private long loadSheddingSuspendedVersion = -1;
+
+	/**
+	 * Detects the end of a response frame incrementally while {@link #doneReading(String, String)} is called for every chunk
+	 */
+	private final FrameCompletionDetector frameCompletionDetector = new FrameCompletionDetector();
+
+	/**
+	 * Byte level transport used instead of the shell channel, created only when {@link #frameTransport} is enabled
+	 */
+	private SshFrameTransport sshFrameTransport;
+
+	/**
+	 * Reusable buffer control command frames are encoded into when {@link #sshFrameTransport} is used
+	 */
+	private final ByteBuffer controlFrameBuffer = ByteBuffer.allocate(64);
+
+	/**
+	 * Dedicated SSH session for control commands, created only when {@link #controlChannel} is enabled and dropped for the
+	 * shared channel if the device rejects the second login
+	 */
+	private volatile SshFrameTransport controlTransport;
+
+	/**
+	 * controlLock serializes control commands on {@link #controlTransport}, so they never wait for {@link #reentrantLock}
+	 */
+	private final ReentrantLock controlLock = new ReentrantLock();
+
+	/**
+	 * Reusable buffer control command frames are encoded into when {@link #controlTransport} is used
+	 */
+	private final ByteBuffer controlChannelBuffer = ByteBuffer.allocate(64);
+
+	/**
+	 * Paces every frame sent to the device, created only when {@link #commandRate} is configured
+	 */
+	private CommandRateLimiter commandRateLimiter;
+
+	/**
+	 * Lets adapter instances sharing the device take turns on its session, created only when {@link #sessionLeaseDirectory}
+	 * is configured or given with {@link #useSessionLease(SessionLease)}
+	 */
+	private volatile SessionLease sessionLease;
+
+	/**
+	 * Session lease given with {@link #useSessionLease(SessionLease)}, used instead of a lock file lease
+	 */
+	private SessionLease providedSessionLease;
+
+	/**
+	 * Last time {@link #sessionLease} was needed for an exchange, from {@link System#nanoTime()}
+	 */
+	private volatile long sessionLeaseLastUse;
+
+	/**
+	 * Configuration read by the monitoring cycles, replaced as a whole by the configuration setters and read once per cycle
+	 */
+	private final AtomicReference<AdapterConfiguration> configuration = new AtomicReference<>(AdapterConfiguration.DEFAULT);
+
+	/**
+	 * Version of {@link #configuration} the local cache was last aligned with, see {@link #applyMonitoringGroups(AdapterConfiguration)}
+	 */
+	private long appliedConfigurationVersion = -1;
 
 	/**
 	 * count the failed command
 	 */
-	private final Map<String, String> failedMonitor = new HashMap<>();
+	private final Map<String, String> failedMonitor = new HashMap<>();
+
+	/**
+	 * Acknowledged control values masking the device readings until the device reports them or they expire
+	 */
+	private final PendingWriteOverlay pendingWriteOverlay = new PendingWriteOverlay();
+
+	/**
+	 * Port of the optional OpenMetrics endpoint imported from the user interface, the endpoint is disabled when empty
+	 */
+	private String metricsPort;
+
+	/**
+	 * Address the OpenMetrics endpoint listens on, the loopback interface by default since the endpoint is not authenticated
+	 */
+	private String metricsBindAddress = "127.0.0.1";
+
+	/**
+	 * Path of the file every raw command and response is recorded to, recording is disabled when empty and ignored with {@link #frameTransport}
+	 */
+	private String recordingFile;
+
+	/**
+	 * Path of a recording to replay instead of connecting to the device, replay is disabled when empty
+	 */
+	private String replayFile;
+
+	/**
+	 * replayPacing imported from the user interface, "true" replays with the original timing instead of full speed
+	 */
+	private String replayPacing;
+
+	/**
+	 * frameTransport imported from the user interface, "true" exchanges frames as bytes over a dedicated SSH session
+	 */
+	private String frameTransport;
+
+	/**
+	 * Maximum number of commands per second sent to the device, imported from the user interface; pacing is disabled when empty
+	 */
+	private String commandRate;
+
+	/**
+	 * Number of commands that can be sent back to back before {@link #commandRate} applies, imported from the user interface
+	 */
+	private String commandBurst;
+
+	/**
+	 * controlChannel imported from the user interface, "true" sends control commands over a second, dedicated SSH session.
+	 * The second session is a second login: a card that accepts a single session rejects it, and control commands then fall
+	 * back to the shared channel until the next {@link #internalInit()}. Ignored when a session lease is configured, since the
+	 * lease exists to keep a single session per device.
+	 */
+	private String controlChannel;
+
+	/**
+	 * Scheduled outlet actions imported from the user interface, ';' separated {@code Outlet<n>=<On|Off|Cycle>@<cron expression>}
+	 */
+	private String outletSchedules;
+
+	/**
+	 * Path of the file the last fire time and result of {@link #outletSchedules} are kept in, kept in memory only when empty
+	 */
+	private String outletScheduleStateFile;
+
+	/**
+	 * Outlets that may be shed on low battery imported from the user interface, comma separated in priority order; load shedding is disabled when empty
+	 */
+	private String loadSheddingOutlets;
+
+	/**
+	 * Remaining runtime in minutes under which outlets are shed, imported from the user interface
+	 */
+	private String loadSheddingRemainingTime;
+
+	/**
+	 * Battery capacity in percent under which outlets are shed, imported from the user interface
+	 */
+	private String loadSheddingCapacity;
+
+	/**
+	 * Seconds input power must be back before the shed outlets are restored, imported from the user interface
+	 */
+	private String loadSheddingRestoreDelay;
+
+	/**
+	 * Rolling aggregate windows in minutes imported from the user interface, comma separated such as "1,5,15"; aggregates are disabled when empty
+	 */
+	private String aggregateWindows;
+
+	/**
+	 * Whether the output power is integrated into energy counters, imported from the user interface
+	 */
+	private String energyAccounting;
+
+	/**
+	 * File keeping the energy counters across restarts, imported from the user interface; the counters are kept in memory only when empty
+	 */
+	private String energyCheckpointFile;
+
+	/**
+	 * File keeping the last snapshot across restarts, imported from the user interface; the adapter starts without statistics when empty
+	 */
+	private String snapshotFile;
+
+	/**
+	 * Number of recent device exchanges kept in memory for diagnostics, rounded up to a power of two; disabled when empty
+	 */
+	private String frameHistorySize;
+
+	/**
+	 * Failed monitoring commands in one cycle that dump the frame history to the log, once until a cycle fails less
+	 */
+	private String frameHistoryDumpThreshold = "1";
+
+	/**
+	 * Interval in milliseconds between two outlet bitmask read-backs while outlet controls are being verified; outlet cycles
+	 * are only verified while it is shorter than the cycle delay
+	 */
+	private String outletVerificationInterval = "2000";
+
+	/**
+	 * Directory of the lock files adapter instances sharing a UPS take turns on its session with; each instance logs in
+	 * whenever it needs the device and retries after a login rejection when empty
+	 */
+	private String sessionLeaseDirectory;
+
+	/**
+	 * the getMultipleStatistics interval if it's fail to send the cmd
+	 */
+	private static final int controlSSHTimeout = 3000;
+	/**
+	 * Set back to default timeout value in {@link SshCommunicator}
+	 */
+	private static final int statisticsSSHTimeout = 30000;
+
+	/**
+	 * Default time input power must be back before shed outlets are restored
+	 */
+	private static final long defaultLoadSheddingRestoreDelay = 60000;
+
+	/**
+	 * Time after which a self-test that still reports "Test in progress" stops being tracked
+	 */
+	private static final long selfTestTrackingTimeout = 180000;
+
+	/**
+	 * Time after a self-test is started during which a final result is taken for the previous test's, unless the UPS
+	 * reported the test in progress
+	 */
+	private static final long selfTestStartGracePeriod = 10000;
+
+	/**
+	 * Default interval between two outlet bitmask read-backs
+	 */
+	private static final long defaultOutletVerificationInterval = 2000;
+
+	/**
+	 * Time after which an outlet that does not report the state a control expects fails its verification
+	 */
+	private static final long outletVerificationTimeout = 30000;
+
+	/**
+	 * Time an outlet stays in the opposite state during a cycle, the delay sent with OUTLET_CYCLE_COMMAND
+	 */
+	private static final long outletCycleDelay = 10000;
+
+	/**
+	 * Longest time an exchange waits for another adapter instance to hand over the session lease
+	 */
+	private static final long sessionLeaseWaitTimeout = 30000;
+
+	/**
+	 * Time without exchanges after which the session is closed and the session lease handed over
+	 */
+	private static final long sessionLeaseIdleTime = 2000;
+
+	/**
+	 * Number of asynchronous calls that can wait for {@link #asyncExecutor}; further calls fail with a {@link RejectedExecutionException}
+	 */
+	private static final int asyncCallQueueCapacity = 64;
+
+	/**
+	 * Retrieves the historical properties of {@link #configuration}
+	 *
+	 * @return comma separated historical property names
+	 */
+	public String getHistoricalProperties() {
+		return String.join(",", configuration.get().getHistoricalProperties());
+	}
+
+	/**
+	 * Sets the historical properties of {@link #configuration}, effective from the next monitoring cycle
+	 *
+	 * @param historicalProperties comma separated historical property names
+	 */
+	public void setHistoricalProperties(String historicalProperties) {
+		configuration.updateAndGet(current -> current.withHistoricalProperties(historicalProperties));
+	}
+
+	/**
+	 * Retrieves the configManagement of {@link #configuration}
+	 *
+	 * @return configManagement as imported from the user interface
+	 */
+	public String getConfigManagement() {
+		return configuration.get().getConfigManagement();
+	}
+
+	/**
+	 * Sets the configManagement of {@link #configuration}, effective from the next monitoring cycle
+	 *
+	 * @param configManagement configManagement imported from the user interface
+	 */
+	public void setConfigManagement(String configManagement) {
+		configuration.updateAndGet(current -> current.withConfigManagement(configManagement));
+	}
+
+	/**
+	 * Retrieves the enabled monitoring groups of {@link #configuration}
+	 *
+	 * @return comma separated monitoring group names
+	 */
+	public String getMonitoringGroups() {
+		return configuration.get().getMonitoringGroups().stream().map(MonitoringGroupEnum::getName).collect(Collectors.joining(UPSConstant.COMMA));
+	}
+
+	/**
+	 * Sets the enabled monitoring groups of {@link #configuration}, effective from the next monitoring cycle.
+	 * Supported groups are Input, Output, Battery, Outlet and DeviceInfo; all groups are enabled when empty.
+	 *
+	 * @param monitoringGroups comma separated monitoring group names
+	 */
+	public void setMonitoringGroups(String monitoringGroups) {
+		try {
+			configuration.updateAndGet(current -> current.withMonitoringGroups(monitoringGroups));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error while setting the monitoring groups " + monitoringGroups + ", keeping " + getMonitoringGroups() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Retrieves the historical deadbands of {@link #configuration}
+	 *
+	 * @return comma separated "property name=deadband" entries
+	 */
+	public String getHistoricalDeadbands() {
+		return configuration.get().getHistoricalDeadbands().entrySet().stream().map(entry -> entry.getKey() + UPSConstant.EQUAL + entry.getValue())
+				.collect(Collectors.joining(UPSConstant.COMMA));
+	}
+
+	/**
+	 * Sets the historical deadbands of {@link #configuration}, effective from the next monitoring cycle.
+	 * A historical property with a deadband, such as "Temperature(C)=0.5" or "Load(%)=5%", only gets a new point when its value
+	 * moves past the deadband or when the historical heartbeat expires; properties without a deadband get a point on every poll.
+	 *
+	 * @param historicalDeadbands comma separated "property name=deadband" entries
+	 */
+	public void setHistoricalDeadbands(String historicalDeadbands) {
+		try {
+			configuration.updateAndGet(current -> current.withHistoricalDeadbands(historicalDeadbands));
+		} catch (IllegalArgumentException e) {
+			logger.error("Error while setting the historical deadbands " + historicalDeadbands + ", keeping " + getHistoricalDeadbands() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Retrieves the historical heartbeat of {@link #configuration}
+	 *
+	 * @return longest interval between two points of a historical property with a deadband, in seconds
+	 */
+	public String getHistoricalHeartbeat() {
+		return String.valueOf(TimeUnit.MILLISECONDS.toSeconds(configuration.get().getHistoricalHeartbeat()));
+	}
+
+	/**
+	 * Sets the historical heartbeat of {@link #configuration}, effective from the next monitoring cycle
+	 *
+	 * @param historicalHeartbeat longest interval between two points of a historical property with a deadband, in seconds
+	 */
+	public void setHistoricalHeartbeat(String historicalHeartbeat) {
+		try {
+			long heartbeat = TimeUnit.SECONDS.toMillis(Long.parseLong(historicalHeartbeat.trim()));
+			configuration.updateAndGet(current -> current.withHistoricalHeartbeat(heartbeat));
+		} catch (Exception e) {
+			logger.error("Error while setting the historical heartbeat " + historicalHeartbeat + ", keeping " + getHistoricalHeartbeat() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Retrieves the pending write time to live of {@link #configuration}
+	 *
+	 * @return time an acknowledged control value masks the device readings at most, in seconds
+	 */
+	public String getPendingWriteTtl() {
+		return String.valueOf(TimeUnit.MILLISECONDS.toSeconds(configuration.get().getPendingWriteTtl()));
+	}
+
+	/**
+	 * Sets the pending write time to live of {@link #configuration}, effective for the next control
+	 *
+	 * @param pendingWriteTtl time an acknowledged control value masks the device readings at most, in seconds
+	 */
+	public void setPendingWriteTtl(String pendingWriteTtl) {
+		try {
+			long ttl = TimeUnit.SECONDS.toMillis(Long.parseLong(pendingWriteTtl.trim()));
+			configuration.updateAndGet(current -> current.withPendingWriteTtl(ttl));
+		} catch (Exception e) {
+			logger.error("Error while setting the pending write time to live " + pendingWriteTtl + ", keeping " + getPendingWriteTtl() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Retrieves the self-test poll interval of {@link #configuration}
+	 *
+	 * @return interval between two self-test result reads in milliseconds
+	 */
+	public String getSelfTestPollInterval() {
+		return String.valueOf(configuration.get().getSelfTestPollInterval());
+	}
+
+	/**
+	 * Sets the self-test poll interval of {@link #configuration}, effective from the next self-test
+	 *
+	 * @param selfTestPollInterval interval between two self-test result reads in milliseconds
+	 */
+	public void setSelfTestPollInterval(String selfTestPollInterval) {
+		try {
+			long interval = Long.parseLong(selfTestPollInterval.trim());
+			configuration.updateAndGet(current -> current.withSelfTestPollInterval(interval));
+		} catch (Exception e) {
+			logger.error("Error while setting the self-test poll interval " + selfTestPollInterval + ", keeping " + getSelfTestPollInterval() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #metricsPort}
+	 *
+	 * @return value of {@link #metricsPort}
+	 */
+	public String getMetricsPort() {
+		return metricsPort;
+	}
+
+	/**
+	 * Sets {@link #metricsPort} value
+	 *
+	 * @param metricsPort new value of {@link #metricsPort}
+	 */
+	public void setMetricsPort(String metricsPort) {
+		this.metricsPort = metricsPort;
+	}
+
+	/**
+	 * Retrieves {@link #metricsBindAddress}
+	 *
+	 * @return value of {@link #metricsBindAddress}
+	 */
+	public String getMetricsBindAddress() {
+		return metricsBindAddress;
+	}
+
+	/**
+	 * Sets {@link #metricsBindAddress} value
+	 *
+	 * @param metricsBindAddress new value of {@link #metricsBindAddress}
+	 */
+	public void setMetricsBindAddress(String metricsBindAddress) {
+		this.metricsBindAddress = metricsBindAddress;
+	}
+
+	/**
+	 * Retrieves {@link #recordingFile}
+	 *
+	 * @return value of {@link #recordingFile}
+	 */
+	public String getRecordingFile() {
+		return recordingFile;
+	}
+
+	/**
+	 * Sets {@link #recordingFile} value
+	 *
+	 * @param recordingFile new value of {@link #recordingFile}
+	 */
+	public void setRecordingFile(String recordingFile) {
+		this.recordingFile = recordingFile;
+	}
+
+	/**
+	 * Retrieves {@link #replayFile}
+	 *
+	 * @return value of {@link #replayFile}
+	 */
+	public String getReplayFile() {
+		return replayFile;
+	}
+
+	/**
+	 * Sets {@link #replayFile} value
+	 *
+	 * @param replayFile new value of {@link #replayFile}
+	 */
+	public void setReplayFile(String replayFile) {
+		this.replayFile = replayFile;
+	}
+
+	/**
+	 * Retrieves {@link #replayPacing}
+	 *
+	 * @return value of {@link #replayPacing}
+	 */
+	public String getReplayPacing() {
+		return replayPacing;
+	}
+
+	/**
+	 * Sets {@link #replayPacing} value
+	 *
+	 * @param replayPacing new value of {@link #replayPacing}
+	 */
+	public void setReplayPacing(String replayPacing) {
+		this.replayPacing = replayPacing;
+	}
+
+	/**
+	 * Retrieves {@link #frameTransport}
+	 *
+	 * @return value of {@link #frameTransport}
+	 */
+	public String getFrameTransport() {
+		return frameTransport;
+	}
+
+	/**
+	 * Sets {@link #frameTransport} value
+	 *
+	 * @param frameTransport new value of {@link #frameTransport}
+	 */
+	public void setFrameTransport(String frameTransport) {
+		this.frameTransport = frameTransport;
+	}
+
+	/**
+	 * Retrieves {@link #commandRate}
+	 *
+	 * @return value of {@link #commandRate}
+	 */
+	public String getCommandRate() {
+		return commandRate;
+	}
+
+	/**
+	 * Sets {@link #commandRate} value
+	 *
+	 * @param commandRate new value of {@link #commandRate}
+	 */
+	public void setCommandRate(String commandRate) {
+		this.commandRate = commandRate;
+	}
+
+	/**
+	 * Retrieves {@link #commandBurst}
+	 *
+	 * @return value of {@link #commandBurst}
+	 */
+	public String getCommandBurst() {
+		return commandBurst;
+	}
 
 	/**
-	 * isEmergencyDelivery indicates whether it is an emergency delivery.
+	 * Sets {@link #commandBurst} value
+	 *
+	 * @param commandBurst new value of {@link #commandBurst}
 	 */
-	private boolean isEmergencyDelivery;
+	public void setCommandBurst(String commandBurst) {
+		this.commandBurst = commandBurst;
+	}
 
 	/**
-	 * configManagement imported from the user interface
+	 * Retrieves {@link #controlChannel}
+	 *
+	 * @return value of {@link #controlChannel}
 	 */
-	private String configManagement;
+	public String getControlChannel() {
+		return controlChannel;
+	}
 
 	/**
-	 * configManagement in boolean value
+	 * Sets {@link #controlChannel} value
+	 *
+	 * @param controlChannel new value of {@link #controlChannel}
 	 */
-	private boolean isConfigManagement;
+	public void setControlChannel(String controlChannel) {
+		this.controlChannel = controlChannel;
+	}
 
 	/**
-	 * the getMultipleStatistics interval if it's fail to send the cmd
+	 * Retrieves {@link #outletSchedules}
+	 *
+	 * @return value of {@link #outletSchedules}
 	 */
-	private static final int controlSSHTimeout = 3000;
+	public String getOutletSchedules() {
+		return outletSchedules;
+	}
+
 	/**
-	 * Set back to default timeout value in {@link SshCommunicator}
+	 * Sets {@link #outletSchedules} value
+	 *
+	 * @param outletSchedules new value of {@link #outletSchedules}
 	 */
-	private static final int statisticsSSHTimeout = 30000;
+	public void setOutletSchedules(String outletSchedules) {
+		this.outletSchedules = outletSchedules;
+	}
 
 	/**
-	 * Retrieves {@link #historicalProperties}
+	 * Retrieves {@link #outletScheduleStateFile}
 	 *
-	 * @return value of {@link #historicalProperties}
+	 * @return value of {@link #outletScheduleStateFile}
 	 */
-	public String getHistoricalProperties() {
-		return String.join(",", this.historicalProperties);
+	public String getOutletScheduleStateFile() {
+		return outletScheduleStateFile;
 	}
 
 	/**
-	 * Sets {@link #historicalProperties} value
+	 * Sets {@link #outletScheduleStateFile} value
 	 *
-	 * @param historicalProperties new value of {@link #historicalProperties}
+	 * @param outletScheduleStateFile new value of {@link #outletScheduleStateFile}
 	 */
-	public void setHistoricalProperties(String historicalProperties) {
-		this.historicalProperties.clear();
-		Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
-			this.historicalProperties.add(propertyName.trim());
-		});
+	public void setOutletScheduleStateFile(String outletScheduleStateFile) {
+		this.outletScheduleStateFile = outletScheduleStateFile;
 	}
 
 	/**
-	 * Retrieves {@link #configManagement}
+	 * Retrieves {@link #loadSheddingOutlets}
 	 *
-	 * @return value of {@link #configManagement}
+	 * @return value of {@link #loadSheddingOutlets}
 	 */
-	public String getConfigManagement() {
-		return configManagement;
+	public String getLoadSheddingOutlets() {
+		return loadSheddingOutlets;
 	}
 
 	/**
-	 * Sets {@link #configManagement} value
+	 * Sets {@link #loadSheddingOutlets} value
 	 *
-	 * @param configManagement new value of {@link #configManagement}
+	 * @param loadSheddingOutlets new value of {@link #loadSheddingOutlets}
 	 */
-	public void setConfigManagement(String configManagement) {
-		this.configManagement = configManagement;
+	public void setLoadSheddingOutlets(String loadSheddingOutlets) {
+		this.loadSheddingOutlets = loadSheddingOutlets;
+	}
+
+	/**
+	 * Retrieves {@link #loadSheddingRemainingTime}
+	 *
+	 * @return value of {@link #loadSheddingRemainingTime}
+	 */
+	public String getLoadSheddingRemainingTime() {
+		return loadSheddingRemainingTime;
+	}
+
+	/**
+	 * Sets {@link #loadSheddingRemainingTime} value
+	 *
+	 * @param loadSheddingRemainingTime new value of {@link #loadSheddingRemainingTime}
+	 */
+	public void setLoadSheddingRemainingTime(String loadSheddingRemainingTime) {
+		this.loadSheddingRemainingTime = loadSheddingRemainingTime;
+	}
+
+	/**
+	 * Retrieves {@link #loadSheddingCapacity}
+	 *
+	 * @return value of {@link #loadSheddingCapacity}
+	 */
+	public String getLoadSheddingCapacity() {
+		return loadSheddingCapacity;
+	}
+
+	/**
+	 * Sets {@link #loadSheddingCapacity} value
+	 *
+	 * @param loadSheddingCapacity new value of {@link #loadSheddingCapacity}
+	 */
+	public void setLoadSheddingCapacity(String loadSheddingCapacity) {
+		this.loadSheddingCapacity = loadSheddingCapacity;
+	}
+
+	/**
+	 * Retrieves {@link #loadSheddingRestoreDelay}
+	 *
+	 * @return value of {@link #loadSheddingRestoreDelay}
+	 */
+	public String getLoadSheddingRestoreDelay() {
+		return loadSheddingRestoreDelay;
+	}
+
+	/**
+	 * Sets {@link #loadSheddingRestoreDelay} value
+	 *
+	 * @param loadSheddingRestoreDelay new value of {@link #loadSheddingRestoreDelay}
+	 */
+	public void setLoadSheddingRestoreDelay(String loadSheddingRestoreDelay) {
+		this.loadSheddingRestoreDelay = loadSheddingRestoreDelay;
+	}
+
+	/**
+	 * Retrieves {@link #aggregateWindows}
+	 *
+	 * @return value of {@link #aggregateWindows}
+	 */
+	public String getAggregateWindows() {
+		return aggregateWindows;
+	}
+
+	/**
+	 * Sets {@link #aggregateWindows} value
+	 *
+	 * @param aggregateWindows new value of {@link #aggregateWindows}
+	 */
+	public void setAggregateWindows(String aggregateWindows) {
+		this.aggregateWindows = aggregateWindows;
+	}
+
+	/**
+	 * Retrieves {@link #energyAccounting}
+	 *
+	 * @return value of {@link #energyAccounting}
+	 */
+	public String getEnergyAccounting() {
+		return energyAccounting;
+	}
+
+	/**
+	 * Sets {@link #energyAccounting} value
+	 *
+	 * @param energyAccounting new value of {@link #energyAccounting}
+	 */
+	public void setEnergyAccounting(String energyAccounting) {
+		this.energyAccounting = energyAccounting;
+	}
+
+	/**
+	 * Retrieves {@link #energyCheckpointFile}
+	 *
+	 * @return value of {@link #energyCheckpointFile}
+	 */
+	public String getEnergyCheckpointFile() {
+		return energyCheckpointFile;
+	}
+
+	/**
+	 * Sets {@link #energyCheckpointFile} value
+	 *
+	 * @param energyCheckpointFile new value of {@link #energyCheckpointFile}
+	 */
+	public void setEnergyCheckpointFile(String energyCheckpointFile) {
+		this.energyCheckpointFile = energyCheckpointFile;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotFile}
+	 *
+	 * @return value of {@link #snapshotFile}
+	 */
+	public String getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * Sets {@link #snapshotFile} value
+	 *
+	 * @param snapshotFile new value of {@link #snapshotFile}
+	 */
+	public void setSnapshotFile(String snapshotFile) {
+		this.snapshotFile = snapshotFile;
+	}
+
+	/**
+	 * Retrieves {@link #frameHistorySize}
+	 *
+	 * @return value of {@link #frameHistorySize}
+	 */
+	public String getFrameHistorySize() {
+		return frameHistorySize;
+	}
+
+	/**
+	 * Sets {@link #frameHistorySize} value
+	 *
+	 * @param frameHistorySize new value of {@link #frameHistorySize}
+	 */
+	public void setFrameHistorySize(String frameHistorySize) {
+		this.frameHistorySize = frameHistorySize;
+	}
+
+	/**
+	 * Retrieves {@link #frameHistoryDumpThreshold}
+	 *
+	 * @return value of {@link #frameHistoryDumpThreshold}
+	 */
+	public String getFrameHistoryDumpThreshold() {
+		return frameHistoryDumpThreshold;
+	}
+
+	/**
+	 * Sets {@link #frameHistoryDumpThreshold} value
+	 *
+	 * @param frameHistoryDumpThreshold new value of {@link #frameHistoryDumpThreshold}
+	 */
+	public void setFrameHistoryDumpThreshold(String frameHistoryDumpThreshold) {
+		this.frameHistoryDumpThreshold = frameHistoryDumpThreshold;
+	}
+
+	/**
+	 * Retrieves {@link #outletVerificationInterval}
+	 *
+	 * @return value of {@link #outletVerificationInterval}
+	 */
+	public String getOutletVerificationInterval() {
+		return outletVerificationInterval;
+	}
+
+	/**
+	 * Sets {@link #outletVerificationInterval} value
+	 *
+	 * @param outletVerificationInterval new value of {@link #outletVerificationInterval}
+	 */
+	public void setOutletVerificationInterval(String outletVerificationInterval) {
+		this.outletVerificationInterval = outletVerificationInterval;
+	}
+
+	/**
+	 * Retrieves {@link #sessionLeaseDirectory}
+	 *
+	 * @return value of {@link #sessionLeaseDirectory}
+	 */
+	public String getSessionLeaseDirectory() {
+		return sessionLeaseDirectory;
+	}
+
+	/**
+	 * Sets {@link #sessionLeaseDirectory} value
+	 *
+	 * @param sessionLeaseDirectory new value of {@link #sessionLeaseDirectory}
+	 */
+	public void setSessionLeaseDirectory(String sessionLeaseDirectory) {
+		this.sessionLeaseDirectory = sessionLeaseDirectory;
+	}
+
+	/**
+	 * Makes the adapter take turns on the device session through a custom lease, such as one shared by cooperating nodes,
+	 * instead of the lock file lease of {@link #sessionLeaseDirectory}. Takes effect on the next {@link #internalInit()}.
+	 *
+	 * @param sessionLease the lease, null to go back to {@link #sessionLeaseDirectory}
+	 */
+	public void useSessionLease(SessionLease sessionLease) {
+		this.providedSessionLease = sessionLease;
 	}
 
 	/**
@@ -229,36 +1177,93 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
+		if (warmingUp.get() && isStaleSnapshot && localExtendedStatistics.get() != null) {
+			return Collections.singletonList(copySnapshot(localExtendedStatistics.get()));
+		}
+		return pollStatistics();
+	}
+
+	/**
+	 * Runs a monitoring cycle and publishes its statistics
+	 *
+	 * @return the statistics of the cycle
+	 * @throws Exception if the device can not be polled
+	 */
+	private List<Statistics> pollStatistics() throws Exception {
+		long callStart = System.nanoTime();
+		long allocatedAtStart = AdapterMetrics.currentThreadAllocatedBytes();
+		AdapterEvents.CycleRecording cycleRecording = AdapterEvents.beginCycle(this.host);
+		AdapterConfiguration cycleConfiguration = configuration.get();
+		boolean isPublished = false;
 		reentrantLock.lock();
+		long lockedAt = System.nanoTime();
+		adapterMetrics.recordLockWait(lockedAt - callStart);
+		cycleParseNanos = 0;
 		try {
 			this.timeout = controlSSHTimeout;
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
 			Map<String, String> stats = new HashMap<>();
 			Map<String, String> dynamic = new HashMap<>();
 			Map<String, String> controlStats = new HashMap<>();
 			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-			if (!isEmergencyDelivery) {
-				convertConfigManagement();
-				failedMonitor.clear();
-				retrieveMonitoringData();
-				if (failedMonitor.size() == UPSMonitoringCommand.values().length) {
-					throw new ResourceNotReachableException("Get monitoring data failed, " + failedMonitor.get(INPUT_STATE.getCommand()));
-				}
-				populateMonitoringAndControllingData(stats, controlStats, dynamic, advancedControllableProperties);
-				if (isConfigManagement) {
-					extendedStatistics.setControllableProperties(advancedControllableProperties);
-					stats.putAll(controlStats);
-				}
-				extendedStatistics.setDynamicStatistics(dynamic);
-				extendedStatistics.setStatistics(stats);
-				localExtendedStatistics = extendedStatistics;
+			failedMonitor.clear();
+			acquireSessionLease();
+			applyMonitoringGroups(cycleConfiguration);
+			pendingWriteOverlay.beginPoll(localCacheMapOfPropertyNameAndValue);
+			try {
+				retrieveMonitoringData(cycleConfiguration);
+			} finally {
+				pendingWriteOverlay.endPoll(localCacheMapOfPropertyNameAndValue, System.nanoTime());
+			}
+			if (failedMonitor.size() == cycleConfiguration.getMonitoringCommands().size()) {
+				throw new ResourceNotReachableException("Get monitoring data failed, " + failedMonitor.get(cycleConfiguration.getMonitoringCommands().get(0).getCommand()));
+			}
+			updateBatteryRuntimeEstimate();
+			updateWindowedAggregates();
+			updateEnergyAccumulator();
+			LoadSheddingPolicy.Decision loadSheddingDecision = evaluateLoadSheddingPolicy(cycleConfiguration);
+			populateMonitoringAndControllingData(cycleConfiguration, stats, controlStats, dynamic, advancedControllableProperties);
+			populateCommandRateLimiterData(stats);
+			populateControlChannelData(stats);
+			populateOutletScheduleData(stats);
+			populateLoadSheddingData(stats);
+			populateOutletVerificationData(stats);
+			populateWindowedAggregateData(cycleConfiguration, stats);
+			populateEnergyData(stats);
+			populateAdapterMetricsData(stats);
+			populateFrameHistoryData(stats, controlStats, advancedControllableProperties);
+			long publishedTime = System.currentTimeMillis();
+			if (warmStartFile != null) {
+				populateSnapshotData(stats, false, publishedTime);
+			}
+			if (cycleConfiguration.isConfigManagement()) {
+				stats.putAll(controlStats);
+			} else {
+				advancedControllableProperties = null;
+			}
+			Map<String, String> telemetry = Collections.unmodifiableMap(new HashMap<>(localCacheMapOfPropertyNameAndValue));
+			localTelemetry.set(telemetry);
+			localExtendedStatistics.set(createSnapshot(stats, dynamic, advancedControllableProperties));
+			isStaleSnapshot = false;
+			isPublished = true;
+			SnapshotFile snapshotWriter = warmStartFile;
+			if (snapshotWriter != null) {
+				scheduler.execute(() -> snapshotWriter.write(telemetry, publishedTime));
+			}
+			if (loadSheddingDecision != null && !loadSheddingDecision.getOutlets().isEmpty()) {
+				scheduler.execute(() -> runLoadSheddingDecision(loadSheddingDecision));
 			}
-			isEmergencyDelivery = false;
 		} finally {
+			long callEnd = System.nanoTime();
+			long allocatedAtEnd = AdapterMetrics.currentThreadAllocatedBytes();
+			adapterMetrics.recordCycle(callEnd - callStart, cycleParseNanos,
+					allocatedAtStart == AdapterMetrics.UNKNOWN ? AdapterMetrics.UNKNOWN : allocatedAtEnd - allocatedAtStart, failedMonitor.size());
+			adapterMetrics.recordLockHold(callEnd - lockedAt);
+			checkFrameHistoryDumpThreshold(failedMonitor.size());
 			reentrantLock.unlock();
 			this.timeout = statisticsSSHTimeout;
+			cycleRecording.complete(cycleConfiguration.getMonitoringCommands().size(), failedMonitor.size(), isPublished);
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		return Collections.singletonList(copySnapshot(localExtendedStatistics.get()));
 	}
 
 	/**
@@ -266,15 +1271,28 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
+		if ((UPSConstant.DIAGNOSTICS_GROUP + UPSConstant.DUMP_FRAME_HISTORY).equals(controllableProperty.getProperty())) {
+			logFrameHistory("on demand");
+			return;
+		}
+		boolean isSharedChannel = controlTransport == null;
+		ReentrantLock lock = isSharedChannel ? reentrantLock : controlLock;
+		AdapterEvents.ControlRecording controlRecording = AdapterEvents.beginControl(this.host, controllableProperty.getProperty(), String.valueOf(controllableProperty.getValue()));
+		boolean isControlled = false;
+		long callStart = System.nanoTime();
+		lock.lock();
+		long lockedAt = System.nanoTime();
+		if (isSharedChannel) {
+			adapterMetrics.recordLockWait(lockedAt - callStart);
+		}
 		try {
-			this.timeout = controlSSHTimeout;
-			if (localExtendedStatistics == null) {
+			if (isSharedChannel) {
+				this.timeout = controlSSHTimeout;
+			}
+			ExtendedStatistics currentSnapshot = localExtendedStatistics.get();
+			if (currentSnapshot == null) {
 				return;
 			}
-			isEmergencyDelivery = true;
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
 			String value = String.valueOf(controllableProperty.getValue());
 			String property = controllableProperty.getProperty();
 
@@ -295,6 +1313,7 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 				case OUTLET_STATUS_8:
 					sendCommandChangeOutletStatus(propertyKey, value);
 					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, property, value);
+					outletVerifier.expect(Integer.parseInt(propertyKey.replace(UPSConstant.OUTLET, UPSConstant.EMPTY)), value);
 					break;
 				case OUTLET_CYCLE_1:
 				case OUTLET_CYCLE_2:
@@ -304,14 +1323,26 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 				case OUTLET_CYCLE_6:
 				case OUTLET_CYCLE_7:
 				case OUTLET_CYCLE_8:
+					String outletNumber = propertyKey.replace(UPSConstant.CYCLE_OUTLET, UPSConstant.EMPTY);
+					String outletState = getCachedOrPendingValue(UPSConstant.OUTLET_CONTROL_GROUP + UPSConstant.OUTLET + outletNumber);
 					sendCycleCommand(propertyKey);
+					if (!(UPSConstant.NUMBER_ONE.equals(outletState) || UPSConstant.ZERO.equals(outletState))
+							|| !outletVerifier.expectCycle(Integer.parseInt(outletNumber), outletState, outletCycleDelay)) {
+						logger.warn("Outlet" + outletNumber + " cycle is not verified: the outlet state is unknown or the verification interval is not shorter than the "
+								+ outletCycleDelay + "ms cycle");
+					}
+					break;
+				case SELF_TEST:
+					sendSelfTestCommand(propertyKey);
+					publishSelfTestResult(SelfTestResultEnum.TEST_IN_PROGRESS.getValue());
+					selfTestTracker.track();
 					break;
 				case NEXT_REPLACEMENT_DATE:
 					if (!isDateValid(value)) {
 						throw new IllegalArgumentException("The input is invalid");
 					}
-					String lastDate = localCacheMapOfPropertyNameAndValue.get(UPSConstant.BATTERY_STATUS_GROUP + LAST_REPLACEMENT_DATE.getName());
-					String nextDate = convertDateFormat(value, UPSConstant.UI_FORMAT_DATE, UPSConstant.COMMAND_FORMAT_DATE);
+					String lastDate = getCachedOrPendingValue(UPSConstant.BATTERY_STATUS_GROUP + LAST_REPLACEMENT_DATE.getName());
+					String nextDate = convertUIDateToCommandDate(value);
 					sendReplacementDateCommand(propertyKey, lastDate, nextDate);
 					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, property, nextDate);
 					break;
@@ -319,18 +1350,25 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 					if (!isDateValid(value)) {
 						throw new IllegalArgumentException("The input is invalid");
 					}
-					nextDate = localCacheMapOfPropertyNameAndValue.get(UPSConstant.BATTERY_STATUS_GROUP + NEXT_REPLACEMENT_DATE.getName());
-					lastDate = convertDateFormat(value, UPSConstant.UI_FORMAT_DATE, UPSConstant.COMMAND_FORMAT_DATE);
+					nextDate = getCachedOrPendingValue(UPSConstant.BATTERY_STATUS_GROUP + NEXT_REPLACEMENT_DATE.getName());
+					lastDate = convertUIDateToCommandDate(value);
 					sendReplacementDateCommand(propertyKey, lastDate, nextDate);
 					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, property, lastDate);
 					break;
 				default:
 					logger.debug(String.format("Property name %s doesn't support", propertyKey));
 			}
-			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+			localExtendedStatistics.updateAndGet(snapshot -> snapshot == null ? null : updateValueForTheControllableProperty(property, value, snapshot));
+			isControlled = true;
 		} finally {
-			reentrantLock.unlock();
-			this.timeout = statisticsSSHTimeout;
+			if (isSharedChannel) {
+				adapterMetrics.recordLockHold(System.nanoTime() - lockedAt);
+			}
+			lock.unlock();
+			if (isSharedChannel) {
+				this.timeout = statisticsSSHTimeout;
+			}
+			controlRecording.complete(isControlled);
 		}
 	}
 
@@ -397,26 +1435,285 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 		}
 	}
 
+	/**
+	 * Retrieves the statistics without blocking the caller, see {@link #submitAsync(Callable, long)}
+	 *
+	 * @param timeoutMillis time after which the future fails with a {@link TimeoutException}, 0 or less for no timeout
+	 * @return a future of the statistics
+	 */
+	public CompletableFuture<List<Statistics>> getMultipleStatisticsAsync(long timeoutMillis) {
+		return submitAsync(this::getMultipleStatistics, timeoutMillis);
+	}
+
+	/**
+	 * Controls a property without blocking the caller, see {@link #submitAsync(Callable, long)}
+	 *
+	 * @param controllableProperty the property to control
+	 * @param timeoutMillis time after which the future fails with a {@link TimeoutException}, 0 or less for no timeout
+	 * @return a future completed once the control is done
+	 */
+	public CompletableFuture<Void> controlPropertyAsync(ControllableProperty controllableProperty, long timeoutMillis) {
+		return submitAsync(() -> {
+			controlProperty(controllableProperty);
+			return null;
+		}, timeoutMillis);
+	}
+
+	/**
+	 * Controls several properties without blocking the caller, see {@link #submitAsync(Callable, long)}
+	 *
+	 * @param controllableProperties the properties to control
+	 * @param timeoutMillis time after which the future fails with a {@link TimeoutException}, 0 or less for no timeout
+	 * @return a future completed once all the controls are done
+	 */
+	public CompletableFuture<Void> controlPropertiesAsync(List<ControllableProperty> controllableProperties, long timeoutMillis) {
+		return submitAsync(() -> {
+			controlProperties(controllableProperties);
+			return null;
+		}, timeoutMillis);
+	}
+
+	/**
+	 * Pings the device without blocking the caller, see {@link #submitAsync(Callable, long)}
+	 *
+	 * @param timeoutMillis time after which the future fails with a {@link TimeoutException}, 0 or less for no timeout
+	 * @return a future of the ping latency in milliseconds
+	 */
+	public CompletableFuture<Integer> pingAsync(long timeoutMillis) {
+		return submitAsync(this::ping, timeoutMillis);
+	}
+
+	/**
+	 * Runs a blocking call on {@link #asyncExecutor} and returns its outcome as a future, so a single caller thread can
+	 * drive many devices at once. Calls of one adapter run one at a time, in submission order.
+	 * <ul>
+	 * <li>When more than {@link #asyncCallQueueCapacity} calls are waiting, the future fails with a
+	 * {@link RejectedExecutionException}.</li>
+	 * <li>When the timeout expires first, the future fails with a {@link TimeoutException}; the timeout is tracked on
+	 * {@link #asyncTimeoutScheduler}, to the millisecond.</li>
+	 * <li>Cancelling the future, or its timeout, drops the call if it did not start yet and interrupts it otherwise; only
+	 * the thread of {@link #asyncExecutor} is ever interrupted.</li>
+	 * <li>Destroying the adapter fails the futures that are not completed yet with a {@link CancellationException}.</li>
+	 * </ul>
+	 * Timeouts complete the future on the timeout scheduler thread, so dependent stages doing real work should use the async
+	 * variants of {@link CompletableFuture}.
+	 *
+	 * @param call the blocking call
+	 * @param timeoutMillis time after which the future fails with a {@link TimeoutException}, 0 or less for no timeout
+	 * @param <T> type of the result
+	 * @return a future of the result of the call
+	 */
+	private <T> CompletableFuture<T> submitAsync(Callable<T> call, long timeoutMillis) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		ThreadPoolExecutor executor = asyncExecutor;
+		ScheduledExecutorService timeoutScheduler = asyncTimeoutScheduler;
+		if (executor == null || timeoutScheduler == null) {
+			result.completeExceptionally(new IllegalStateException("Cannot use device class without calling init() first"));
+			return result;
+		}
+		Future<?> task;
+		try {
+			task = executor.submit(() -> {
+				if (result.isDone()) {
+					return;
+				}
+				try {
+					result.complete(call.call());
+				} catch (Throwable e) {
+					result.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+			return result;
+		}
+		pendingCalls.add(result);
+		ScheduledFuture<?> timeout = null;
+		if (timeoutMillis > 0) {
+			try {
+				timeout = timeoutScheduler.schedule(() -> result.completeExceptionally(new TimeoutException("The call did not complete within " + timeoutMillis + " ms")),
+						timeoutMillis, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				result.completeExceptionally(e);
+			}
+		}
+		ScheduledFuture<?> scheduledTimeout = timeout;
+		result.whenComplete((value, error) -> {
+			pendingCalls.remove(result);
+			if (scheduledTimeout != null) {
+				scheduledTimeout.cancel(false);
+			}
+			if (error != null) {
+				task.cancel(true);
+			}
+		});
+		return result;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	protected boolean doneReading(String command, String response) throws CommandFailureException {
-		if (response.replaceAll("\u0000", UPSConstant.EMPTY).equals(command)) {
+		if (frameCompletionDetector.isComplete(command, response)) {
 			return true;
 		}
-		return super.doneReading(command, response);
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
+		return super.doneReading(command, response);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		super.internalInit();
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "nexsys-scheduler-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		asyncExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(asyncCallQueueCapacity), runnable -> {
+			Thread thread = new Thread(runnable, "nexsys-async-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		asyncTimeoutScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "nexsys-async-timeout-" + this.host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		asyncTimeoutScheduler.setRemoveOnCancelPolicy(true);
+		selfTestTracker = new SelfTestTracker(scheduler, this::readSelfTestResult, this::publishSelfTestResult, () -> configuration.get().getSelfTestPollInterval(),
+				selfTestTrackingTimeout, selfTestStartGracePeriod);
+		long verificationInterval = defaultOutletVerificationInterval;
+		if (StringUtils.isNotNullOrEmpty(outletVerificationInterval)) {
+			try {
+				verificationInterval = Long.parseLong(outletVerificationInterval.trim());
+				if (verificationInterval <= 0) {
+					throw new IllegalArgumentException("The outlet verification interval must be positive");
+				}
+			} catch (Exception e) {
+				verificationInterval = defaultOutletVerificationInterval;
+				logger.error("Error while parsing the outlet verification interval " + outletVerificationInterval + ", using " + verificationInterval + "ms: " + e.getMessage(), e);
+			}
+		}
+		long outletVerificationIntervalMillis = verificationInterval;
+		outletVerifier = new OutletVerifier(scheduler, () -> readMonitoringValue(UPSMonitoringCommand.ALL_OUTLETS), this::onOutletVerificationFailed,
+				() -> outletVerificationIntervalMillis, outletVerificationTimeout);
+		if (StringUtils.isNotNullOrEmpty(outletSchedules)) {
+			try {
+				File stateFile = StringUtils.isNotNullOrEmpty(outletScheduleStateFile) ? new File(outletScheduleStateFile.trim()) : null;
+				outletScheduler = new OutletScheduler(TimingWheel.shared(), scheduler, this::executeOutletAction, stateFile, OutletScheduler.parse(outletSchedules, UPSConstant.OUTLET_COUNT));
+				outletScheduler.start();
+			} catch (Exception e) {
+				outletScheduler = null;
+				logger.error("Error while starting the outlet schedules " + outletSchedules + ": " + e.getMessage(), e);
+			}
+		}
+		if (StringUtils.isNotNullOrEmpty(replayFile)) {
+			try {
+				frameReplayer = new FrameReplayer(new File(replayFile.trim()), UPSConstant.TRUE.equalsIgnoreCase(replayPacing));
+			} catch (Exception e) {
+				frameReplayer = null;
+				logger.error("Error while opening the replay file " + replayFile + ": " + e.getMessage(), e);
+			}
+		} else if (UPSConstant.TRUE.equalsIgnoreCase(frameTransport)) {
+			sshFrameTransport = new SshFrameTransport(this.host, this.getPort(), this.getLogin(), this.getPassword(), this.getLoginSuccessList(), this.getLoginErrorList());
+			if (StringUtils.isNotNullOrEmpty(recordingFile)) {
+				logger.error("The recording file " + recordingFile + " is ignored: exchanges are only recorded on the shell channel, disable frameTransport to record them");
+			}
+		} else if (StringUtils.isNotNullOrEmpty(recordingFile)) {
+			try {
+				frameRecorder = new FrameRecorder(new File(recordingFile.trim()));
+			} catch (Exception e) {
+				logger.error("Error while opening the recording file " + recordingFile + ": " + e.getMessage(), e);
+			}
+		}
+		boolean isSessionLeaseConfigured = providedSessionLease != null || StringUtils.isNotNullOrEmpty(sessionLeaseDirectory);
+		if (frameReplayer == null && UPSConstant.TRUE.equalsIgnoreCase(controlChannel) && isSessionLeaseConfigured) {
+			logger.error("The dedicated control channel is ignored: it needs a second login, which a session lease does not allow");
+		} else if (frameReplayer == null && UPSConstant.TRUE.equalsIgnoreCase(controlChannel)) {
+			controlTransport = new SshFrameTransport(this.host, this.getPort(), this.getLogin(), this.getPassword(), this.getLoginSuccessList(), this.getLoginErrorList());
+		}
+		if (frameReplayer == null) {
+			if (providedSessionLease != null) {
+				sessionLease = providedSessionLease;
+			} else if (StringUtils.isNotNullOrEmpty(sessionLeaseDirectory)) {
+				try {
+					sessionLease = new FileSessionLease(new File(sessionLeaseDirectory.trim()), this.host);
+				} catch (Exception e) {
+					sessionLease = null;
+					logger.error("Error while creating the session lease in " + sessionLeaseDirectory + ": " + e.getMessage(), e);
+				}
+			}
+			if (sessionLease != null) {
+				scheduler.scheduleWithFixedDelay(this::releaseIdleSessionLease, sessionLeaseIdleTime / 2, sessionLeaseIdleTime / 2, TimeUnit.MILLISECONDS);
+			}
+		}
+		if (UPSConstant.TRUE.equalsIgnoreCase(energyAccounting)) {
+			File checkpointFile = StringUtils.isNotNullOrEmpty(energyCheckpointFile) ? new File(energyCheckpointFile.trim()) : null;
+			energyAccumulator = new EnergyAccumulator(checkpointFile, ZoneId.systemDefault());
+			energyAccumulator.load();
+		}
+		if (StringUtils.isNotNullOrEmpty(aggregateWindows)) {
+			try {
+				int[] windows = Arrays.stream(aggregateWindows.split(UPSConstant.COMMA)).map(String::trim).filter(window -> !window.isEmpty())
+						.mapToInt(Integer::parseInt).toArray();
+				if (windows.length == 0 || Arrays.stream(windows).anyMatch(window -> window <= 0)) {
+					throw new IllegalArgumentException("The aggregate windows must be positive numbers of minutes");
+				}
+				windowedAggregator = new WindowedAggregator(windows, aggregatedProperties);
+			} catch (Exception e) {
+				windowedAggregator = null;
+				logger.error("Error while creating the aggregate windows " + aggregateWindows + ": " + e.getMessage(), e);
+			}
+		}
+		if (StringUtils.isNotNullOrEmpty(loadSheddingOutlets)) {
+			try {
+				loadSheddingPolicy = createLoadSheddingPolicy();
+			} catch (Exception e) {
+				loadSheddingPolicy = null;
+				logger.error("Error while creating the load shedding policy for outlets " + loadSheddingOutlets + ": " + e.getMessage(), e);
+			}
+		}
+		if (StringUtils.isNotNullOrEmpty(commandRate)) {
+			try {
+				int burst = StringUtils.isNotNullOrEmpty(commandBurst) ? Integer.parseInt(commandBurst.trim()) : 1;
+				commandRateLimiter = new CommandRateLimiter(Double.parseDouble(commandRate.trim()), burst, () -> reentrantLock.getQueueLength() + controlLock.getQueueLength());
+			} catch (Exception e) {
+				commandRateLimiter = null;
+				logger.error("Error while creating the command rate limiter with rate " + commandRate + " and burst " + commandBurst + ": " + e.getMessage(), e);
+			}
+		}
+		if (StringUtils.isNotNullOrEmpty(metricsPort)) {
+			try {
+				String bindAddress = StringUtils.isNotNullOrEmpty(metricsBindAddress) ? metricsBindAddress.trim() : "127.0.0.1";
+				openMetricsExporter = new OpenMetricsExporter(this.host, localTelemetry::get);
+				openMetricsExporter.start(bindAddress, Integer.parseInt(metricsPort.trim()));
+			} catch (Exception e) {
+				openMetricsExporter = null;
+				logger.error("Error while starting the OpenMetrics endpoint on " + metricsBindAddress + ":" + metricsPort + ": " + e.getMessage(), e);
+			}
+		}
+		if (StringUtils.isNotNullOrEmpty(frameHistorySize)) {
+			try {
+				frameHistory = new FrameRingBuffer(Integer.parseInt(frameHistorySize.trim()));
+			} catch (Exception e) {
+				frameHistory = null;
+				logger.error("Error while creating the frame history of size " + frameHistorySize + ": " + e.getMessage(), e);
+			}
+		}
+		if (StringUtils.isNotNullOrEmpty(snapshotFile)) {
+			warmStartFile = new SnapshotFile(new File(snapshotFile.trim()));
+			SnapshotFile.Snapshot snapshot = warmStartFile.read();
+			if (snapshot != null) {
+				publishStaleSnapshot(snapshot);
+				scheduler.execute(this::refreshStaleSnapshot);
+			}
 		}
-		super.internalInit();
 	}
 
 	/**
@@ -424,33 +1721,97 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 */
 	@Override
 	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
+		if (outletScheduler != null) {
+			outletScheduler.stop();
+			outletScheduler = null;
+		}
+		if (scheduler != null) {
+			selfTestTracker.cancel();
+			outletVerifier.cancel();
+			scheduler.shutdownNow();
+			scheduler = null;
 		}
+		if (asyncExecutor != null) {
+			asyncExecutor.shutdownNow();
+			asyncExecutor = null;
+		}
+		if (asyncTimeoutScheduler != null) {
+			asyncTimeoutScheduler.shutdownNow();
+			asyncTimeoutScheduler = null;
+		}
+		for (CompletableFuture<?> pendingCall : pendingCalls) {
+			pendingCall.completeExceptionally(new CancellationException("The adapter was destroyed"));
+		}
+		if (openMetricsExporter != null) {
+			openMetricsExporter.stop();
+			openMetricsExporter = null;
+		}
+		if (frameRecorder != null) {
+			try {
+				frameRecorder.close();
+			} catch (Exception e) {
+				logger.error("Error while closing the recording file: " + e.getMessage(), e);
+			}
+			frameRecorder = null;
+		}
+		frameReplayer = null;
+		frameHistory = null;
+		frameHistoryDumps.set(0);
+		isFrameHistoryDumpArmed = true;
+		commandRateLimiter = null;
+		loadSheddingPolicy = null;
+		windowedAggregator = null;
+		deadbandFilter.clear();
+		if (energyAccumulator != null) {
+			energyAccumulator.save();
+			energyAccumulator = null;
+		}
+		if (sshFrameTransport != null) {
+			sshFrameTransport.close();
+			sshFrameTransport = null;
+		}
+		if (controlTransport != null) {
+			controlTransport.close();
+			controlTransport = null;
+		}
+		localExtendedStatistics.set(null);
+		localTelemetry.set(null);
+		warmStartFile = null;
+		isStaleSnapshot = false;
+		warmingUp.set(false);
 		if (!localCacheMapOfPropertyNameAndValue.isEmpty()) {
 			localCacheMapOfPropertyNameAndValue.clear();
 		}
-		isEmergencyDelivery = false;
-		isConfigManagement = false;
+		pendingWriteOverlay.clear();
+		appliedConfigurationVersion = -1;
+		loadSheddingSuspendedVersion = -1;
+		batteryRuntimeEstimator.reset();
 		failedMonitor.clear();
 		this.destroyChannel();
+		if (sessionLease != null) {
+			sessionLease.release();
+			sessionLease = null;
+		}
 		super.internalDestroy();
 	}
 
 	/**
 	 * Populates monitoring and controlling data for a UPS (Uninterruptible Power Supply) system.
 	 *
+	 * @param cycleConfiguration The configuration of the current monitoring cycle.
 	 * @param stats A map to store monitoring statistics.
 	 * @param controlStats A map to store controlling statistics.
 	 * @param dynamic A map to store dynamic data.
 	 * @param advancedControllableProperties A list to store advanced controllable properties.
 	 */
-	private void populateMonitoringAndControllingData(Map<String, String> stats, Map<String, String> controlStats, Map<String, String> dynamic,
+	private void populateMonitoringAndControllingData(AdapterConfiguration cycleConfiguration, Map<String, String> stats, Map<String, String> controlStats, Map<String, String> dynamic,
 			List<AdvancedControllableProperty> advancedControllableProperties) {
 		String value;
 		String propertyName;
 		for (UPSPropertiesList property : UPSPropertiesList.values()) {
+			if (!cycleConfiguration.isMonitoringGroupEnabled(MonitoringGroupEnum.getByProperty(property))) {
+				continue;
+			}
 			propertyName = property.getGroup().concat(property.getName());
 			value = getDefaultValueForNullData(localCacheMapOfPropertyNameAndValue.get(propertyName));
 			switch (property) {
@@ -458,19 +1819,19 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 				case OUTPUT_LOAD:
 				case OUTPUT_POWER:
 				case CAPACITY:
-					mapDynamicStatistic(propertyName, value, stats, dynamic);
+					mapDynamicStatistic(cycleConfiguration, propertyName, value, stats, dynamic);
 					break;
 				case INPUT_CURRENT:
 				case OUTPUT_CURRENT:
-					value = String.valueOf(UPSConstant.ZERO.equals(value) ? value : Double.parseDouble(value) / 10);
-					mapDynamicStatistic(propertyName, value, stats, dynamic);
+					value = UPSValueFormatter.scale(property, value);
+					mapDynamicStatistic(cycleConfiguration, propertyName, value, stats, dynamic);
 					break;
 				case INPUT_FREQUENCY:
 				case INPUT_VOLTAGE:
 				case OUTPUT_FREQUENCY:
 				case OUTPUT_VOLTAGE:
 				case BATTERY_VOLTAGE:
-					value = String.valueOf(UPSConstant.ZERO.equals(value) ? value : Double.parseDouble(value) / 10);
+					value = UPSValueFormatter.scale(property, value);
 					stats.put(propertyName, value);
 					break;
 				case SOURCE:
@@ -488,12 +1849,24 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 				case LAST_SELF_TEST_RESULTS:
 					stats.put(propertyName, EnumTypeHandler.getNameByValue(SelfTestResultEnum.class, value));
 					break;
+				case SELF_TEST:
+					addAdvancedControlProperties(advancedControllableProperties, controlStats, createButton(propertyName, UPSConstant.START, UPSConstant.STARTING, UPSConstant.GRACE_PERIOD), value);
+					break;
 				case REMAINING_TIME:
 					stats.put(propertyName, convertTime(value));
 					break;
+				case ESTIMATED_REMAINING_TIME:
+					stats.put(propertyName, convertEstimatedTime(batteryRuntimeEstimator.getEstimate()));
+					break;
+				case ESTIMATED_REMAINING_TIME_LOW:
+					stats.put(propertyName, convertEstimatedTime(batteryRuntimeEstimator.getLower()));
+					break;
+				case ESTIMATED_REMAINING_TIME_HIGH:
+					stats.put(propertyName, convertEstimatedTime(batteryRuntimeEstimator.getUpper()));
+					break;
 				case LAST_REPLACEMENT_DATE:
 				case NEXT_REPLACEMENT_DATE:
-					value = convertDateFormat(value, UPSConstant.COMMAND_FORMAT_DATE, UPSConstant.UI_FORMAT_DATE);
+					value = convertCommandDateToUIDate(value);
 					addAdvancedControlProperties(advancedControllableProperties, controlStats, createText(propertyName, value), value);
 					break;
 				case OUTLET_STATUS_1:
@@ -529,83 +1902,661 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	}
 
 	/**
-	 * Retrieves monitoring data from the UPS (Uninterruptible Power Supply) system by sending a series of commands and
-	 * updates the local cache with the received data.
+	 * Populates the queue depth and throttle counters of {@link #commandRateLimiter}, if command pacing is enabled. The queue
+	 * depth is read while the monitoring cycle holds {@link #reentrantLock}, so it counts the callers queued behind it.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateCommandRateLimiterData(Map<String, String> stats) {
+		if (commandRateLimiter == null) {
+			return;
+		}
+		stats.put(UPSConstant.COMMAND_RATE_LIMITER_GROUP + UPSConstant.QUEUE_DEPTH, String.valueOf(commandRateLimiter.getQueueDepth()));
+		stats.put(UPSConstant.COMMAND_RATE_LIMITER_GROUP + UPSConstant.MAX_QUEUE_DEPTH, String.valueOf(commandRateLimiter.getMaxQueueDepth()));
+		stats.put(UPSConstant.COMMAND_RATE_LIMITER_GROUP + UPSConstant.THROTTLED_COMMANDS, String.valueOf(commandRateLimiter.getThrottledCommands()));
+		stats.put(UPSConstant.COMMAND_RATE_LIMITER_GROUP + UPSConstant.THROTTLED_TIME, String.valueOf(commandRateLimiter.getThrottledMillis()));
+	}
+
+	/**
+	 * Populates whether control commands use the dedicated control channel or the shared channel, if the dedicated
+	 * control channel is enabled.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateControlChannelData(Map<String, String> stats) {
+		if (!UPSConstant.TRUE.equalsIgnoreCase(controlChannel) || frameReplayer != null) {
+			return;
+		}
+		stats.put(UPSConstant.CONTROL_CHANNEL_GROUP + UPSConstant.MODE, controlTransport != null ? UPSConstant.DEDICATED : UPSConstant.SHARED);
+	}
+
+	/**
+	 * Populates the definition, next fire time and last outcome of every scheduled outlet action.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateOutletScheduleData(Map<String, String> stats) {
+		if (outletScheduler == null) {
+			return;
+		}
+		List<OutletSchedule> schedules = outletScheduler.getSchedules();
+		for (int i = 0; i < schedules.size(); i++) {
+			OutletSchedule schedule = schedules.get(i);
+			String group = UPSConstant.OUTLET_SCHEDULE_GROUP + (i + 1) + UPSConstant.HASH;
+			stats.put(group + UPSConstant.DEFINITION, schedule.getDefinition());
+			stats.put(group + UPSConstant.NEXT_FIRE_TIME, UPSValueFormatter.formatTimestamp(schedule.getNextFireTime()));
+			stats.put(group + UPSConstant.LAST_FIRE_TIME, UPSValueFormatter.formatTimestamp(schedule.getLastFireTime()));
+			stats.put(group + UPSConstant.LAST_RESULT, getDefaultValueForNullData(schedule.getLastResult()));
+		}
+	}
+
+	/**
+	 * Runs a scheduled outlet action through {@link #controlProperty(ControllableProperty)}, like a control from the user interface.
+	 *
+	 * @param outlet The outlet number, starting at 1.
+	 * @param action The action to run.
+	 * @throws IllegalStateException If the device has not been polled yet.
+	 * @throws Exception If the control fails.
+	 */
+	private void executeOutletAction(int outlet, OutletActionEnum action) throws Exception {
+		if (localExtendedStatistics.get() == null) {
+			throw new IllegalStateException("The device has not been polled yet");
+		}
+		ControllableProperty controllableProperty = new ControllableProperty();
+		switch (action) {
+			case ON:
+				controllableProperty.setProperty(UPSConstant.OUTLET_CONTROL_GROUP + UPSConstant.OUTLET + outlet);
+				controllableProperty.setValue(UPSConstant.NUMBER_ONE);
+				break;
+			case OFF:
+				controllableProperty.setProperty(UPSConstant.OUTLET_CONTROL_GROUP + UPSConstant.OUTLET + outlet);
+				controllableProperty.setValue(UPSConstant.ZERO);
+				break;
+			case CYCLE:
+				controllableProperty.setProperty(UPSConstant.OUTLET_CONTROL_GROUP + UPSConstant.CYCLE_OUTLET + outlet);
+				controllableProperty.setValue(UPSConstant.NUMBER_ONE);
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported outlet action: " + action);
+		}
+		controlProperty(controllableProperty);
+	}
+
+	/**
+	 * Populates the rolling min, max, average and standard deviation of every aggregated property of an enabled monitoring group, if aggregates are enabled.
+	 *
+	 * @param cycleConfiguration the configuration of the current monitoring cycle
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateWindowedAggregateData(AdapterConfiguration cycleConfiguration, Map<String, String> stats) {
+		if (windowedAggregator == null) {
+			return;
+		}
+		int[] windowMinutes = windowedAggregator.getWindowMinutes();
+		for (UPSPropertiesList property : aggregatedProperties) {
+			if (!cycleConfiguration.isMonitoringGroupEnabled(MonitoringGroupEnum.getByProperty(property))) {
+				continue;
+			}
+			String prefix = property.getGroup() + property.getName();
+			for (int i = 0; i < windowMinutes.length; i++) {
+				SlidingWindowAggregate aggregate = windowedAggregator.getAggregate(property, i);
+				String suffix = windowMinutes[i] + UPSConstant.MINUTE_SUFFIX;
+				stats.put(prefix + UPSConstant.MIN + suffix, UPSValueFormatter.formatAggregate(aggregate.getMin()));
+				stats.put(prefix + UPSConstant.MAX + suffix, UPSValueFormatter.formatAggregate(aggregate.getMax()));
+				stats.put(prefix + UPSConstant.AVG + suffix, UPSValueFormatter.formatAggregate(aggregate.getMean()));
+				stats.put(prefix + UPSConstant.STD_DEV + suffix, UPSValueFormatter.formatAggregate(aggregate.getStandardDeviation()));
+			}
+		}
+	}
+
+	/**
+	 * Publishes a snapshot rebuilt from the raw values of {@link #warmStartFile}, marked as stale, so statistics are served and
+	 * controls accepted before the first live poll completes. Historical values are published as regular statistics, so
+	 * stale values are not recorded as new historical points.
+	 *
+	 * @param snapshot the snapshot read from {@link #warmStartFile}
+	 */
+	private void publishStaleSnapshot(SnapshotFile.Snapshot snapshot) {
+		reentrantLock.lock();
+		try {
+			localCacheMapOfPropertyNameAndValue.putAll(snapshot.getValues());
+			Map<String, String> stats = new HashMap<>();
+			Map<String, String> dynamic = new HashMap<>();
+			Map<String, String> controlStats = new HashMap<>();
+			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+			AdapterConfiguration cycleConfiguration = configuration.get();
+			populateMonitoringAndControllingData(cycleConfiguration, stats, controlStats, dynamic, advancedControllableProperties);
+			deadbandFilter.clear();
+			stats.putAll(dynamic);
+			populateSnapshotData(stats, true, snapshot.getPublishedTime());
+			if (cycleConfiguration.isConfigManagement()) {
+				stats.putAll(controlStats);
+			} else {
+				advancedControllableProperties = null;
+			}
+			localTelemetry.set(Collections.unmodifiableMap(new HashMap<>(localCacheMapOfPropertyNameAndValue)));
+			localExtendedStatistics.set(createSnapshot(stats, Collections.emptyMap(), advancedControllableProperties));
+			isStaleSnapshot = true;
+		} catch (Exception e) {
+			localCacheMapOfPropertyNameAndValue.clear();
+			logger.error("Error while publishing the snapshot of " + snapshotFile + ": " + e.getMessage(), e);
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Runs the first live poll after a warm start in the background, replacing the stale snapshot once it completes.
+	 * {@link #warmingUp} is set for the duration of the poll, so {@link #getMultipleStatistics()} returns the stale snapshot
+	 * only while this poll runs, not whenever a control happens to hold the lock.
+	 */
+	private void refreshStaleSnapshot() {
+		warmingUp.set(true);
+		try {
+			pollStatistics();
+		} catch (Exception e) {
+			logger.warn("Error while refreshing the stale snapshot, waiting for the next poll: " + e.getMessage(), e);
+		} finally {
+			warmingUp.set(false);
+		}
+	}
+
+	/**
+	 * Populates whether the published snapshot is a stale one loaded at startup, and when its values were retrieved.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 * @param isStale True if the snapshot was loaded from {@link #warmStartFile}.
+	 * @param publishedTime Time the values were retrieved from the device, in epoch milliseconds.
+	 */
+	private void populateSnapshotData(Map<String, String> stats, boolean isStale, long publishedTime) {
+		stats.put(UPSConstant.SNAPSHOT_GROUP + UPSConstant.STALE, isStale ? UPSConstant.TRUE : UPSConstant.FALSE);
+		stats.put(UPSConstant.SNAPSHOT_GROUP + UPSConstant.PUBLISHED_TIME, UPSValueFormatter.formatTimestamp(publishedTime));
+	}
+
+	/**
+	 * Populates the measurements of the adapter itself. Lock and cycle values are those of the last completed call, since
+	 * the current call is still holding the lock while its statistics are built; failed commands are those of the previous
+	 * monitoring cycle.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateAdapterMetricsData(Map<String, String> stats) {
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.LOCK_WAIT, UPSValueFormatter.formatNanosAsMillis(adapterMetrics.getLockWait()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.MAX_LOCK_WAIT, UPSValueFormatter.formatNanosAsMillis(adapterMetrics.getMaxLockWait()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.LOCK_HOLD, UPSValueFormatter.formatNanosAsMillis(adapterMetrics.getLockHold()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.MAX_LOCK_HOLD, UPSValueFormatter.formatNanosAsMillis(adapterMetrics.getMaxLockHold()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.CYCLE_DURATION, UPSValueFormatter.formatNanosAsMillis(adapterMetrics.getCycleDuration()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.PARSE_DURATION, UPSValueFormatter.formatNanosAsMillis(adapterMetrics.getParseDuration()));
+		long allocatedBytes = adapterMetrics.getAllocatedBytes();
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.ALLOCATED_BYTES, allocatedBytes == AdapterMetrics.UNKNOWN ? UPSConstant.NONE : String.valueOf(allocatedBytes));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.FAILED_COMMANDS, String.valueOf(adapterMetrics.getFailedCommands()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.TOTAL_FAILED_COMMANDS, String.valueOf(adapterMetrics.getTotalFailedCommands()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.PENDING_WRITES, String.valueOf(pendingWriteOverlay.getPendingWrites()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.CONFIRMED_WRITES, String.valueOf(pendingWriteOverlay.getConfirmedWrites()));
+		stats.put(UPSConstant.ADAPTER_METRICS_GROUP + UPSConstant.EXPIRED_WRITES, String.valueOf(pendingWriteOverlay.getExpiredWrites()));
+	}
+
+	/**
+	 * Populates the outlet control verification counters and the last failed verification.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateOutletVerificationData(Map<String, String> stats) {
+		stats.put(UPSConstant.OUTLET_VERIFICATION_GROUP + UPSConstant.PENDING_VERIFICATIONS, String.valueOf(outletVerifier.getPendingVerifications()));
+		stats.put(UPSConstant.OUTLET_VERIFICATION_GROUP + UPSConstant.VERIFIED_CONTROLS, String.valueOf(outletVerifier.getVerifiedControls()));
+		stats.put(UPSConstant.OUTLET_VERIFICATION_GROUP + UPSConstant.FAILED_VERIFICATIONS, String.valueOf(outletVerifier.getFailedVerifications()));
+		stats.put(UPSConstant.OUTLET_VERIFICATION_GROUP + UPSConstant.LAST_FAILURE, getDefaultValueForNullData(outletVerifier.getLastFailure()));
+	}
+
+	/**
+	 * Drops the pending value of an outlet whose control was not confirmed by the device, so the next monitoring cycle
+	 * shows the state the outlet actually reports instead of the requested one.
+	 *
+	 * @param outlet The outlet number, starting at 1.
+	 */
+	private void onOutletVerificationFailed(int outlet) {
+		pendingWriteOverlay.remove(UPSConstant.OUTLET_CONTROL_GROUP + UPSConstant.OUTLET + outlet);
+	}
+
+	/**
+	 * Populates the frame history size and counters, and the button dumping it, if the frame history is enabled.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 * @param controlStats A map to store control statistics.
+	 * @param advancedControllableProperties A list of advanced controllable properties.
+	 */
+	private void populateFrameHistoryData(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		FrameRingBuffer history = frameHistory;
+		if (history == null) {
+			return;
+		}
+		stats.put(UPSConstant.DIAGNOSTICS_GROUP + UPSConstant.FRAME_HISTORY_SIZE, String.valueOf(history.getCapacity()));
+		stats.put(UPSConstant.DIAGNOSTICS_GROUP + UPSConstant.RECORDED_FRAMES, String.valueOf(history.getRecordedFrames()));
+		stats.put(UPSConstant.DIAGNOSTICS_GROUP + UPSConstant.FRAME_HISTORY_DUMPS, String.valueOf(frameHistoryDumps.get()));
+		addAdvancedControlProperties(advancedControllableProperties, controlStats,
+				createButton(UPSConstant.DIAGNOSTICS_GROUP + UPSConstant.DUMP_FRAME_HISTORY, UPSConstant.DUMP, UPSConstant.DUMPING, UPSConstant.GRACE_PERIOD), UPSConstant.EMPTY);
+	}
+
+	/**
+	 * Retrieves the exchanges kept in the frame history, oldest first, one line each.
+	 *
+	 * @return The rendered exchanges, empty if the frame history is disabled.
+	 */
+	public List<String> dumpFrameHistory() {
+		FrameRingBuffer history = frameHistory;
+		return history == null ? Collections.emptyList() : history.dump();
+	}
+
+	/**
+	 * Dumps the frame history to the log once when a monitoring cycle reaches {@link #frameHistoryDumpThreshold} failed
+	 * commands, and arms the dump again once a cycle stays below it, so a device that keeps failing does not flood the log.
+	 * Must be called while holding {@link #reentrantLock}.
+	 *
+	 * @param failedCommands Number of monitoring commands that failed in the cycle.
+	 */
+	private void checkFrameHistoryDumpThreshold(int failedCommands) {
+		if (frameHistory == null) {
+			return;
+		}
+		int threshold;
+		try {
+			threshold = Integer.parseInt(frameHistoryDumpThreshold.trim());
+		} catch (Exception e) {
+			logger.error("Error while parsing the frame history dump threshold " + frameHistoryDumpThreshold + ": " + e.getMessage(), e);
+			return;
+		}
+		if (threshold <= 0 || failedCommands < threshold) {
+			isFrameHistoryDumpArmed = true;
+		} else if (isFrameHistoryDumpArmed) {
+			isFrameHistoryDumpArmed = false;
+			logFrameHistory(failedCommands + " failed commands");
+		}
+	}
+
+	/**
+	 * Writes the frame history to the log at warn level, if it is enabled.
+	 *
+	 * @param reason Why the history is dumped, written in the header line.
+	 */
+	private void logFrameHistory(String reason) {
+		FrameRingBuffer history = frameHistory;
+		if (history == null) {
+			return;
+		}
+		List<String> lines = history.dump();
+		frameHistoryDumps.incrementAndGet();
+		StringBuilder dump = new StringBuilder("Frame history of ").append(this.host).append(" (").append(reason).append("), ").append(lines.size()).append(" exchanges:");
+		for (String line : lines) {
+			dump.append(System.lineSeparator()).append(line);
+		}
+		logger.warn(dump);
+	}
+
+	/**
+	 * Populates the energy counters, if energy accounting is enabled.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateEnergyData(Map<String, String> stats) {
+		if (energyAccumulator == null) {
+			return;
+		}
+		stats.put(UPSConstant.ENERGY_GROUP + UPSConstant.TOTAL_ENERGY, UPSValueFormatter.formatEnergy(energyAccumulator.getTotal()));
+		stats.put(UPSConstant.ENERGY_GROUP + UPSConstant.TOTAL_ENERGY_SINCE, UPSValueFormatter.formatTimestamp(energyAccumulator.getSince()));
+		stats.put(UPSConstant.ENERGY_GROUP + UPSConstant.TODAY_ENERGY, UPSValueFormatter.formatEnergy(energyAccumulator.getCurrentDayEnergy()));
+		stats.put(UPSConstant.ENERGY_GROUP + UPSConstant.YESTERDAY_ENERGY, UPSValueFormatter.formatEnergy(energyAccumulator.getPreviousDayEnergy()));
+		stats.put(UPSConstant.ENERGY_GROUP + UPSConstant.THIS_MONTH_ENERGY, UPSValueFormatter.formatEnergy(energyAccumulator.getCurrentMonthEnergy()));
+		stats.put(UPSConstant.ENERGY_GROUP + UPSConstant.LAST_MONTH_ENERGY, UPSValueFormatter.formatEnergy(energyAccumulator.getPreviousMonthEnergy()));
+	}
+
+	/**
+	 * Feeds the freshly retrieved output power into {@link #energyAccumulator}, stamped with the monotonic clock.
+	 */
+	private void updateEnergyAccumulator() {
+		if (energyAccumulator == null) {
+			return;
+		}
+		String power = localCacheMapOfPropertyNameAndValue.get(UPSPropertiesList.OUTPUT_POWER.getGroup() + UPSPropertiesList.OUTPUT_POWER.getName());
+		energyAccumulator.update(System.nanoTime(), System.currentTimeMillis(), UPSValueFormatter.toNumber(UPSPropertiesList.OUTPUT_POWER, power));
+	}
+
+	/**
+	 * Feeds the freshly retrieved output and battery values into {@link #windowedAggregator}, stamped with the monotonic clock.
+	 * A property without a numeric value only has its old samples expired.
+	 */
+	private void updateWindowedAggregates() {
+		if (windowedAggregator == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		for (UPSPropertiesList property : aggregatedProperties) {
+			double value = UPSValueFormatter.toNumber(property, localCacheMapOfPropertyNameAndValue.get(property.getGroup() + property.getName()));
+			if (Double.isNaN(value)) {
+				windowedAggregator.expire(property, now);
+			} else {
+				windowedAggregator.add(property, now, value);
+			}
+		}
+	}
+
+	/**
+	 * Populates the state of the load shedding policy and the outlets it keeps off, if load shedding is enabled.
+	 *
+	 * @param stats A map to store monitoring statistics.
+	 */
+	private void populateLoadSheddingData(Map<String, String> stats) {
+		if (loadSheddingPolicy == null) {
+			return;
+		}
+		List<Integer> shedOutlets = loadSheddingPolicy.getShedOutlets();
+		stats.put(UPSConstant.LOAD_SHEDDING_GROUP + UPSConstant.STATE, loadSheddingPolicy.getState().getName());
+		stats.put(UPSConstant.LOAD_SHEDDING_GROUP + UPSConstant.SHED_OUTLETS,
+				shedOutlets.isEmpty() ? UPSConstant.NONE : shedOutlets.stream().map(String::valueOf).collect(Collectors.joining(UPSConstant.COMMA)));
+	}
+
+	/**
+	 * Creates the load shedding policy from the load shedding configuration.
+	 *
+	 * @return The load shedding policy.
+	 * @throws IllegalArgumentException If the configuration is invalid, or a monitoring group load shedding relies on is disabled.
+	 */
+	private LoadSheddingPolicy createLoadSheddingPolicy() {
+		AdapterConfiguration currentConfiguration = configuration.get();
+		for (MonitoringGroupEnum monitoringGroup : loadSheddingMonitoringGroups) {
+			if (!currentConfiguration.isMonitoringGroupEnabled(monitoringGroup)) {
+				throw new IllegalArgumentException("Load shedding needs the " + monitoringGroup.getName() + " monitoring group, which is disabled");
+			}
+		}
+		List<Integer> outlets = new ArrayList<>();
+		for (String outlet : loadSheddingOutlets.split(UPSConstant.COMMA)) {
+			int number = Integer.parseInt(outlet.trim());
+			if (number < 1 || number > UPSConstant.OUTLET_COUNT) {
+				throw new IllegalArgumentException("The outlet must be between 1 and " + UPSConstant.OUTLET_COUNT + ": " + number);
+			}
+			outlets.add(number);
+		}
+		int remainingTime = StringUtils.isNotNullOrEmpty(loadSheddingRemainingTime) ? Integer.parseInt(loadSheddingRemainingTime.trim()) : LoadSheddingPolicy.UNSET;
+		int capacity = StringUtils.isNotNullOrEmpty(loadSheddingCapacity) ? Integer.parseInt(loadSheddingCapacity.trim()) : LoadSheddingPolicy.UNSET;
+		long restoreDelay = StringUtils.isNotNullOrEmpty(loadSheddingRestoreDelay) ? Long.parseLong(loadSheddingRestoreDelay.trim()) * 1000 : defaultLoadSheddingRestoreDelay;
+		return new LoadSheddingPolicy(outlets, remainingTime, capacity, restoreDelay);
+	}
+
+	/**
+	 * Feeds the freshly retrieved source, remaining time, capacity and outlet states to the load shedding policy. The policy
+	 * is not fed while a monitoring group it relies on is disabled, since the values it would read are no longer refreshed.
+	 *
+	 * @param cycleConfiguration The configuration of the current monitoring cycle.
+	 * @return The outlets to switch, or null if load shedding is disabled.
+	 */
+	private LoadSheddingPolicy.Decision evaluateLoadSheddingPolicy(AdapterConfiguration cycleConfiguration) {
+		if (loadSheddingPolicy == null) {
+			return null;
+		}
+		for (MonitoringGroupEnum monitoringGroup : loadSheddingMonitoringGroups) {
+			if (!cycleConfiguration.isMonitoringGroupEnabled(monitoringGroup)) {
+				if (loadSheddingSuspendedVersion != cycleConfiguration.getVersion()) {
+					loadSheddingSuspendedVersion = cycleConfiguration.getVersion();
+					logger.error("Load shedding is suspended: it needs the " + monitoringGroup.getName() + " monitoring group, which is disabled");
+				}
+				return null;
+			}
+		}
+		String source = localCacheMapOfPropertyNameAndValue.get(UPSPropertiesList.SOURCE.getGroup() + UPSPropertiesList.SOURCE.getName());
+		int remainingTime = parseLoadSheddingValue(localCacheMapOfPropertyNameAndValue.get(UPSConstant.BATTERY_STATUS_GROUP + UPSPropertiesList.REMAINING_TIME.getName()));
+		int capacity = parseLoadSheddingValue(localCacheMapOfPropertyNameAndValue.get(UPSConstant.BATTERY_STATUS_GROUP + UPSPropertiesList.CAPACITY.getName()));
+		Set<Integer> outletsOn = new HashSet<>();
+		for (int i = 1; i <= UPSConstant.OUTLET_COUNT; i++) {
+			if (UPSConstant.NUMBER_ONE.equals(localCacheMapOfPropertyNameAndValue.get(UPSConstant.OUTLET_CONTROL_GROUP + UPSConstant.OUTLET + i))) {
+				outletsOn.add(i);
+			}
+		}
+		return loadSheddingPolicy.evaluate(getPowerSource(source), remainingTime, capacity, outletsOn, System.currentTimeMillis());
+	}
+
+	/**
+	 * Maps a raw output source to the power source of the load shedding policy. Bypass, AVR and ECO sources all run on input
+	 * power; a missing value or a source that says nothing about input power is unknown.
+	 *
+	 * @param source The raw output source.
+	 * @return The power source.
+	 */
+	private LoadSheddingPolicy.PowerSourceEnum getPowerSource(String source) {
+		if (OutputSourceEnum.BATTERY.getValue().equals(source)) {
+			return LoadSheddingPolicy.PowerSourceEnum.BATTERY;
+		}
+		for (OutputSourceEnum lineSource : linePowerSources) {
+			if (lineSource.getValue().equals(source)) {
+				return LoadSheddingPolicy.PowerSourceEnum.LINE;
+			}
+		}
+		return LoadSheddingPolicy.PowerSourceEnum.UNKNOWN;
+	}
+
+	/**
+	 * Parses a raw battery value for the load shedding policy.
+	 *
+	 * @param value The raw value.
+	 * @return The value, or {@link LoadSheddingPolicy#UNSET} if it is missing or not a number.
+	 */
+	private int parseLoadSheddingValue(String value) {
+		try {
+			return value == null ? LoadSheddingPolicy.UNSET : Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return LoadSheddingPolicy.UNSET;
+		}
+	}
+
+	/**
+	 * Turns the outlets of a load shedding decision off or on, one by one in the decided order, and reports the outcome of
+	 * every outlet back to {@link #loadSheddingPolicy}, so an outlet that could not be turned off is not reported as shed.
+	 *
+	 * @param decision The load shedding decision.
+	 */
+	private void runLoadSheddingDecision(LoadSheddingPolicy.Decision decision) {
+		LoadSheddingPolicy policy = loadSheddingPolicy;
+		OutletActionEnum action = decision.isShed() ? OutletActionEnum.OFF : OutletActionEnum.ON;
+		for (Integer outlet : decision.getOutlets()) {
+			boolean isSwitched = false;
+			try {
+				executeOutletAction(outlet, action);
+				isSwitched = true;
+				logger.info(String.format("Load shedding turned outlet %s %s", outlet, action.getName()));
+			} catch (Exception e) {
+				logger.error(String.format("Load shedding could not turn outlet %s %s: %s", outlet, action.getName(), e.getMessage()), e);
+			}
+			if (policy == null) {
+				continue;
+			}
+			if (!decision.isShed()) {
+				if (!isSwitched) {
+					policy.failRestore(outlet);
+				}
+			} else if (isSwitched) {
+				policy.confirmShed(outlet);
+			} else {
+				policy.failShed(outlet);
+			}
+		}
+	}
+
+	/**
+	 * Drops the cached values of the monitoring groups that got disabled since the last cycle, so nothing derived from the
+	 * local cache keeps using values that are no longer refreshed.
+	 *
+	 * @param cycleConfiguration The configuration of the current monitoring cycle.
+	 */
+	private void applyMonitoringGroups(AdapterConfiguration cycleConfiguration) {
+		if (appliedConfigurationVersion == cycleConfiguration.getVersion()) {
+			return;
+		}
+		for (UPSPropertiesList property : UPSPropertiesList.values()) {
+			if (!cycleConfiguration.isMonitoringGroupEnabled(MonitoringGroupEnum.getByProperty(property))) {
+				localCacheMapOfPropertyNameAndValue.remove(property.getGroup() + property.getName());
+			}
+		}
+		appliedConfigurationVersion = cycleConfiguration.getVersion();
+	}
+
+	/**
+	 * Retrieves monitoring data from the UPS (Uninterruptible Power Supply) system by sending the commands of the enabled
+	 * monitoring groups and updates the local cache with the received data.
+	 *
+	 * @param cycleConfiguration The configuration of the current monitoring cycle.
+	 */
+	private void retrieveMonitoringData(AdapterConfiguration cycleConfiguration) throws Exception {
+		if (sshFrameTransport != null) {
+			retrieveMonitoringDataFromFrames(cycleConfiguration);
+			return;
+		}
+		String response;
+		for (UPSMonitoringCommand command : cycleConfiguration.getMonitoringCommands()) {
+			response = sendCommand(command.getCommand());
+			if (UPSConstant.FAIL_RESPONSE.equals(response)) {
+				return;
+			}
+			if (StringUtils.isNotNullOrEmpty(response) && response.length() > UPSConstant.LENGTH_OF_BIT_DATA) {
+				response = response.substring(UPSConstant.LENGTH_OF_BIT_DATA);
+				long parseStart = System.nanoTime();
+				updateLocalCachedValue(command, isFieldCommand(command) ? splitResponseValue(response) : new String[] { response });
+				cycleParseNanos += System.nanoTime() - parseStart;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves monitoring data through {@link #sshFrameTransport}: every answer frame is decoded from bytes straight into
+	 * the local cache values, without building a String for the frame.
+	 *
+	 * @param cycleConfiguration The configuration of the current monitoring cycle.
+	 */
+	private void retrieveMonitoringDataFromFrames(AdapterConfiguration cycleConfiguration) {
+		ByteBuffer frame;
+		for (UPSMonitoringCommand command : cycleConfiguration.getMonitoringCommands()) {
+			frame = sendFrameCommand(command);
+			if (frame == null) {
+				continue;
+			}
+			if (NexsysFrameCodec.isRejected(frame)) {
+				return;
+			}
+			if (NexsysFrameCodec.hasPayload(frame)) {
+				long parseStart = System.nanoTime();
+				updateLocalCachedValue(command, isFieldCommand(command) ? NexsysFrameCodec.decodeFields(frame) : new String[] { NexsysFrameCodec.decodeText(frame) });
+				cycleParseNanos += System.nanoTime() - parseStart;
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the answer of a monitoring command is a list of ';' separated fields or a single value.
+	 *
+	 * @param command The monitoring command.
+	 * @return True if the answer is a list of fields.
 	 */
-	private void retrieveMonitoringData() throws Exception {
-		String response;
-		for (UPSMonitoringCommand command : UPSMonitoringCommand.values()) {
-			response = sendCommand(command.getCommand());
-			if (UPSConstant.FAIL_RESPONSE.equals(response)) {
-				return;
-			}
-			if (StringUtils.isNotNullOrEmpty(response) && response.length() > UPSConstant.LENGTH_OF_BIT_DATA) {
-				response = response.substring(UPSConstant.LENGTH_OF_BIT_DATA);
-				switch (command) {
-					case INPUT_STATE:
-						updateLocalCachedValueWithGroupValue(response, UPSConstant.INPUT_STATUS_GROUP);
-						break;
-					case OUTPUT_STATE:
-						updateLocalCachedValueWithGroupValue(response, UPSConstant.OUTPUT_STATUS_GROUP);
-						break;
-					case BATTERY_STATE:
-						updateLocalCachedValueWithGroupValue(response, UPSConstant.BATTERY_STATUS_GROUP);
-						break;
-					case ALL_OUTLETS:
-						updateOutletStatusLocalCached(response);
-						break;
-					case REPLACEMENT_DATE:
-						String[] values = response.split(";");
-						if (values.length >= 2) {
-							localCacheMapOfPropertyNameAndValue.put(UPSConstant.BATTERY_STATUS_GROUP + LAST_REPLACEMENT_DATE.getName(), getDefaultValueForNullData(values[0]));
-							localCacheMapOfPropertyNameAndValue.put(UPSConstant.BATTERY_STATUS_GROUP + NEXT_REPLACEMENT_DATE.getName(), getDefaultValueForNullData(values[1]));
-						}
-						break;
-					case SELF_TEST_RESULTS:
-						localCacheMapOfPropertyNameAndValue.put(UPSConstant.BATTERY_STATUS_GROUP + SELF_TEST_RESULTS.getName(), response);
-						break;
-					default:
-						localCacheMapOfPropertyNameAndValue.put(command.getName(), response);
-						break;
+	private boolean isFieldCommand(UPSMonitoringCommand command) {
+		switch (command) {
+			case INPUT_STATE:
+			case OUTPUT_STATE:
+			case BATTERY_STATE:
+			case REPLACEMENT_DATE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Updates the local cache with the values answered to a monitoring command.
+	 *
+	 * @param command The monitoring command.
+	 * @param values The answer fields, or the whole answer as a single value, see {@link #isFieldCommand(UPSMonitoringCommand)}.
+	 */
+	private void updateLocalCachedValue(UPSMonitoringCommand command, String[] values) {
+		switch (command) {
+			case INPUT_STATE:
+				updateLocalCachedValueWithGroupValue(values, UPSConstant.INPUT_STATUS_GROUP);
+				break;
+			case OUTPUT_STATE:
+				updateLocalCachedValueWithGroupValue(values, UPSConstant.OUTPUT_STATUS_GROUP);
+				break;
+			case BATTERY_STATE:
+				updateLocalCachedValueWithGroupValue(values, UPSConstant.BATTERY_STATUS_GROUP);
+				break;
+			case ALL_OUTLETS:
+				updateOutletStatusLocalCached(values[0]);
+				break;
+			case REPLACEMENT_DATE:
+				if (values.length >= 2) {
+					localCacheMapOfPropertyNameAndValue.put(UPSConstant.BATTERY_STATUS_GROUP + LAST_REPLACEMENT_DATE.getName(), getDefaultValueForNullData(values[0]));
+					localCacheMapOfPropertyNameAndValue.put(UPSConstant.BATTERY_STATUS_GROUP + NEXT_REPLACEMENT_DATE.getName(), getDefaultValueForNullData(values[1]));
 				}
+				break;
+			case SELF_TEST_RESULTS:
+				localCacheMapOfPropertyNameAndValue.put(UPSConstant.BATTERY_STATUS_GROUP + SELF_TEST_RESULTS.getName(), values[0]);
+				break;
+			default:
+				localCacheMapOfPropertyNameAndValue.put(command.getName(), values[0]);
+				break;
+		}
+	}
+
+	/**
+	 * Feeds the battery telemetry of the current cycle into {@link #batteryRuntimeEstimator}.
+	 * The estimator is reset whenever the output source is not the battery or a value it relies on is missing.
+	 */
+	private void updateBatteryRuntimeEstimate() {
+		String source = localCacheMapOfPropertyNameAndValue.get(UPSPropertiesList.SOURCE.getGroup() + UPSPropertiesList.SOURCE.getName());
+		try {
+			if (!OutputSourceEnum.BATTERY.getValue().equals(source)) {
+				batteryRuntimeEstimator.reset();
+				return;
 			}
+			double capacity = Double.parseDouble(localCacheMapOfPropertyNameAndValue.get(UPSConstant.BATTERY_STATUS_GROUP + UPSPropertiesList.CAPACITY.getName()));
+			double voltage = Double.parseDouble(localCacheMapOfPropertyNameAndValue.get(UPSConstant.BATTERY_STATUS_GROUP + UPSPropertiesList.BATTERY_VOLTAGE.getName())) / 10;
+			long onBatteryTime = Long.parseLong(localCacheMapOfPropertyNameAndValue.get(UPSConstant.BATTERY_STATUS_GROUP + UPSPropertiesList.ON_BATTERY_TIME.getName()));
+			double power = Double.parseDouble(localCacheMapOfPropertyNameAndValue.get(UPSConstant.OUTPUT_STATUS_GROUP + UPSPropertiesList.OUTPUT_POWER.getName()));
+			batteryRuntimeEstimator.update(true, capacity, voltage, onBatteryTime, power);
+		} catch (Exception e) {
+			batteryRuntimeEstimator.reset();
 		}
 	}
 
 	/**
 	 * Maps a dynamic statistic to either the "stats" or "dynamics" map based on certain conditions.
 	 *
+	 * A listed property whose value stays within its deadband is put in the "stats" map until its heartbeat expires.
+	 *
+	 * @param cycleConfiguration The configuration of the current monitoring cycle.
 	 * @param propertyName The name of the property.
 	 * @param value The value of the property.
 	 * @param stats The map for storing monitoring statistics.
 	 * @param dynamics The map for storing dynamic data.
 	 */
-	private void mapDynamicStatistic(String propertyName, String value, Map<String, String> stats, Map<String, String> dynamics) {
-		boolean propertyListed = false;
-		if (!historicalProperties.isEmpty()) {
-			if (propertyName.contains(UPSConstant.HASH)) {
-				propertyListed = historicalProperties.contains(propertyName.split(UPSConstant.HASH)[1]);
+	private void mapDynamicStatistic(AdapterConfiguration cycleConfiguration, String propertyName, String value, Map<String, String> stats, Map<String, String> dynamics) {
+		Set<String> historicalProperties = cycleConfiguration.getHistoricalProperties();
+		String shortName = propertyName.contains(UPSConstant.HASH) ? propertyName.split(UPSConstant.HASH)[1] : propertyName;
+		boolean propertyListed = !historicalProperties.isEmpty() && historicalProperties.contains(shortName);
+		if (propertyListed && StringUtils.isNotNullOrEmpty(value) && !UPSConstant.NONE.equals(value)) {
+			if (deadbandFilter.shouldEmit(propertyName, value, cycleConfiguration.getHistoricalDeadbands().get(shortName),
+					TimeUnit.MILLISECONDS.toNanos(cycleConfiguration.getHistoricalHeartbeat()), System.nanoTime())) {
+				dynamics.put(propertyName, value);
 			} else {
-				propertyListed = historicalProperties.contains(propertyName);
+				stats.put(propertyName, value);
 			}
-		}
-		if (propertyListed && StringUtils.isNotNullOrEmpty(value) && !UPSConstant.NONE.equals(value)) {
-			dynamics.put(propertyName, value);
 		} else {
 			stats.put(propertyName, getDefaultValueForNullData(value));
 		}
 	}
 
 	/**
-	 * Updates the local cache with values from a response string based on a specified group.
+	 * Updates the local cache with values from a response based on a specified group.
 	 *
-	 * @param response The response string containing property values.
+	 * @param values The property values, empty values already replaced by "None".
 	 * @param group The group associated with the properties to update in the local cache.
 	 */
-	private void updateLocalCachedValueWithGroupValue(String response, String group) {
+	private void updateLocalCachedValueWithGroupValue(String[] values, String group) {
 		List<UPSPropertiesList> monitoringProperties = Arrays.stream(UPSPropertiesList.values())
 				.filter(property -> property.getGroup().equals(group)).collect(Collectors.toList());
-		String[] values = splitResponseValue(response);
 		if (values.length >= monitoringProperties.get(monitoringProperties.size() - 1).getBitIndex()) {
 			for (UPSPropertiesList property : monitoringProperties) {
 				if (property.getBitIndex() != -1) {
@@ -660,7 +2611,8 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 * Sends a command to a remote device and optionally retries in case of unauthorized access.
 	 *
 	 * @param command The command to be sent to the remote device.
-	 * @param retryOnUnauthorized If true, the method will retry after a 10-second sleep if an Unauthorized Access (FailedLoginException) occurs.
+	 * @param retryOnUnauthorized If true, the method will retry after a 10-second sleep if an Unauthorized Access (FailedLoginException) occurs,
+	 *        unless a session lease is used, since another adapter instance then never holds the session.
 	 * @return The response from the remote device after sending the command.
 	 * @throws Exception If an exception occurs during the communication with the remote device or if the response is empty or null.
 	 * @throws FailedLoginException If an Unauthorized Access (FailedLoginException) occurs and the retryOnUnauthorized parameter is set to false.
@@ -668,13 +2620,14 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 */
 	private String sendWithRetryOnUnauthorized(String command, boolean retryOnUnauthorized) throws Exception {
 		try {
-			String response = this.send(command + "\r");
+			String response = sendFrame(command + "\r");
 			if (StringUtils.isNullOrEmpty(response)) {
 				throw new IllegalArgumentException("The response is empty or null");
 			}
 			return getResponse(response);
 		} catch (FailedLoginException e) {
-			if (retryOnUnauthorized) {
+			if (retryOnUnauthorized && sessionLease == null) {
+				AdapterEvents.loginRetry(this.host, AdapterEvents.SHELL_CHANNEL, 10000);
 				//Sleep thread 10seconds to clear cached with the connection
 				Thread.sleep(10000);
 				return sendWithRetryOnUnauthorized(command, false);
@@ -692,14 +2645,324 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 * @throws IllegalArgumentException If the response is empty or null.
 	 */
 	private String sendControlCommand(String command) throws Exception {
+		SshFrameTransport transport = controlTransport;
+		if (transport != null) {
+			try {
+				ByteBuffer frame = exchangeControlFrame(transport, NexsysFrameCodec.encodeControl(command, controlChannelBuffer));
+				return NexsysFrameCodec.isRejected(frame) ? UPSConstant.FAIL_RESPONSE : UPSConstant.EMPTY;
+			} catch (FailedLoginException e) {
+				fallBackToSharedChannel(transport, e);
+			} catch (Exception e) {
+				throw new IllegalArgumentException("Error while send control command" + e.getMessage());
+			}
+		}
+		boolean isFallback = !reentrantLock.isHeldByCurrentThread();
+		reentrantLock.lock();
 		try {
-			String response = this.send(command + "\r");
+			if (isFallback) {
+				this.timeout = controlSSHTimeout;
+			}
+			if (sshFrameTransport != null) {
+				ByteBuffer frame = exchangeFrame(NexsysFrameCodec.encodeControl(command, controlFrameBuffer), false);
+				return NexsysFrameCodec.isRejected(frame) ? UPSConstant.FAIL_RESPONSE : UPSConstant.EMPTY;
+			}
+			String response = sendFrame(command + "\r");
 			if (StringUtils.isNullOrEmpty(response)) {
 				throw new IllegalArgumentException("The response is empty or null");
 			}
 			return getResponse(response);
 		} catch (Exception e) {
 			throw new IllegalArgumentException("Error while send control command" + e.getMessage());
+		} finally {
+			if (isFallback) {
+				this.timeout = statisticsSSHTimeout;
+			}
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Exchanges an encoded frame on the dedicated control channel, connecting it first if needed.
+	 *
+	 * @param transport The dedicated control channel.
+	 * @param frame The encoded command frame.
+	 * @return The answer frame, valid until the next exchange.
+	 * @throws FailedLoginException If the device rejects the second login.
+	 * @throws Exception If the frame can not be exchanged.
+	 */
+	private ByteBuffer exchangeControlFrame(SshFrameTransport transport, ByteBuffer frame) throws Exception {
+		try {
+			acquireSessionLease();
+			acquireCommandToken();
+			if (!transport.isConnected()) {
+				transport.connect(controlSSHTimeout);
+			}
+			return exchangeRecorded(transport, AdapterEvents.CONTROL_CHANNEL, frame, controlSSHTimeout);
+		} catch (FailedLoginException e) {
+			throw e;
+		} catch (Exception e) {
+			transport.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Stops using the dedicated control channel after the device rejected its login, later controls use the shared channel.
+	 * The device rejects the second login when it accepts a single session, or while another client holds its other session.
+	 *
+	 * @param transport The dedicated control channel.
+	 * @param e The login failure.
+	 */
+	private void fallBackToSharedChannel(SshFrameTransport transport, FailedLoginException e) {
+		transport.close();
+		if (controlTransport == transport) {
+			controlTransport = null;
+		}
+		logger.warn("The device rejected the dedicated control channel login, falling back to the shared channel: " + e.getMessage());
+	}
+
+	/**
+	 * Sends a monitoring command through {@link #sshFrameTransport} and returns the answer frame.
+	 *
+	 * @param command The monitoring command.
+	 * @return The answer frame, or null if the command failed.
+	 */
+	private ByteBuffer sendFrameCommand(UPSMonitoringCommand command) {
+		try {
+			return exchangeFrame(NexsysFrameCodec.monitoringFrame(command), true);
+		} catch (FailedLoginException e) {
+			return null;
+		} catch (Exception ex) {
+			failedMonitor.put(command.getCommand(), ex.getMessage());
+			logger.error("Error when retrieve command " + ex.getMessage(), ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Exchanges an encoded frame through {@link #sshFrameTransport}, connecting it first if needed, and optionally retries
+	 * in case of unauthorized access like {@link #sendWithRetryOnUnauthorized(String, boolean)}.
+	 *
+	 * @param frame The encoded command frame.
+	 * @param retryOnUnauthorized If true, the method will retry after a 10-second sleep if an Unauthorized Access (FailedLoginException) occurs,
+	 *        unless a session lease is used.
+	 * @return The answer frame, valid until the next exchange.
+	 * @throws FailedLoginException If another connection has accessed the device.
+	 * @throws Exception If the frame can not be exchanged.
+	 */
+	private ByteBuffer exchangeFrame(ByteBuffer frame, boolean retryOnUnauthorized) throws Exception {
+		try {
+			acquireSessionLease();
+			acquireCommandToken();
+			if (!sshFrameTransport.isConnected()) {
+				sshFrameTransport.connect(statisticsSSHTimeout);
+			}
+			return exchangeRecorded(sshFrameTransport, AdapterEvents.FRAME_CHANNEL, frame, this.timeout);
+		} catch (FailedLoginException e) {
+			if (retryOnUnauthorized && sessionLease == null) {
+				AdapterEvents.loginRetry(this.host, AdapterEvents.FRAME_CHANNEL, 10000);
+				//Sleep thread 10seconds to clear cached with the connection
+				Thread.sleep(10000);
+				frame.rewind();
+				return exchangeFrame(frame, false);
+			} else {
+				throw new FailedLoginException("Another connection has accessed the device or " + e.getMessage());
+			}
+		} catch (Exception e) {
+			sshFrameTransport.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Exchanges an encoded frame on a frame transport, recording the exchange as a Flight Recorder event and in
+	 * {@link #frameHistory} when it is enabled.
+	 *
+	 * @param transport The frame transport, connected.
+	 * @param channel The channel name reported in the event.
+	 * @param frame The encoded command frame.
+	 * @param timeout The read timeout in milliseconds.
+	 * @return The answer frame, valid until the next exchange.
+	 * @throws Exception If the frame can not be exchanged.
+	 */
+	private ByteBuffer exchangeRecorded(SshFrameTransport transport, String channel, ByteBuffer frame, int timeout) throws Exception {
+		AdapterEvents.CommandRecording recording = AdapterEvents.beginCommand(this.host, channel);
+		FrameRingBuffer history = frameHistory;
+		if (!recording.isRecording() && history == null) {
+			return transport.exchange(frame, timeout);
+		}
+		String command = recording.isRecording() ? NexsysFrameCodec.decodeCommand(frame) : null;
+		int commandStart = frame.position();
+		int bytesSent = frame.remaining();
+		long startTime = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
+		FrameRecordType type = FrameRecordType.RESPONSE;
+		String error = null;
+		ByteBuffer answer = null;
+		try {
+			answer = transport.exchange(frame, timeout);
+			return answer;
+		} catch (FailedLoginException e) {
+			type = FrameRecordType.FAILED_LOGIN;
+			error = e.getMessage();
+			throw e;
+		} catch (Exception e) {
+			type = FrameRecordType.ERROR;
+			error = e.getMessage();
+			throw e;
+		} finally {
+			recording.complete(command, bytesSent, answer == null ? 0 : answer.remaining(), answer != null);
+			if (history != null) {
+				history.record(startTime, System.nanoTime() - startNanos, type, frame, commandStart, answer, error);
+			}
+		}
+	}
+
+	/**
+	 * Waits for {@link #sessionLease} before an exchange, if a session lease is used, and keeps it from being handed over
+	 * while the session is in use.
+	 *
+	 * @throws ResourceNotReachableException if another adapter instance did not hand the lease over in time
+	 * @throws Exception if the lease can not be acquired
+	 */
+	private void acquireSessionLease() throws Exception {
+		SessionLease lease = sessionLease;
+		if (lease == null) {
+			return;
+		}
+		sessionLeaseLastUse = System.nanoTime();
+		if (!lease.acquire(sessionLeaseWaitTimeout)) {
+			throw new ResourceNotReachableException("Another adapter instance kept the session of " + this.host + " for more than " + sessionLeaseWaitTimeout + "ms");
+		}
+	}
+
+	/**
+	 * Closes the device sessions and hands {@link #sessionLease} over once no exchange needed it for
+	 * {@link #sessionLeaseIdleTime}. Skipped while a monitoring cycle or a control holds the session.
+	 */
+	private void releaseIdleSessionLease() {
+		SessionLease lease = sessionLease;
+		if (lease == null || !lease.isHeld() || System.nanoTime() - sessionLeaseLastUse < TimeUnit.MILLISECONDS.toNanos(sessionLeaseIdleTime)) {
+			return;
+		}
+		if (!reentrantLock.tryLock()) {
+			return;
+		}
+		try {
+			if (!controlLock.tryLock()) {
+				return;
+			}
+			try {
+				if (System.nanoTime() - sessionLeaseLastUse < TimeUnit.MILLISECONDS.toNanos(sessionLeaseIdleTime)) {
+					return;
+				}
+				try {
+					this.disconnect();
+				} catch (Exception e) {
+					logger.error("Error while closing the session before handing the session lease over: " + e.getMessage(), e);
+				}
+				if (sshFrameTransport != null) {
+					sshFrameTransport.close();
+				}
+				SshFrameTransport transport = controlTransport;
+				if (transport != null) {
+					transport.close();
+				}
+				lease.release();
+			} finally {
+				controlLock.unlock();
+			}
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Waits for {@link #commandRateLimiter} to let the next frame go, if command pacing is enabled. Called with the channel
+	 * lock held, so the wait paces the channel while the callers of that channel queue on its lock.
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	private void acquireCommandToken() throws InterruptedException {
+		CommandRateLimiter limiter = commandRateLimiter;
+		if (limiter != null) {
+			limiter.acquire();
+		}
+	}
+
+	/**
+	 * Writes a raw frame to the device and returns the raw answer, before any trimming.
+	 * The answer comes from {@link #frameReplayer} when a replay is configured, and every exchange is written to
+	 * {@link #frameRecorder} when recording is enabled and kept in {@link #frameHistory} when it is enabled.
+	 *
+	 * @param data the raw frame, including the trailing carriage return
+	 * @return the raw response
+	 * @throws Exception if the device or the replay fails to answer
+	 */
+	private String sendFrame(String data) throws Exception {
+		if (frameReplayer != null) {
+			return frameReplayer.send(data);
+		}
+		acquireSessionLease();
+		acquireCommandToken();
+		frameCompletionDetector.reset(data);
+		AdapterEvents.CommandRecording recording = AdapterEvents.beginCommand(this.host, AdapterEvents.SHELL_CHANNEL);
+		FrameRingBuffer history = frameHistory;
+		if (!recording.isRecording() && history == null) {
+			return frameRecorder == null ? this.send(data) : sendAndRecord(data);
+		}
+		long startTime = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
+		FrameRecordType type = FrameRecordType.RESPONSE;
+		String error = null;
+		String response = null;
+		try {
+			response = frameRecorder == null ? this.send(data) : sendAndRecord(data);
+			return response;
+		} catch (FailedLoginException e) {
+			type = FrameRecordType.FAILED_LOGIN;
+			error = e.getMessage();
+			throw e;
+		} catch (Exception e) {
+			type = FrameRecordType.ERROR;
+			error = e.getMessage();
+			throw e;
+		} finally {
+			recording.complete(data.trim(), data.length(), response == null ? 0 : response.length(), response != null);
+			if (history != null) {
+				history.record(startTime, System.nanoTime() - startNanos, type, data, response != null ? response : error);
+			}
+		}
+	}
+
+	/**
+	 * Writes a raw frame to the device and writes the exchange to {@link #frameRecorder}.
+	 *
+	 * @param data the raw frame, including the trailing carriage return
+	 * @return the raw response
+	 * @throws Exception if the device fails to answer
+	 */
+	private String sendAndRecord(String data) throws Exception {
+		long startTime = System.currentTimeMillis();
+		FrameRecordType type = FrameRecordType.RESPONSE;
+		String payload = null;
+		try {
+			payload = this.send(data);
+			return payload;
+		} catch (FailedLoginException e) {
+			type = FrameRecordType.FAILED_LOGIN;
+			payload = e.getMessage();
+			throw e;
+		} catch (Exception e) {
+			type = FrameRecordType.ERROR;
+			payload = e.getMessage();
+			throw e;
+		} finally {
+			try {
+				frameRecorder.record(new FrameRecord(startTime, System.currentTimeMillis() - startTime, type, data, payload));
+			} catch (Exception e) {
+				logger.error("Error while recording command " + data.trim() + ": " + e.getMessage(), e);
+			}
 		}
 	}
 
@@ -761,6 +3024,87 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 		}
 	}
 
+	/**
+	 * Sends the command that starts a battery self-test and handles the response.
+	 *
+	 * @param propertyName The name of the self-test property.
+	 * @throws IllegalArgumentException If an error occurs while sending the self-test command or if the request is rejected.
+	 */
+	private void sendSelfTestCommand(String propertyName) {
+		try {
+			String response = sendControlCommand(UPSControlCommand.SELF_TEST_COMMAND);
+			if (UPSConstant.FAIL_RESPONSE.equals(response)) {
+				throw new IllegalArgumentException("Error when send self-test command. The request is rejected");
+			}
+		} catch (Exception e) {
+			throw new IllegalArgumentException(String.format("Can't control %s. ", propertyName) + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Reads only the self-test result from the device, used by {@link #selfTestTracker} while a self-test is running.
+	 *
+	 * @return The raw self-test result value, or an empty string if the device did not answer.
+	 */
+	private String readSelfTestResult() {
+		return readMonitoringValue(SELF_TEST_RESULTS);
+	}
+
+	/**
+	 * Reads the single value answered to one monitoring command, on {@link #controlTransport} when it is open, used by the
+	 * background readers that must not wait for a full monitoring cycle.
+	 *
+	 * @param command The monitoring command, answered with a single value.
+	 * @return The raw value, or an empty string if the device did not answer.
+	 */
+	private String readMonitoringValue(UPSMonitoringCommand command) {
+		SshFrameTransport transport = controlTransport;
+		if (transport != null) {
+			controlLock.lock();
+			try {
+				ByteBuffer frame = exchangeControlFrame(transport, NexsysFrameCodec.monitoringFrame(command));
+				return NexsysFrameCodec.hasPayload(frame) ? NexsysFrameCodec.decodeText(frame) : UPSConstant.EMPTY;
+			} catch (FailedLoginException e) {
+				fallBackToSharedChannel(transport, e);
+			} catch (Exception e) {
+				logger.error("Error when retrieve " + command.getName() + " " + e.getMessage(), e);
+				return UPSConstant.EMPTY;
+			} finally {
+				controlLock.unlock();
+			}
+		}
+		reentrantLock.lock();
+		try {
+			this.timeout = controlSSHTimeout;
+			if (sshFrameTransport != null) {
+				ByteBuffer frame = exchangeFrame(NexsysFrameCodec.monitoringFrame(command), false);
+				return NexsysFrameCodec.hasPayload(frame) ? NexsysFrameCodec.decodeText(frame) : UPSConstant.EMPTY;
+			}
+			String response = sendWithRetryOnUnauthorized(command.getCommand(), false);
+			if (StringUtils.isNotNullOrEmpty(response) && response.length() > UPSConstant.LENGTH_OF_BIT_DATA) {
+				return response.substring(UPSConstant.LENGTH_OF_BIT_DATA);
+			}
+		} catch (Exception e) {
+			logger.error("Error when retrieve " + command.getName() + " " + e.getMessage(), e);
+		} finally {
+			reentrantLock.unlock();
+			this.timeout = statisticsSSHTimeout;
+		}
+		return UPSConstant.EMPTY;
+	}
+
+	/**
+	 * Stores a self-test result in the local cache and publishes it in a new statistics snapshot.
+	 *
+	 * @param value The raw self-test result value.
+	 */
+	private void publishSelfTestResult(String value) {
+		String propertyName = UPSConstant.BATTERY_STATUS_GROUP + SELF_TEST_RESULTS.getName();
+		localCacheMapOfPropertyNameAndValue.put(propertyName, value);
+		String displayValue = EnumTypeHandler.getNameByValue(SelfTestResultEnum.class, value);
+		localExtendedStatistics.updateAndGet(snapshot -> snapshot == null ? null : updateStatisticValue(propertyName, displayValue, snapshot));
+	}
+
 	/**
 	 * Sends a command to set the replacement date of a specific property and handles the response.
 	 *
@@ -783,16 +3127,29 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	}
 
 	/**
-	 * Update cache device data
+	 * Update cache device data with an acknowledged control value, which keeps masking the device readings in
+	 * {@link #pendingWriteOverlay} until the device reports it or the pending write time to live runs out
 	 *
 	 * @param cacheMapOfPropertyNameAndValue the cacheMapOfPropertyNameAndValue are map key and value of it
 	 * @param property the key is property name
 	 * @param value the value is String value
 	 */
 	private void updateCachedDeviceData(Map<String, String> cacheMapOfPropertyNameAndValue, String property, String value) {
+		pendingWriteOverlay.put(property, value, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(configuration.get().getPendingWriteTtl()));
 		cacheMapOfPropertyNameAndValue.put(property, value);
 	}
 
+	/**
+	 * Retrieves a value of the local cache, or its pending control value while a monitoring cycle has taken it out of the cache
+	 *
+	 * @param propertyName the property name
+	 * @return the value, null if there is none
+	 */
+	private String getCachedOrPendingValue(String propertyName) {
+		String pendingValue = pendingWriteOverlay.get(propertyName);
+		return pendingValue != null ? pendingValue : localCacheMapOfPropertyNameAndValue.get(propertyName);
+	}
+
 	/**
 	 * Splits the input string using a specified regex pattern and replaces empty parts with "None".
 	 *
@@ -814,23 +3171,9 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 *
 	 * @param input The input string to be validated as a date.
 	 * @return True if the input is a valid date; otherwise, false.
-	 * @throws IllegalArgumentException If the input string is not a valid date in the specified format.
 	 */
 	private boolean isDateValid(String input) {
-		String regex = "^(0[1-9]|1[0-2])/(0[1-9]|[1-2][0-9]|3[0-1])/\\d{4}$";
-		Pattern pattern = Pattern.compile(regex);
-		Matcher matcher = pattern.matcher(input);
-		if (matcher.matches()) {
-			DateFormat sdf = new SimpleDateFormat(UPSConstant.UI_FORMAT_DATE);
-			sdf.setLenient(false);
-			try {
-				sdf.parse(input);
-			} catch (ParseException e) {
-				return false;
-			}
-			return true;
-		}
-		return false;
+		return UPSValueFormatter.isUIDateValid(input);
 	}
 
 	/**
@@ -838,24 +3181,10 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	 *
 	 * @param value The time value in minutes to be converted.
 	 * @return A human-readable representation of the time in the format "X hour(s) Y minute(s)" or "0 minute(s)" if the value is zero.
-	 * @throws IllegalArgumentException If the input value cannot be converted to a valid time format.
 	 */
 	private String convertTime(String value) {
 		try {
-			long inputValue = Long.parseLong(value);
-			long hours = inputValue / 60;
-			long minutes = inputValue % 60;
-
-			StringBuilder result = new StringBuilder();
-
-			if (hours > 0) {
-				result.append(hours).append(" hour(s) ");
-			}
-			if (minutes > 0) {
-				result.append(minutes).append(" minute(s) ");
-			}
-
-			return result.length() == 0 ? "0 minute(s)" : result.toString();
+			return UPSValueFormatter.formatRuntime(Long.parseLong(value));
 		} catch (Exception e) {
 			logger.error("Error while formatting date: " + e.getMessage(), e);
 			return UPSConstant.NONE;
@@ -863,24 +3192,48 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	}
 
 	/**
-	 * Converts a date from one date format to another date format.
+	 * Converts an estimated runtime (in seconds) to the same human-readable format as {@link #convertTime(String)}.
+	 *
+	 * @param seconds the estimated runtime in seconds, NaN if there is no estimate
+	 * @return A human-readable representation of the runtime, or "None" if there is no estimate.
+	 */
+	private String convertEstimatedTime(double seconds) {
+		if (Double.isNaN(seconds) || Double.isInfinite(seconds)) {
+			return UPSConstant.NONE;
+		}
+		return UPSValueFormatter.formatRuntime(Math.round(seconds / 60));
+	}
+
+	/**
+	 * Converts a date from the device format (yyyyMMdd) to the user interface format (MM/dd/yyyy).
 	 *
-	 * @param input The input date string to be converted.
-	 * @param inputFormat The format of the input date string.
-	 * @param outputFormat The desired output date format.
-	 * @return The date string converted to the specified output format, or "None" if the input is "None".
-	 * @throws IllegalArgumentException If the input date cannot be converted from the input format to the output format.
+	 * @param input The device date to be converted.
+	 * @return The date string in the user interface format, or "None" if the input is "None" or invalid.
 	 */
-	private String convertDateFormat(String input, String inputFormat, String outputFormat) {
+	private String convertCommandDateToUIDate(String input) {
 		if (UPSConstant.NONE.equals(input)) {
 			return input;
 		}
 		try {
-			SimpleDateFormat inputDateFormat = new SimpleDateFormat(inputFormat);
-			Date date = inputDateFormat.parse(input);
+			return UPSValueFormatter.commandDateToUIDate(input);
+		} catch (Exception e) {
+			logger.error("Error while convert date format: " + e.getMessage(), e);
+			return UPSConstant.NONE;
+		}
+	}
 
-			SimpleDateFormat outputDateFormat = new SimpleDateFormat(outputFormat);
-			return outputDateFormat.format(date);
+	/**
+	 * Converts a date from the user interface format (MM/dd/yyyy) to the device format (yyyyMMdd).
+	 *
+	 * @param input The user interface date to be converted.
+	 * @return The date string in the device format, or "None" if the input is "None" or invalid.
+	 */
+	private String convertUIDateToCommandDate(String input) {
+		if (UPSConstant.NONE.equals(input)) {
+			return input;
+		}
+		try {
+			return UPSValueFormatter.uiDateToCommandDate(input);
 		} catch (Exception e) {
 			logger.error("Error while convert date format: " + e.getMessage(), e);
 			return UPSConstant.NONE;
@@ -897,13 +3250,6 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 		return StringUtils.isNotNullOrEmpty(value) ? value : UPSConstant.NONE;
 	}
 
-	/**
-	 * This method is used to validate input config management from user
-	 */
-	private void convertConfigManagement() {
-		isConfigManagement = StringUtils.isNotNullOrEmpty(this.configManagement) && this.configManagement.equalsIgnoreCase(UPSConstant.TRUE);
-	}
-
 	/**
 	 * Add advancedControllableProperties if advancedControllableProperties different empty
 	 *
@@ -981,23 +3327,101 @@ public class MiddleAtlanticUPSCommunicator extends SshCommunicator implements Mo
 	}
 
 	/**
-	 * Update the value for the control metric
+	 * Update the value for the control metric.
+	 * The current snapshot is left untouched: a new snapshot is returned in which only the statistics map and the changed
+	 * controllable property are copied, every other controllable property is shared with the current snapshot.
+	 *
+	 * @param property is name of the metric
+	 * @param value the value is value of properties
+	 * @param currentSnapshot the snapshot that is currently published
+	 * @return the new snapshot, or the current one if the property is not controllable
+	 */
+	private ExtendedStatistics updateValueForTheControllableProperty(String property, String value, ExtendedStatistics currentSnapshot) {
+		List<AdvancedControllableProperty> advancedControllableProperties = currentSnapshot.getControllableProperties();
+		if (advancedControllableProperties == null || advancedControllableProperties.isEmpty()) {
+			return currentSnapshot;
+		}
+		for (int i = 0; i < advancedControllableProperties.size(); i++) {
+			AdvancedControllableProperty advancedControllableProperty = advancedControllableProperties.get(i);
+			if (advancedControllableProperty.getName().equals(property)) {
+				Map<String, String> stats = new HashMap<>(currentSnapshot.getStatistics());
+				stats.put(property, value);
+				List<AdvancedControllableProperty> controllableProperties = new ArrayList<>(advancedControllableProperties);
+				controllableProperties.set(i, new AdvancedControllableProperty(property, new Date(), advancedControllableProperty.getType(), value));
+				ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+				extendedStatistics.setStatistics(Collections.unmodifiableMap(stats));
+				extendedStatistics.setDynamicStatistics(currentSnapshot.getDynamicStatistics());
+				extendedStatistics.setControllableProperties(Collections.unmodifiableList(controllableProperties));
+				return extendedStatistics;
+			}
+		}
+		return currentSnapshot;
+	}
+
+	/**
+	 * Update the value of a monitoring statistic.
+	 * The current snapshot is left untouched: a new snapshot is returned in which only the statistics map is copied.
 	 *
 	 * @param property is name of the metric
 	 * @param value the value is value of properties
-	 * @param extendedStatistics list statistics property
-	 * @param advancedControllableProperties the advancedControllableProperties is list AdvancedControllableProperties
+	 * @param currentSnapshot the snapshot that is currently published
+	 * @return the new snapshot
+	 */
+	private ExtendedStatistics updateStatisticValue(String property, String value, ExtendedStatistics currentSnapshot) {
+		Map<String, String> stats = new HashMap<>(currentSnapshot.getStatistics());
+		stats.put(property, value);
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(Collections.unmodifiableMap(stats));
+		extendedStatistics.setDynamicStatistics(currentSnapshot.getDynamicStatistics());
+		extendedStatistics.setControllableProperties(currentSnapshot.getControllableProperties());
+		return extendedStatistics;
+	}
+
+	/**
+	 * Copies a published snapshot for a caller of {@link #getMultipleStatistics()}, which may modify the maps, the list and
+	 * the controllable properties it receives; the published snapshot itself stays immutable.
+	 * Every controllable property is copied with its value and timestamp, so setting a value on the copy is not seen by other
+	 * readers. Their types, which only describe the control, are shared and must be treated as read-only.
+	 * Each call therefore costs a copy of the two maps and of about twenty small objects; the snapshot shared between threads
+	 * is still built once per monitoring cycle, not once per reader.
+	 *
+	 * @param snapshot the published snapshot
+	 * @return ExtendedStatistics with modifiable copies of the statistics, dynamic statistics and controllable properties
 	 */
-	private void updateValueForTheControllableProperty(String property, String value, Map<String, String> extendedStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		if (!advancedControllableProperties.isEmpty()) {
+	static ExtendedStatistics copySnapshot(ExtendedStatistics snapshot) {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(new HashMap<>(snapshot.getStatistics()));
+		if (snapshot.getDynamicStatistics() != null) {
+			extendedStatistics.setDynamicStatistics(new HashMap<>(snapshot.getDynamicStatistics()));
+		}
+		List<AdvancedControllableProperty> advancedControllableProperties = snapshot.getControllableProperties();
+		if (advancedControllableProperties != null) {
+			List<AdvancedControllableProperty> controllableProperties = new ArrayList<>(advancedControllableProperties.size());
 			for (AdvancedControllableProperty advancedControllableProperty : advancedControllableProperties) {
-				if (advancedControllableProperty.getName().equals(property)) {
-					extendedStatistics.remove(property);
-					extendedStatistics.put(property, value);
-					advancedControllableProperty.setValue(value);
-					break;
-				}
+				Date timestamp = advancedControllableProperty.getTimestamp();
+				controllableProperties.add(new AdvancedControllableProperty(advancedControllableProperty.getName(), timestamp == null ? null : new Date(timestamp.getTime()),
+						advancedControllableProperty.getType(), advancedControllableProperty.getValue()));
 			}
+			extendedStatistics.setControllableProperties(controllableProperties);
+		}
+		return extendedStatistics;
+	}
+
+	/**
+	 * Wraps the given statistics into an immutable snapshot that can be shared with readers without copying.
+	 *
+	 * @param stats the statistics map
+	 * @param dynamic the dynamic statistics map
+	 * @param advancedControllableProperties the controllable properties, or null if controlling is disabled
+	 * @return ExtendedStatistics snapshot
+	 */
+	private ExtendedStatistics createSnapshot(Map<String, String> stats, Map<String, String> dynamic, List<AdvancedControllableProperty> advancedControllableProperties) {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(Collections.unmodifiableMap(stats));
+		extendedStatistics.setDynamicStatistics(Collections.unmodifiableMap(dynamic));
+		if (advancedControllableProperties != null) {
+			extendedStatistics.setControllableProperties(Collections.unmodifiableList(advancedControllableProperties));
 		}
+		return extendedStatistics;
 	}
 }
@@ -6,7 +6,10 @@ package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 
@@ -18,6 +21,11 @@ import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
  * @since 1.0.0
  */
 public class EnumTypeHandler {
+	/**
+	 * Value to name lookup tables, built once per enum type by {@link #getNameByValue(Class, String)}
+	 */
+	private static final Map<Class<?>, Map<String, String>> NAME_BY_VALUE = new ConcurrentHashMap<>();
+
 	/**
 	 * Get an array of all enum names
 	 *
@@ -68,18 +76,27 @@ public class EnumTypeHandler {
 	 * @return T is metric instance
 	 */
 	public static <T extends Enum<T>> String getNameByValue(Class<T> enumType, String value) {
+		String name = NAME_BY_VALUE.computeIfAbsent(enumType, EnumTypeHandler::buildNameByValue).get(value);
+		return name == null ? UPSConstant.NONE : name;
+	}
+
+	/**
+	 * Build the value to name lookup table of an enum type
+	 *
+	 * @param enumType the enum type is enum class
+	 * @return map of value to name
+	 */
+	private static Map<String, String> buildNameByValue(Class<?> enumType) {
+		Map<String, String> names = new HashMap<>();
 		try {
-			for (T metric : enumType.getEnumConstants()) {
+			for (Object metric : enumType.getEnumConstants()) {
 				Method methodValue = metric.getClass().getMethod("getValue");
-				String valueMetric = methodValue.invoke(metric).toString(); // getName executed
-				if (value.equals(valueMetric)) {
-					Method methodName = metric.getClass().getMethod("getName");
-					return methodName.invoke(metric).toString();
-				}
+				Method methodName = metric.getClass().getMethod("getName");
+				names.putIfAbsent(methodValue.invoke(metric).toString(), methodName.invoke(metric).toString());
 			}
-			return UPSConstant.NONE;
 		} catch (Exception e) {
 			throw new ResourceNotReachableException(e.getMessage(), e);
 		}
+		return names;
 	}
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common;
+
+/**
+ * This enum represents the groups of monitoring data that can be enabled or disabled per deployment.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum MonitoringGroupEnum {
+	INPUT("Input", UPSConstant.INPUT_STATUS_GROUP),
+	OUTPUT("Output", UPSConstant.OUTPUT_STATUS_GROUP),
+	BATTERY("Battery", UPSConstant.BATTERY_STATUS_GROUP),
+	OUTLET("Outlet", UPSConstant.OUTLET_CONTROL_GROUP),
+	DEVICE_INFO("DeviceInfo", UPSConstant.EMPTY),
+	;
+	private final String name;
+	private final String propertyGroup;
+
+	/**
+	 * Creates a new MonitoringGroupEnum with the specified name and property group.
+	 *
+	 * @param name The name of the monitoring group.
+	 * @param propertyGroup The group prefix of the {@link UPSPropertiesList} entries in this monitoring group.
+	 */
+	MonitoringGroupEnum(String name, String propertyGroup) {
+		this.name = name;
+		this.propertyGroup = propertyGroup;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #propertyGroup}
+	 *
+	 * @return value of {@link #propertyGroup}
+	 */
+	public String getPropertyGroup() {
+		return propertyGroup;
+	}
+
+	/**
+	 * Retrieves the monitoring group with the given name, ignoring case.
+	 *
+	 * @param name The name of the monitoring group.
+	 * @return The monitoring group.
+	 * @throws IllegalArgumentException If no monitoring group has this name.
+	 */
+	public static MonitoringGroupEnum getByName(String name) {
+		for (MonitoringGroupEnum group : values()) {
+			if (group.getName().equalsIgnoreCase(name)) {
+				return group;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported monitoring group: " + name);
+	}
+
+	/**
+	 * Retrieves the monitoring group a property belongs to.
+	 *
+	 * @param property The property.
+	 * @return The monitoring group of the property.
+	 */
+	public static MonitoringGroupEnum getByProperty(UPSPropertiesList property) {
+		for (MonitoringGroupEnum group : values()) {
+			if (group.getPropertyGroup().equals(property.getGroup())) {
+				return group;
+			}
+		}
+		return DEVICE_INFO;
+	}
+}
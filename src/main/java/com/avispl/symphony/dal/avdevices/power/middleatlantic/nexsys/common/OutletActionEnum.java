@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common;
+
+/**
+ * This enum represents the actions a scheduled outlet action can run on an outlet.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum OutletActionEnum {
+	ON("On"),
+	OFF("Off"),
+	CYCLE("Cycle"),
+	;
+	private final String name;
+
+	/**
+	 * Creates a new OutletActionEnum with the specified name.
+	 *
+	 * @param name The name of the outlet action.
+	 */
+	OutletActionEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the outlet action with the given name, ignoring case.
+	 *
+	 * @param name The name of the outlet action.
+	 * @return The outlet action.
+	 * @throws IllegalArgumentException If no outlet action has this name.
+	 */
+	public static OutletActionEnum getByName(String name) {
+		for (OutletActionEnum action : values()) {
+			if (action.getName().equalsIgnoreCase(name)) {
+				return action;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported outlet action: " + name);
+	}
+}
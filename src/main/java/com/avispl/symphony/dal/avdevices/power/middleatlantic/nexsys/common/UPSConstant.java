@@ -17,6 +17,66 @@ public class UPSConstant {
 	public static final String OUTPUT_STATUS_GROUP = "OutputStatus#";
 	public static final String OUTLET_CONTROL_GROUP = "OutletControl#";
 	public static final String BATTERY_STATUS_GROUP = "BatteryStatus#";
+	public static final String COMMAND_RATE_LIMITER_GROUP = "CommandRateLimiter#";
+	public static final String OUTLET_SCHEDULE_GROUP = "OutletSchedule";
+	public static final String DEFINITION = "Definition";
+	public static final String NEXT_FIRE_TIME = "NextFireTime";
+	public static final String LAST_FIRE_TIME = "LastFireTime";
+	public static final String LAST_RESULT = "LastResult";
+	public static final String MIN = "Min";
+	public static final String MAX = "Max";
+	public static final String AVG = "Avg";
+	public static final String STD_DEV = "StdDev";
+	public static final String MINUTE_SUFFIX = "m";
+	public static final String ENERGY_GROUP = "Energy#";
+	public static final String TOTAL_ENERGY = "Total(kWh)";
+	public static final String TOTAL_ENERGY_SINCE = "TotalSince";
+	public static final String TODAY_ENERGY = "Today(kWh)";
+	public static final String YESTERDAY_ENERGY = "Yesterday(kWh)";
+	public static final String THIS_MONTH_ENERGY = "ThisMonth(kWh)";
+	public static final String LAST_MONTH_ENERGY = "LastMonth(kWh)";
+	public static final String SNAPSHOT_GROUP = "Snapshot#";
+	public static final String STALE = "Stale";
+	public static final String PUBLISHED_TIME = "PublishedTime";
+	public static final String FALSE = "false";
+	public static final String ADAPTER_METRICS_GROUP = "AdapterMetrics#";
+	public static final String LOCK_WAIT = "LockWait(ms)";
+	public static final String MAX_LOCK_WAIT = "MaxLockWait(ms)";
+	public static final String LOCK_HOLD = "LockHold(ms)";
+	public static final String MAX_LOCK_HOLD = "MaxLockHold(ms)";
+	public static final String CYCLE_DURATION = "CycleDuration(ms)";
+	public static final String PARSE_DURATION = "ParseDuration(ms)";
+	public static final String ALLOCATED_BYTES = "AllocatedBytes";
+	public static final String FAILED_COMMANDS = "FailedCommands";
+	public static final String TOTAL_FAILED_COMMANDS = "TotalFailedCommands";
+	public static final String PENDING_WRITES = "PendingWrites";
+	public static final String CONFIRMED_WRITES = "ConfirmedWrites";
+	public static final String EXPIRED_WRITES = "ExpiredWrites";
+	public static final String DIAGNOSTICS_GROUP = "Diagnostics#";
+	public static final String OUTLET_VERIFICATION_GROUP = "OutletVerification#";
+	public static final String PENDING_VERIFICATIONS = "PendingVerifications";
+	public static final String VERIFIED_CONTROLS = "VerifiedControls";
+	public static final String FAILED_VERIFICATIONS = "FailedVerifications";
+	public static final String LAST_FAILURE = "LastFailure";
+	public static final String FRAME_HISTORY_SIZE = "FrameHistorySize";
+	public static final String RECORDED_FRAMES = "RecordedFrames";
+	public static final String FRAME_HISTORY_DUMPS = "FrameHistoryDumps";
+	public static final String DUMP_FRAME_HISTORY = "DumpFrameHistory";
+	public static final String DUMP = "Dump";
+	public static final String DUMPING = "Dumping";
+	public static final String LOAD_SHEDDING_GROUP = "LoadShedding#";
+	public static final String STATE = "State";
+	public static final String SHED_OUTLETS = "ShedOutlets";
+	public static final String COMMA = ",";
+	public static final String EQUAL = "=";
+	public static final String CONTROL_CHANNEL_GROUP = "ControlChannel#";
+	public static final String MODE = "Mode";
+	public static final String DEDICATED = "Dedicated";
+	public static final String SHARED = "Shared";
+	public static final String QUEUE_DEPTH = "QueueDepth";
+	public static final String MAX_QUEUE_DEPTH = "MaxQueueDepth";
+	public static final String THROTTLED_COMMANDS = "ThrottledCommands";
+	public static final String THROTTLED_TIME = "ThrottledTime(ms)";
 	public static final String EMPTY = "";
 	public static final String NONE = "None";
 	public static final long GRACE_PERIOD = 0;
@@ -31,7 +91,10 @@ public class UPSConstant {
 	public static final String OFF = "Off";
 	public static final String CYCLE = "Cycle";
 	public static final String CYCLING = "Cycling";
+	public static final String START = "Start";
+	public static final String STARTING = "Starting";
 	public static final String FAIL_RESPONSE = "~OOR";
 	public static final String FAIL_LOGIN = "FailLogin";
 	public static final int LENGTH_OF_BIT_DATA = 7;
+	public static final int OUTLET_COUNT = 8;
 }
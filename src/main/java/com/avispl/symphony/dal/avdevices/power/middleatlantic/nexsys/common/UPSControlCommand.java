@@ -16,4 +16,5 @@ public class UPSControlCommand {
 	public static final String TURN_OFF_COMMAND = "~00S006ROF$;2";
 	public static final String OUTLET_CYCLE_COMMAND ="~00S009RSC$;3;10";
 	public static final String REPLACEMENT_DATE_COMMAND = "~00S020BRD$1;$2";
+	public static final String SELF_TEST_COMMAND = "~00S004TST1";
 }
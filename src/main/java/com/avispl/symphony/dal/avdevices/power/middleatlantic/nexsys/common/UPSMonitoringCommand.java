@@ -12,28 +12,31 @@ package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common;
  * @since 1.0.0
  */
 public enum UPSMonitoringCommand {
-	INPUT_STATE("InputState", "~00P003STI"),
-	OUTPUT_STATE("OutputState", "~00P003STO"),
-	BATTERY_STATE("BatteryState", "~00P003STB"),
-	FIRMWARE("FirmwareVersion", "~00P003VER"),
-	NUM_OF_OUTLETS("NumberOfOutlets", "~00P003LET"),
-	ALL_OUTLETS("AllOutlets", "~00P003OL8"),
-	REPLACEMENT_DATE("ReplacementDate", "~00P012BRD"),
-	SERIAL("SerialNumber", "~00P003SER"),
-	SELF_TEST_RESULTS("LastSelfTestResults", "~00P003TSR"),
+	INPUT_STATE("InputState", "~00P003STI", MonitoringGroupEnum.INPUT),
+	OUTPUT_STATE("OutputState", "~00P003STO", MonitoringGroupEnum.OUTPUT),
+	BATTERY_STATE("BatteryState", "~00P003STB", MonitoringGroupEnum.BATTERY),
+	FIRMWARE("FirmwareVersion", "~00P003VER", MonitoringGroupEnum.DEVICE_INFO),
+	NUM_OF_OUTLETS("NumberOfOutlets", "~00P003LET", MonitoringGroupEnum.DEVICE_INFO),
+	ALL_OUTLETS("AllOutlets", "~00P003OL8", MonitoringGroupEnum.OUTLET),
+	REPLACEMENT_DATE("ReplacementDate", "~00P012BRD", MonitoringGroupEnum.BATTERY),
+	SERIAL("SerialNumber", "~00P003SER", MonitoringGroupEnum.DEVICE_INFO),
+	SELF_TEST_RESULTS("LastSelfTestResults", "~00P003TSR", MonitoringGroupEnum.BATTERY),
 	;
 	private final String name;
 	private final String command;
+	private final MonitoringGroupEnum monitoringGroup;
 
 	/**
-	 * Creates a new UPSMonitoringCommand with the specified name and command.
+	 * Creates a new UPSMonitoringCommand with the specified name, command and monitoring group.
 	 *
 	 * @param name The name of the monitoring command.
 	 * @param command The actual command string to be sent to the UPS.
+	 * @param monitoringGroup The monitoring group the answer of the command belongs to.
 	 */
-	UPSMonitoringCommand(String name, String command) {
+	UPSMonitoringCommand(String name, String command, MonitoringGroupEnum monitoringGroup) {
 		this.name = name;
 		this.command = command;
+		this.monitoringGroup = monitoringGroup;
 	}
 
 	/**
@@ -53,4 +56,13 @@ public enum UPSMonitoringCommand {
 	public String getName() {
 		return name;
 	}
+
+	/**
+	 * Retrieves {@link #monitoringGroup}
+	 *
+	 * @return value of {@link #monitoringGroup}
+	 */
+	public MonitoringGroupEnum getMonitoringGroup() {
+		return monitoringGroup;
+	}
 }
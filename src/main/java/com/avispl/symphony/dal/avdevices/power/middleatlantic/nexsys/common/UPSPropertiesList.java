@@ -29,8 +29,12 @@ public enum UPSPropertiesList {
 	OUTPUT_LOAD("Load(%)", UPSConstant.OUTPUT_STATUS_GROUP, 6),
 
 	LAST_SELF_TEST_RESULTS("LastSelfTestResults", UPSConstant.BATTERY_STATUS_GROUP, -1),
+	SELF_TEST("SelfTest", UPSConstant.BATTERY_STATUS_GROUP, -1),
 	LAST_REPLACEMENT_DATE("LastReplacementDate(MM/DD/YYYY)", UPSConstant.BATTERY_STATUS_GROUP, -1),
 	NEXT_REPLACEMENT_DATE("NextReplacementDate(MM/DD/YYYY)", UPSConstant.BATTERY_STATUS_GROUP, -1),
+	ESTIMATED_REMAINING_TIME("EstimatedRemainingTime", UPSConstant.BATTERY_STATUS_GROUP, -1),
+	ESTIMATED_REMAINING_TIME_LOW("EstimatedRemainingTimeLow", UPSConstant.BATTERY_STATUS_GROUP, -1),
+	ESTIMATED_REMAINING_TIME_HIGH("EstimatedRemainingTimeHigh", UPSConstant.BATTERY_STATUS_GROUP, -1),
 	CONDITION("Condition", UPSConstant.BATTERY_STATUS_GROUP, 0),
 	STATUS("Status", UPSConstant.BATTERY_STATUS_GROUP, 1),
 	CHARGE("Charge", UPSConstant.BATTERY_STATUS_GROUP, 2),
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * UPSValueFormatter renders raw device values for display.
+ * Decimal scaling is table driven and done on the digits themselves, dates use precompiled thread-safe formatters and the
+ * runtime strings are cached, so a monitoring cycle does not parse doubles or build formatters, and concurrent pollers
+ * never share a non thread-safe formatter.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class UPSValueFormatter {
+	/**
+	 * Number of implied decimal places of the raw device value, per property
+	 */
+	private static final Map<UPSPropertiesList, Integer> DECIMAL_PLACES = new EnumMap<>(UPSPropertiesList.class);
+
+	static {
+		DECIMAL_PLACES.put(UPSPropertiesList.INPUT_CURRENT, 1);
+		DECIMAL_PLACES.put(UPSPropertiesList.INPUT_FREQUENCY, 1);
+		DECIMAL_PLACES.put(UPSPropertiesList.INPUT_VOLTAGE, 1);
+		DECIMAL_PLACES.put(UPSPropertiesList.OUTPUT_CURRENT, 1);
+		DECIMAL_PLACES.put(UPSPropertiesList.OUTPUT_FREQUENCY, 1);
+		DECIMAL_PLACES.put(UPSPropertiesList.OUTPUT_VOLTAGE, 1);
+		DECIMAL_PLACES.put(UPSPropertiesList.BATTERY_VOLTAGE, 1);
+	}
+
+	private static final Pattern UI_DATE_PATTERN = Pattern.compile("^(0[1-9]|1[0-2])/(0[1-9]|[1-2][0-9]|3[0-1])/\\d{4}$");
+	private static final DateTimeFormatter UI_DATE_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/uuuu").withResolverStyle(ResolverStyle.STRICT);
+	private static final DateTimeFormatter COMMAND_DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd").withResolverStyle(ResolverStyle.STRICT);
+	private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/uuuu HH:mm:ss");
+
+	/**
+	 * Runtime strings are cached up to one day, longer runtimes are rendered on demand
+	 */
+	private static final int CACHED_RUNTIME_MINUTES = 24 * 60;
+	private static final String[] RUNTIME_CACHE = new String[CACHED_RUNTIME_MINUTES + 1];
+
+	private UPSValueFormatter() {
+	}
+
+	/**
+	 * Checks whether a property has implied decimal places
+	 *
+	 * @param property the property
+	 * @return true if the raw value of the property is scaled
+	 */
+	public static boolean isScaled(UPSPropertiesList property) {
+		return DECIMAL_PLACES.containsKey(property);
+	}
+
+	/**
+	 * Inserts the implied decimal point of a raw integer value, "1179" with one decimal place renders as "117.9".
+	 * "0" is kept as is, as it has always been displayed that way.
+	 *
+	 * @param property the property the value belongs to
+	 * @param value the raw integer value
+	 * @return the scaled value, the value itself if the property is not scaled, or "None" if the value is not an integer
+	 */
+	public static String scale(UPSPropertiesList property, String value) {
+		Integer decimalPlaces = DECIMAL_PLACES.get(property);
+		if (decimalPlaces == null || UPSConstant.ZERO.equals(value)) {
+			return value;
+		}
+		int length = value.length();
+		int start = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+		if (length == start) {
+			return UPSConstant.NONE;
+		}
+		for (int i = start; i < length; i++) {
+			char character = value.charAt(i);
+			if (character < '0' || character > '9') {
+				return UPSConstant.NONE;
+			}
+		}
+		while (start < length - 1 && value.charAt(start) == '0') {
+			start++;
+		}
+		int digits = length - start;
+		StringBuilder builder = new StringBuilder(digits + decimalPlaces + 3);
+		if (value.charAt(0) == '-') {
+			builder.append('-');
+		}
+		if (digits <= decimalPlaces) {
+			builder.append("0.");
+			for (int i = digits; i < decimalPlaces; i++) {
+				builder.append('0');
+			}
+			builder.append(value, start, length);
+		} else {
+			builder.append(value, start, length - decimalPlaces).append('.').append(value, length - decimalPlaces, length);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Converts a raw integer value to its numeric value, "1179" with one decimal place is 117.9
+	 *
+	 * @param property the property the value belongs to
+	 * @param value the raw value
+	 * @return the numeric value, NaN if the value is missing or not a number
+	 */
+	public static double toNumber(UPSPropertiesList property, String value) {
+		if (value == null || value.isEmpty() || UPSConstant.NONE.equals(value)) {
+			return Double.NaN;
+		}
+		try {
+			double number = Double.parseDouble(value);
+			Integer decimalPlaces = DECIMAL_PLACES.get(property);
+			return decimalPlaces == null ? number : number / Math.pow(10, decimalPlaces);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Renders an aggregated value with two decimal places
+	 *
+	 * @param value the value
+	 * @return the rendered value, or "None" if the value is NaN
+	 */
+	public static String formatAggregate(double value) {
+		if (Double.isNaN(value)) {
+			return UPSConstant.NONE;
+		}
+		return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).toPlainString();
+	}
+
+	/**
+	 * Renders a duration in nanoseconds as milliseconds with three decimal places
+	 *
+	 * @param nanos the duration in nanoseconds, negative if unknown
+	 * @return the rendered duration, or "None" if the duration is unknown
+	 */
+	public static String formatNanosAsMillis(long nanos) {
+		if (nanos < 0) {
+			return UPSConstant.NONE;
+		}
+		return BigDecimal.valueOf(nanos, 6).setScale(3, RoundingMode.HALF_UP).toPlainString();
+	}
+
+	/**
+	 * Renders an energy value with three decimal places, 1 Wh resolution for values in kWh
+	 *
+	 * @param value the value
+	 * @return the rendered value
+	 */
+	public static String formatEnergy(double value) {
+		return BigDecimal.valueOf(value).setScale(3, RoundingMode.HALF_UP).toPlainString();
+	}
+
+	/**
+	 * Renders a time value in minutes as "X hour(s) Y minute(s)", or "0 minute(s)" if the value is zero.
+	 *
+	 * @param minutes the time in minutes
+	 * @return A human-readable representation of the time
+	 */
+	public static String formatRuntime(long minutes) {
+		if (minutes >= 0 && minutes <= CACHED_RUNTIME_MINUTES) {
+			String cached = RUNTIME_CACHE[(int) minutes];
+			if (cached == null) {
+				cached = buildRuntime(minutes);
+				RUNTIME_CACHE[(int) minutes] = cached;
+			}
+			return cached;
+		}
+		return buildRuntime(minutes);
+	}
+
+	/**
+	 * Checks whether a date entered in the user interface is a valid MM/dd/yyyy date
+	 *
+	 * @param input the date entered in the user interface
+	 * @return true if the date is valid
+	 */
+	public static boolean isUIDateValid(String input) {
+		if (!UI_DATE_PATTERN.matcher(input).matches()) {
+			return false;
+		}
+		try {
+			LocalDate.parse(input, UI_DATE_FORMATTER);
+			return true;
+		} catch (DateTimeParseException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Converts a date from the device format (yyyyMMdd) to the user interface format (MM/dd/yyyy)
+	 *
+	 * @param input the device date
+	 * @return the user interface date
+	 * @throws DateTimeParseException if the input is not a valid device date
+	 */
+	public static String commandDateToUIDate(String input) {
+		return UI_DATE_FORMATTER.format(LocalDate.parse(input, COMMAND_DATE_FORMATTER));
+	}
+
+	/**
+	 * Converts a date from the user interface format (MM/dd/yyyy) to the device format (yyyyMMdd)
+	 *
+	 * @param input the user interface date
+	 * @return the device date
+	 * @throws DateTimeParseException if the input is not a valid user interface date
+	 */
+	public static String uiDateToCommandDate(String input) {
+		return COMMAND_DATE_FORMATTER.format(LocalDate.parse(input, UI_DATE_FORMATTER));
+	}
+
+	/**
+	 * Renders an epoch time in the adapter's time zone as MM/dd/yyyy HH:mm:ss
+	 *
+	 * @param epochMillis the time in epoch milliseconds, 0 if unknown
+	 * @return the rendered time, or "None" if the time is unknown
+	 */
+	public static String formatTimestamp(long epochMillis) {
+		if (epochMillis <= 0) {
+			return UPSConstant.NONE;
+		}
+		return TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()));
+	}
+
+	/**
+	 * Builds the runtime string of {@link #formatRuntime(long)}
+	 *
+	 * @param minutes the time in minutes
+	 * @return A human-readable representation of the time
+	 */
+	private static String buildRuntime(long minutes) {
+		long hours = minutes / 60;
+		long remainder = minutes % 60;
+		StringBuilder result = new StringBuilder(32);
+		if (hours > 0) {
+			result.append(hours).append(" hour(s) ");
+		}
+		if (remainder > 0) {
+			result.append(remainder).append(" minute(s) ");
+		}
+		return result.length() == 0 ? "0 minute(s)" : result.toString();
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.MonitoringGroupEnum;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSConstant;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSMonitoringCommand;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics.Deadband;
+
+/**
+ * AdapterConfiguration is an immutable, versioned view of the settings the adapter reads while it runs.
+ * Settings are parsed once when they are set; every change produces a new instance with the next version, which the
+ * adapter swaps in atomically, so a monitoring cycle reads one consistent configuration from start to end and a change
+ * takes effect on the next cycle without reconnecting.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class AdapterConfiguration {
+	/**
+	 * Configuration before any setting is applied
+	 */
+	public static final AdapterConfiguration DEFAULT = new AdapterConfiguration(0, Collections.emptySet(), null, 2000,
+			Collections.unmodifiableSet(EnumSet.allOf(MonitoringGroupEnum.class)), Collections.emptyMap(), 300000, 60000);
+
+	private final long version;
+	private final Set<String> historicalProperties;
+	private final String configManagement;
+	private final boolean isConfigManagement;
+	private final long selfTestPollInterval;
+	private final Set<MonitoringGroupEnum> monitoringGroups;
+	private final List<UPSMonitoringCommand> monitoringCommands;
+	private final Map<String, Deadband> historicalDeadbands;
+	private final long historicalHeartbeat;
+	private final long pendingWriteTtl;
+
+	/**
+	 * Creates a new AdapterConfiguration
+	 *
+	 * @param version configuration version
+	 * @param historicalProperties names of the properties published as historical
+	 * @param configManagement configManagement as imported from the user interface
+	 * @param selfTestPollInterval interval between two self-test result reads in milliseconds
+	 * @param monitoringGroups enabled monitoring groups
+	 * @param historicalDeadbands deadbands of the historical properties, by property name
+	 * @param historicalHeartbeat longest interval between two points of a historical property with a deadband, in milliseconds
+	 * @param pendingWriteTtl time an acknowledged control value masks the device readings at most, in milliseconds
+	 */
+	private AdapterConfiguration(long version, Set<String> historicalProperties, String configManagement, long selfTestPollInterval, Set<MonitoringGroupEnum> monitoringGroups,
+			Map<String, Deadband> historicalDeadbands, long historicalHeartbeat, long pendingWriteTtl) {
+		this.version = version;
+		this.historicalProperties = historicalProperties;
+		this.configManagement = configManagement;
+		this.isConfigManagement = configManagement != null && UPSConstant.TRUE.equalsIgnoreCase(configManagement.trim());
+		this.selfTestPollInterval = selfTestPollInterval;
+		this.monitoringGroups = monitoringGroups;
+		List<UPSMonitoringCommand> commands = new ArrayList<>();
+		for (UPSMonitoringCommand command : UPSMonitoringCommand.values()) {
+			if (monitoringGroups.contains(command.getMonitoringGroup())) {
+				commands.add(command);
+			}
+		}
+		this.monitoringCommands = Collections.unmodifiableList(commands);
+		this.historicalDeadbands = historicalDeadbands;
+		this.historicalHeartbeat = historicalHeartbeat;
+		this.pendingWriteTtl = pendingWriteTtl;
+	}
+
+	/**
+	 * Creates the next version with new historical properties
+	 *
+	 * @param historicalProperties comma separated property names
+	 * @return the new configuration
+	 */
+	public AdapterConfiguration withHistoricalProperties(String historicalProperties) {
+		Set<String> properties = new LinkedHashSet<>();
+		if (historicalProperties != null) {
+			for (String propertyName : historicalProperties.split(UPSConstant.COMMA)) {
+				if (!propertyName.trim().isEmpty()) {
+					properties.add(propertyName.trim());
+				}
+			}
+		}
+		return new AdapterConfiguration(version + 1, Collections.unmodifiableSet(properties), configManagement, selfTestPollInterval, monitoringGroups, historicalDeadbands,
+				historicalHeartbeat, pendingWriteTtl);
+	}
+
+	/**
+	 * Creates the next version with a new configManagement value
+	 *
+	 * @param configManagement configManagement as imported from the user interface
+	 * @return the new configuration
+	 */
+	public AdapterConfiguration withConfigManagement(String configManagement) {
+		return new AdapterConfiguration(version + 1, historicalProperties, configManagement, selfTestPollInterval, monitoringGroups, historicalDeadbands,
+				historicalHeartbeat, pendingWriteTtl);
+	}
+
+	/**
+	 * Creates the next version with a new self-test poll interval
+	 *
+	 * @param selfTestPollInterval interval between two self-test result reads in milliseconds, must be positive
+	 * @return the new configuration
+	 */
+	public AdapterConfiguration withSelfTestPollInterval(long selfTestPollInterval) {
+		if (selfTestPollInterval <= 0) {
+			throw new IllegalArgumentException("The self-test poll interval must be positive: " + selfTestPollInterval);
+		}
+		return new AdapterConfiguration(version + 1, historicalProperties, configManagement, selfTestPollInterval, monitoringGroups, historicalDeadbands,
+				historicalHeartbeat, pendingWriteTtl);
+	}
+
+	/**
+	 * Creates the next version with new enabled monitoring groups
+	 *
+	 * @param monitoringGroups comma separated monitoring group names, all groups are enabled when empty
+	 * @return the new configuration
+	 * @throws IllegalArgumentException if a monitoring group name is unknown
+	 */
+	public AdapterConfiguration withMonitoringGroups(String monitoringGroups) {
+		Set<MonitoringGroupEnum> groups = EnumSet.noneOf(MonitoringGroupEnum.class);
+		if (monitoringGroups != null) {
+			for (String groupName : monitoringGroups.split(UPSConstant.COMMA)) {
+				if (!groupName.trim().isEmpty()) {
+					groups.add(MonitoringGroupEnum.getByName(groupName.trim()));
+				}
+			}
+		}
+		if (groups.isEmpty()) {
+			return new AdapterConfiguration(version + 1, historicalProperties, configManagement, selfTestPollInterval, DEFAULT.getMonitoringGroups(), historicalDeadbands,
+					historicalHeartbeat, pendingWriteTtl);
+		}
+		return new AdapterConfiguration(version + 1, historicalProperties, configManagement, selfTestPollInterval, Collections.unmodifiableSet(groups), historicalDeadbands,
+				historicalHeartbeat, pendingWriteTtl);
+	}
+
+	/**
+	 * Creates the next version with new historical deadbands
+	 *
+	 * @param historicalDeadbands comma separated "property name=deadband" entries, the deadband being absolute such as "0.5" or a percentage such as "5%"
+	 * @return the new configuration
+	 * @throws IllegalArgumentException if an entry is invalid
+	 */
+	public AdapterConfiguration withHistoricalDeadbands(String historicalDeadbands) {
+		Map<String, Deadband> deadbands = new LinkedHashMap<>();
+		if (historicalDeadbands != null) {
+			for (String entry : historicalDeadbands.split(UPSConstant.COMMA)) {
+				if (entry.trim().isEmpty()) {
+					continue;
+				}
+				String[] definition = entry.split(UPSConstant.EQUAL, 2);
+				if (definition.length != 2 || definition[0].trim().isEmpty()) {
+					throw new IllegalArgumentException("Invalid historical deadband: " + entry);
+				}
+				deadbands.put(definition[0].trim(), Deadband.parse(definition[1]));
+			}
+		}
+		return new AdapterConfiguration(version + 1, historicalProperties, configManagement, selfTestPollInterval, monitoringGroups, Collections.unmodifiableMap(deadbands),
+				historicalHeartbeat, pendingWriteTtl);
+	}
+
+	/**
+	 * Creates the next version with a new historical heartbeat
+	 *
+	 * @param historicalHeartbeat longest interval between two points of a historical property with a deadband in milliseconds, must be positive
+	 * @return the new configuration
+	 */
+	public AdapterConfiguration withHistoricalHeartbeat(long historicalHeartbeat) {
+		if (historicalHeartbeat <= 0) {
+			throw new IllegalArgumentException("The historical heartbeat must be positive: " + historicalHeartbeat);
+		}
+		return new AdapterConfiguration(version + 1, historicalProperties, configManagement, selfTestPollInterval, monitoringGroups, historicalDeadbands,
+				historicalHeartbeat, pendingWriteTtl);
+	}
+
+	/**
+	 * Creates the next version with a new pending write time to live
+	 *
+	 * @param pendingWriteTtl time an acknowledged control value masks the device readings at most in milliseconds, must be positive
+	 * @return the new configuration
+	 */
+	public AdapterConfiguration withPendingWriteTtl(long pendingWriteTtl) {
+		if (pendingWriteTtl <= 0) {
+			throw new IllegalArgumentException("The pending write time to live must be positive: " + pendingWriteTtl);
+		}
+		return new AdapterConfiguration(version + 1, historicalProperties, configManagement, selfTestPollInterval, monitoringGroups, historicalDeadbands, historicalHeartbeat,
+				pendingWriteTtl);
+	}
+
+	/**
+	 * Retrieves {@link #version}
+	 *
+	 * @return value of {@link #version}
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Retrieves {@link #historicalProperties}
+	 *
+	 * @return value of {@link #historicalProperties}, unmodifiable
+	 */
+	public Set<String> getHistoricalProperties() {
+		return historicalProperties;
+	}
+
+	/**
+	 * Retrieves {@link #configManagement}
+	 *
+	 * @return value of {@link #configManagement}
+	 */
+	public String getConfigManagement() {
+		return configManagement;
+	}
+
+	/**
+	 * Retrieves {@link #isConfigManagement}
+	 *
+	 * @return value of {@link #isConfigManagement}
+	 */
+	public boolean isConfigManagement() {
+		return isConfigManagement;
+	}
+
+	/**
+	 * Retrieves {@link #selfTestPollInterval}
+	 *
+	 * @return value of {@link #selfTestPollInterval}
+	 */
+	public long getSelfTestPollInterval() {
+		return selfTestPollInterval;
+	}
+
+	/**
+	 * Retrieves {@link #monitoringGroups}
+	 *
+	 * @return value of {@link #monitoringGroups}, unmodifiable
+	 */
+	public Set<MonitoringGroupEnum> getMonitoringGroups() {
+		return monitoringGroups;
+	}
+
+	/**
+	 * Checks whether a monitoring group is enabled
+	 *
+	 * @param monitoringGroup the monitoring group
+	 * @return true if the group is monitored
+	 */
+	public boolean isMonitoringGroupEnabled(MonitoringGroupEnum monitoringGroup) {
+		return monitoringGroups.contains(monitoringGroup);
+	}
+
+	/**
+	 * Retrieves {@link #monitoringCommands}
+	 *
+	 * @return the monitoring commands of the enabled monitoring groups, in command order, unmodifiable
+	 */
+	public List<UPSMonitoringCommand> getMonitoringCommands() {
+		return monitoringCommands;
+	}
+
+	/**
+	 * Retrieves {@link #historicalDeadbands}
+	 *
+	 * @return value of {@link #historicalDeadbands}, unmodifiable
+	 */
+	public Map<String, Deadband> getHistoricalDeadbands() {
+		return historicalDeadbands;
+	}
+
+	/**
+	 * Retrieves {@link #historicalHeartbeat}
+	 *
+	 * @return value of {@link #historicalHeartbeat}
+	 */
+	public long getHistoricalHeartbeat() {
+		return historicalHeartbeat;
+	}
+
+	/**
+	 * Retrieves {@link #pendingWriteTtl}
+	 *
+	 * @return value of {@link #pendingWriteTtl}
+	 */
+	public long getPendingWriteTtl() {
+		return pendingWriteTtl;
+	}
+}
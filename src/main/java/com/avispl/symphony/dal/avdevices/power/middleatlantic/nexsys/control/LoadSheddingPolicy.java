@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * LoadSheddingPolicy decides locally when outlets are turned off to protect the battery runtime, and when they are turned
+ * back on. It is fed every new monitoring snapshot and only returns decisions; running them is left to the caller, which
+ * reports the outcome of every outlet back with {@link #confirmShed(int)}, {@link #failShed(int)} and
+ * {@link #failRestore(int)}.
+ * <ul>
+ * <li>While the UPS runs on battery and the remaining time or the capacity falls below its threshold, the outlets that are
+ * on are shed in priority order. An outlet counts as shed only once its turn off is confirmed; an outlet whose turn off
+ * failed is decided again at the next snapshot below the threshold.</li>
+ * <li>Shed outlets are restored in reverse order only after input power has been back for the whole restore delay; going
+ * back on battery during the delay restarts it. An outlet whose turn on failed is shed again and waits for another delay.</li>
+ * <li>A snapshot whose power source is unknown, such as a failed or unrecognized source reading, neither sheds nor counts
+ * toward the restore delay, which restarts at the next snapshot on input power.</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LoadSheddingPolicy {
+	/**
+	 * Value of a threshold that is not configured, or of a telemetry value that is not known
+	 */
+	public static final int UNSET = -1;
+
+	private final List<Integer> priorityOutlets;
+	private final int remainingTimeThreshold;
+	private final int capacityThreshold;
+	private final long restoreDelayMillis;
+	private final List<Integer> shedOutlets = new ArrayList<>();
+	private final List<Integer> pendingShedOutlets = new ArrayList<>();
+	private LoadSheddingStateEnum state = LoadSheddingStateEnum.NORMAL;
+	private long inputRestoredSince;
+
+	/**
+	 * Power source of the UPS output, as far as the snapshot tells
+	 */
+	public enum PowerSourceEnum {
+		BATTERY,
+		LINE,
+		UNKNOWN,
+	}
+
+	/**
+	 * State of the policy
+	 */
+	public enum LoadSheddingStateEnum {
+		NORMAL("Normal"),
+		SHEDDING("Shedding"),
+		RESTORE_PENDING("RestorePending"),
+		;
+		private final String name;
+
+		/**
+		 * Creates a new LoadSheddingStateEnum with the specified name.
+		 *
+		 * @param name The name of the state.
+		 */
+		LoadSheddingStateEnum(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Decision returned by {@link #evaluate(PowerSourceEnum, int, int, Set, long)}
+	 */
+	public static final class Decision {
+		private static final Decision NONE = new Decision(false, Collections.emptyList());
+
+		private final boolean isShed;
+		private final List<Integer> outlets;
+
+		/**
+		 * Creates a new Decision
+		 *
+		 * @param isShed true to turn the outlets off, false to turn them on
+		 * @param outlets the outlets, in the order they have to be switched
+		 */
+		private Decision(boolean isShed, List<Integer> outlets) {
+			this.isShed = isShed;
+			this.outlets = Collections.unmodifiableList(outlets);
+		}
+
+		/**
+		 * Retrieves {@link #isShed}
+		 *
+		 * @return true if the outlets have to be turned off, false if they have to be turned on
+		 */
+		public boolean isShed() {
+			return isShed;
+		}
+
+		/**
+		 * Retrieves {@link #outlets}
+		 *
+		 * @return value of {@link #outlets}, empty if there is nothing to do
+		 */
+		public List<Integer> getOutlets() {
+			return outlets;
+		}
+	}
+
+	/**
+	 * Creates a new LoadSheddingPolicy
+	 *
+	 * @param priorityOutlets the outlets that may be shed, first shed first
+	 * @param remainingTimeThreshold remaining runtime in minutes under which outlets are shed, {@link #UNSET} to ignore
+	 * @param capacityThreshold battery capacity in percent under which outlets are shed, {@link #UNSET} to ignore
+	 * @param restoreDelayMillis time input power must be back before the shed outlets are restored
+	 */
+	public LoadSheddingPolicy(List<Integer> priorityOutlets, int remainingTimeThreshold, int capacityThreshold, long restoreDelayMillis) {
+		if (remainingTimeThreshold == UNSET && capacityThreshold == UNSET) {
+			throw new IllegalArgumentException("A remaining time or capacity threshold is required for load shedding");
+		}
+		this.priorityOutlets = Collections.unmodifiableList(new ArrayList<>(priorityOutlets));
+		this.remainingTimeThreshold = remainingTimeThreshold;
+		this.capacityThreshold = capacityThreshold;
+		this.restoreDelayMillis = restoreDelayMillis;
+	}
+
+	/**
+	 * Evaluates a new snapshot
+	 *
+	 * @param powerSource the power source of the UPS output
+	 * @param remainingTime remaining runtime in minutes, {@link #UNSET} if unknown
+	 * @param capacity battery capacity in percent, {@link #UNSET} if unknown
+	 * @param outletsOn the outlets that are currently on
+	 * @param now current time in milliseconds
+	 * @return the outlets to switch, empty if nothing has to change
+	 */
+	public synchronized Decision evaluate(PowerSourceEnum powerSource, int remainingTime, int capacity, Set<Integer> outletsOn, long now) {
+		if (powerSource == PowerSourceEnum.UNKNOWN) {
+			inputRestoredSince = 0;
+			if (state == LoadSheddingStateEnum.RESTORE_PENDING) {
+				state = LoadSheddingStateEnum.SHEDDING;
+			}
+			return Decision.NONE;
+		}
+		if (powerSource == PowerSourceEnum.BATTERY) {
+			inputRestoredSince = 0;
+			if (!isBelowThreshold(remainingTime, capacity)) {
+				if (state == LoadSheddingStateEnum.RESTORE_PENDING) {
+					state = LoadSheddingStateEnum.SHEDDING;
+				}
+				return Decision.NONE;
+			}
+			List<Integer> outlets = new ArrayList<>();
+			for (Integer outlet : priorityOutlets) {
+				if (outletsOn.contains(outlet) && !shedOutlets.contains(outlet) && !pendingShedOutlets.contains(outlet)) {
+					outlets.add(outlet);
+				}
+			}
+			pendingShedOutlets.addAll(outlets);
+			if (!shedOutlets.isEmpty() || !pendingShedOutlets.isEmpty()) {
+				state = LoadSheddingStateEnum.SHEDDING;
+			}
+			return outlets.isEmpty() ? Decision.NONE : new Decision(true, outlets);
+		}
+		if (shedOutlets.isEmpty()) {
+			state = LoadSheddingStateEnum.NORMAL;
+			return Decision.NONE;
+		}
+		if (inputRestoredSince == 0) {
+			inputRestoredSince = now;
+		}
+		if (now - inputRestoredSince < restoreDelayMillis) {
+			state = LoadSheddingStateEnum.RESTORE_PENDING;
+			return Decision.NONE;
+		}
+		List<Integer> outlets = new ArrayList<>(shedOutlets);
+		Collections.reverse(outlets);
+		shedOutlets.clear();
+		inputRestoredSince = 0;
+		state = LoadSheddingStateEnum.NORMAL;
+		return new Decision(false, outlets);
+	}
+
+	/**
+	 * Records that an outlet of a shed decision was turned off
+	 *
+	 * @param outlet the outlet number
+	 */
+	public synchronized void confirmShed(int outlet) {
+		if (!pendingShedOutlets.remove(Integer.valueOf(outlet))) {
+			return;
+		}
+		shedOutlets.add(outlet);
+		if (state == LoadSheddingStateEnum.NORMAL) {
+			state = LoadSheddingStateEnum.SHEDDING;
+		}
+	}
+
+	/**
+	 * Records that an outlet of a shed decision could not be turned off, so the next evaluation on battery decides it again
+	 *
+	 * @param outlet the outlet number
+	 */
+	public synchronized void failShed(int outlet) {
+		pendingShedOutlets.remove(Integer.valueOf(outlet));
+		if (state == LoadSheddingStateEnum.SHEDDING && shedOutlets.isEmpty() && pendingShedOutlets.isEmpty()) {
+			state = LoadSheddingStateEnum.NORMAL;
+		}
+	}
+
+	/**
+	 * Records that an outlet of a restore decision could not be turned on, so it is restored again after another restore delay
+	 *
+	 * @param outlet the outlet number
+	 */
+	public synchronized void failRestore(int outlet) {
+		if (shedOutlets.contains(outlet)) {
+			return;
+		}
+		shedOutlets.add(0, outlet);
+		inputRestoredSince = 0;
+		state = LoadSheddingStateEnum.SHEDDING;
+	}
+
+	/**
+	 * Retrieves the state of the policy
+	 *
+	 * @return the current state
+	 */
+	public synchronized LoadSheddingStateEnum getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves the outlets that are shed and waiting to be restored, leaving out those whose turn off is not confirmed yet
+	 *
+	 * @return the shed outlets, in the order they were shed
+	 */
+	public synchronized List<Integer> getShedOutlets() {
+		return new ArrayList<>(shedOutlets);
+	}
+
+	/**
+	 * Checks the battery telemetry against the thresholds
+	 *
+	 * @param remainingTime remaining runtime in minutes, {@link #UNSET} if unknown
+	 * @param capacity battery capacity in percent, {@link #UNSET} if unknown
+	 * @return true if a known value is below its threshold
+	 */
+	private boolean isBelowThreshold(int remainingTime, int capacity) {
+		return (remainingTimeThreshold != UNSET && remainingTime != UNSET && remainingTime < remainingTimeThreshold)
+				|| (capacityThreshold != UNSET && capacity != UNSET && capacity < capacityThreshold);
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * OutletVerifier confirms outlet controls after the device acknowledged them, so a control returns as soon as the command
+ * is accepted. Each control records the state its outlet is expected to reach; the outlet bitmask is then read back on a
+ * short interval until every expected state is read or its verification times out. A cycle control is verified in two
+ * phases: the outlet must first be read in the opposite state, then back in the state it had before the cycle, so a cycle
+ * the device acknowledged but never performed fails. A cycle whose opposite state can last shorter than the read-back
+ * interval can't be observed and is not verified. Outlets that do not reach their expected state in time are counted as
+ * failed verifications and handed to the failure listener.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class OutletVerifier {
+	private final Log logger = LogFactory.getLog(getClass());
+	private final ScheduledExecutorService scheduler;
+	private final Callable<String> bitmaskReader;
+	private final IntConsumer failureListener;
+	private final LongSupplier intervalMillis;
+	private final long timeoutMillis;
+	private final Map<Integer, Expectation> expectations = new HashMap<>();
+	private ScheduledFuture<?> verificationTask;
+	private long verifiedControls;
+	private long failedVerifications;
+	private String lastFailure;
+
+	/**
+	 * Creates a new OutletVerifier
+	 *
+	 * @param scheduler the scheduler the read-backs run on
+	 * @param bitmaskReader reads the outlet bitmask from the device, outlet 1 being the rightmost character; empty if the read failed
+	 * @param failureListener receives the number of every outlet whose verification failed
+	 * @param intervalMillis supplies the interval between two read-backs, read when a read-back is scheduled
+	 * @param timeoutMillis time after which an outlet that did not reach its expected state fails its verification
+	 */
+	public OutletVerifier(ScheduledExecutorService scheduler, Callable<String> bitmaskReader, IntConsumer failureListener, LongSupplier intervalMillis, long timeoutMillis) {
+		this.scheduler = scheduler;
+		this.bitmaskReader = bitmaskReader;
+		this.failureListener = failureListener;
+		this.intervalMillis = intervalMillis;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Records the state an outlet is expected to reach after an acknowledged control, replacing a previous expectation of
+	 * the same outlet, and schedules a read-back if none is scheduled
+	 *
+	 * @param outlet the outlet number, starting at 1
+	 * @param state the expected state, "1" for on or "0" for off
+	 */
+	public synchronized void expect(int outlet, String state) {
+		expectations.put(outlet, new Expectation(state, System.currentTimeMillis() + timeoutMillis));
+		if (verificationTask == null) {
+			verificationTask = scheduler.schedule(this::verify, intervalMillis.getAsLong(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Records an acknowledged cycle of an outlet, replacing a previous expectation of the same outlet, and schedules a
+	 * read-back if none is scheduled. The outlet is expected to be read in the opposite state first, then in its
+	 * restored state before the cycle delay plus the verification timeout elapses.
+	 *
+	 * @param outlet the outlet number, starting at 1
+	 * @param state the state before the cycle, "1" for on or "0" for off
+	 * @param cycleDelayMillis time the outlet stays in the opposite state
+	 * @return true if the cycle is verified, false if the read-back interval is too long to observe the opposite state
+	 */
+	public synchronized boolean expectCycle(int outlet, String state, long cycleDelayMillis) {
+		if (intervalMillis.getAsLong() >= cycleDelayMillis) {
+			return false;
+		}
+		Expectation expectation = new Expectation(state, System.currentTimeMillis() + cycleDelayMillis + timeoutMillis);
+		expectation.cycling = true;
+		expectations.put(outlet, expectation);
+		if (verificationTask == null) {
+			verificationTask = scheduler.schedule(this::verify, intervalMillis.getAsLong(), TimeUnit.MILLISECONDS);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the number of outlets waiting for their verification
+	 *
+	 * @return the pending verification count
+	 */
+	public synchronized int getPendingVerifications() {
+		return expectations.size();
+	}
+
+	/**
+	 * Retrieves the number of controls whose outlet was read in its expected state
+	 *
+	 * @return the verified control count
+	 */
+	public synchronized long getVerifiedControls() {
+		return verifiedControls;
+	}
+
+	/**
+	 * Retrieves the number of controls whose outlet did not reach its expected state in time
+	 *
+	 * @return the failed verification count
+	 */
+	public synchronized long getFailedVerifications() {
+		return failedVerifications;
+	}
+
+	/**
+	 * Retrieves the description of the last failed verification
+	 *
+	 * @return the description, null if no verification failed
+	 */
+	public synchronized String getLastFailure() {
+		return lastFailure;
+	}
+
+	/**
+	 * Stops the read-backs and forgets the pending verifications
+	 */
+	public synchronized void cancel() {
+		if (verificationTask != null) {
+			verificationTask.cancel(false);
+			verificationTask = null;
+		}
+		expectations.clear();
+	}
+
+	/**
+	 * Reads the outlet bitmask once, settles the expectations it confirms or that timed out, and schedules the next
+	 * read-back while expectations remain
+	 */
+	private void verify() {
+		String bitmask = null;
+		try {
+			bitmask = bitmaskReader.call();
+		} catch (Exception e) {
+			logger.error("Error while reading back the outlet states: " + e.getMessage(), e);
+		}
+		long now = System.currentTimeMillis();
+		List<Integer> failedOutlets = new ArrayList<>();
+		synchronized (this) {
+			if (verificationTask == null) {
+				return;
+			}
+			Iterator<Map.Entry<Integer, Expectation>> iterator = expectations.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Integer, Expectation> entry = iterator.next();
+				int outlet = entry.getKey();
+				Expectation expectation = entry.getValue();
+				String state = getOutletState(bitmask, outlet);
+				if (expectation.cycling) {
+					if (state != null && !expectation.state.equals(state)) {
+						expectation.cycling = false;
+					}
+				} else if (expectation.state.equals(state)) {
+					verifiedControls++;
+					iterator.remove();
+					continue;
+				}
+				if (now >= expectation.deadline) {
+					failedVerifications++;
+					if (expectation.cycling) {
+						lastFailure = String.format("Outlet%d expected a cycle from %s, read %s", outlet, expectation.state, state == null ? "nothing" : state);
+					} else {
+						lastFailure = String.format("Outlet%d expected %s, read %s", outlet, expectation.state, state == null ? "nothing" : state);
+					}
+					logger.warn("Outlet control verification failed: " + lastFailure);
+					failedOutlets.add(outlet);
+					iterator.remove();
+				}
+			}
+			verificationTask = expectations.isEmpty() ? null : scheduler.schedule(this::verify, intervalMillis.getAsLong(), TimeUnit.MILLISECONDS);
+		}
+		for (int outlet : failedOutlets) {
+			failureListener.accept(outlet);
+		}
+	}
+
+	/**
+	 * Extracts the state of an outlet from the outlet bitmask
+	 *
+	 * @param bitmask the outlet bitmask, outlet 1 being the rightmost character
+	 * @param outlet the outlet number, starting at 1
+	 * @return "1" or "0", null if the bitmask does not report the outlet
+	 */
+	private String getOutletState(String bitmask, int outlet) {
+		if (bitmask == null || bitmask.length() < outlet) {
+			return null;
+		}
+		char state = bitmask.charAt(bitmask.length() - outlet);
+		return state == '1' || state == '0' ? String.valueOf(state) : null;
+	}
+
+	/**
+	 * State an outlet is expected to reach
+	 */
+	private static final class Expectation {
+		private final String state;
+		private final long deadline;
+		private boolean cycling;
+
+		/**
+		 * Creates a new Expectation
+		 *
+		 * @param state the expected state
+		 * @param deadline time the verification fails if the state was not read, in epoch milliseconds
+		 */
+		private Expectation(String state, long deadline) {
+			this.state = state;
+			this.deadline = deadline;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * PendingWriteOverlay keeps the values of acknowledged controls until the device reports them, so a poll that runs before
+ * the device applied a control does not show the previous state again. Each monitoring cycle takes the pending properties
+ * out of the local cache with {@link #beginPoll(Map)}, so whatever the cycle writes back is a fresh device reading, and lays
+ * the pending values over those readings with {@link #endPoll(Map, long)}: a write is confirmed and dropped when the reading
+ * matches it, dropped as expired once its time to live ran out, and kept masking the reading otherwise.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PendingWriteOverlay {
+	private final Map<String, PendingWrite> pendingWrites = new HashMap<>();
+	private long confirmedWrites;
+	private long expiredWrites;
+
+	/**
+	 * Records an acknowledged control value, replacing a pending value of the same property
+	 *
+	 * @param propertyName the property name, as used in the local cache
+	 * @param value the written value, as the device reports it
+	 * @param expiresAt time the value stops masking the device readings, from {@link System#nanoTime()}
+	 */
+	public synchronized void put(String propertyName, String value, long expiresAt) {
+		pendingWrites.put(propertyName, new PendingWrite(value, expiresAt));
+	}
+
+	/**
+	 * Retrieves the pending value of a property
+	 *
+	 * @param propertyName the property name
+	 * @return the pending value, null if the property has none
+	 */
+	public synchronized String get(String propertyName) {
+		PendingWrite pendingWrite = pendingWrites.get(propertyName);
+		return pendingWrite == null ? null : pendingWrite.value;
+	}
+
+	/**
+	 * Drops the pending value of a property, so the next monitoring cycle shows the device reading
+	 *
+	 * @param propertyName the property name
+	 */
+	public synchronized void remove(String propertyName) {
+		pendingWrites.remove(propertyName);
+	}
+
+	/**
+	 * Removes the pending properties from the local cache before a monitoring cycle, so the cycle leaves only device readings
+	 * for them
+	 *
+	 * @param cache the local cache
+	 */
+	public synchronized void beginPoll(Map<String, String> cache) {
+		for (String propertyName : pendingWrites.keySet()) {
+			cache.remove(propertyName);
+		}
+	}
+
+	/**
+	 * Reconciles the pending values with the readings of a monitoring cycle and lays the remaining ones over the local cache.
+	 * A property the cycle did not read keeps its pending value, even once it expired, until the device answers.
+	 *
+	 * @param cache the local cache, holding the readings of the cycle
+	 * @param now current time, from {@link System#nanoTime()}
+	 */
+	public synchronized void endPoll(Map<String, String> cache, long now) {
+		Iterator<Map.Entry<String, PendingWrite>> iterator = pendingWrites.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, PendingWrite> entry = iterator.next();
+			PendingWrite pendingWrite = entry.getValue();
+			String reading = cache.get(entry.getKey());
+			if (pendingWrite.value.equals(reading)) {
+				confirmedWrites++;
+				iterator.remove();
+			} else if (now - pendingWrite.expiresAt >= 0) {
+				expiredWrites++;
+				iterator.remove();
+				if (reading == null) {
+					cache.put(entry.getKey(), pendingWrite.value);
+				}
+			} else {
+				cache.put(entry.getKey(), pendingWrite.value);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the number of writes waiting for the device to report them
+	 *
+	 * @return the pending write count
+	 */
+	public synchronized int getPendingWrites() {
+		return pendingWrites.size();
+	}
+
+	/**
+	 * Retrieves the number of writes the device reported before they expired
+	 *
+	 * @return the confirmed write count
+	 */
+	public synchronized long getConfirmedWrites() {
+		return confirmedWrites;
+	}
+
+	/**
+	 * Retrieves the number of writes the device did not report before they expired
+	 *
+	 * @return the expired write count
+	 */
+	public synchronized long getExpiredWrites() {
+		return expiredWrites;
+	}
+
+	/**
+	 * Forgets the pending writes and resets the counters
+	 */
+	public synchronized void clear() {
+		pendingWrites.clear();
+		confirmedWrites = 0;
+		expiredWrites = 0;
+	}
+
+	/**
+	 * Acknowledged control value waiting for the device to report it
+	 */
+	private static final class PendingWrite {
+		private final String value;
+		private final long expiresAt;
+
+		/**
+		 * Creates a new PendingWrite
+		 *
+		 * @param value the written value
+		 * @param expiresAt expiry time, from {@link System#nanoTime()}
+		 */
+		private PendingWrite(String value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
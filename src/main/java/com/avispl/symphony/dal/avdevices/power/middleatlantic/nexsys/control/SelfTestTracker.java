@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.SelfTestResultEnum;
+
+/**
+ * SelfTestTracker follows a running self-test by reading only the self-test result on a short interval, until the UPS
+ * reports a final {@link SelfTestResultEnum} value or the tracking times out. In-progress and final results are handed to
+ * the publisher, so the outcome is visible without waiting for the next full monitoring cycle.
+ * Right after a test is started the UPS may still report the final result of the previous test, so a final result is only
+ * accepted once an in-progress result was read or once the start grace period elapsed; before that, and for values that
+ * are neither in progress nor final, the reading is ignored.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SelfTestTracker {
+	/**
+	 * Results that end a self-test
+	 */
+	private static final Set<String> finalResults = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(SelfTestResultEnum.TEST_PASSED.getValue(),
+			SelfTestResultEnum.GENERAL_TEST_FAILED.getValue(), SelfTestResultEnum.BATTERY_TEST_FAILED.getValue(), SelfTestResultEnum.DEEP_BATTERY.getValue(),
+			SelfTestResultEnum.TEST_ABORTED.getValue())));
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final ScheduledExecutorService scheduler;
+	private final Callable<String> resultReader;
+	private final Consumer<String> resultPublisher;
+	private final LongSupplier intervalMillis;
+	private final long timeoutMillis;
+	private final long startGraceMillis;
+	private ScheduledFuture<?> trackingTask;
+	private long startedAt;
+	private long deadline;
+	private boolean isInProgressRead;
+
+	/**
+	 * Creates a new SelfTestTracker
+	 *
+	 * @param scheduler the scheduler the polls run on
+	 * @param resultReader reads the raw self-test result value from the device, empty if the read failed
+	 * @param resultPublisher receives every raw self-test result value that was read
+	 * @param intervalMillis supplies the interval between two result reads, read when a tracking starts
+	 * @param timeoutMillis time after which tracking stops even if the test did not finish
+	 * @param startGraceMillis time after the start during which a final result is taken for the previous test's, unless an
+	 * in-progress result was read
+	 */
+	public SelfTestTracker(ScheduledExecutorService scheduler, Callable<String> resultReader, Consumer<String> resultPublisher, LongSupplier intervalMillis, long timeoutMillis,
+			long startGraceMillis) {
+		this.scheduler = scheduler;
+		this.resultReader = resultReader;
+		this.resultPublisher = resultPublisher;
+		this.intervalMillis = intervalMillis;
+		this.timeoutMillis = timeoutMillis;
+		this.startGraceMillis = startGraceMillis;
+	}
+
+	/**
+	 * Starts tracking a self-test that was just started, restarting the tracking if one is already running
+	 */
+	public synchronized void track() {
+		cancel();
+		startedAt = System.currentTimeMillis();
+		deadline = startedAt + timeoutMillis;
+		isInProgressRead = false;
+		long interval = intervalMillis.getAsLong();
+		trackingTask = scheduler.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Checks whether a self-test is being tracked
+	 *
+	 * @return true if the tracking is running
+	 */
+	public synchronized boolean isTracking() {
+		return trackingTask != null;
+	}
+
+	/**
+	 * Stops the tracking if it is running
+	 */
+	public synchronized void cancel() {
+		if (trackingTask != null) {
+			trackingTask.cancel(false);
+			trackingTask = null;
+		}
+	}
+
+	/**
+	 * Reads the self-test result once and stops the tracking when the result is final
+	 */
+	private void poll() {
+		try {
+			String result = resultReader.call();
+			if (SelfTestResultEnum.TEST_IN_PROGRESS.getValue().equals(result)) {
+				synchronized (this) {
+					isInProgressRead = true;
+				}
+				resultPublisher.accept(result);
+			} else if (finalResults.contains(result) && isFinalResultAccepted()) {
+				resultPublisher.accept(result);
+				cancel();
+				return;
+			}
+		} catch (Exception e) {
+			logger.error("Error while tracking the self-test result: " + e.getMessage(), e);
+		}
+		if (System.currentTimeMillis() >= deadline) {
+			logger.warn("The self-test did not report a final result in " + timeoutMillis + "ms, tracking stopped");
+			cancel();
+		}
+	}
+
+	/**
+	 * Checks whether a final result read now belongs to the tracked test rather than to the previous one
+	 *
+	 * @return true if an in-progress result was read or the start grace period elapsed
+	 */
+	private synchronized boolean isFinalResultAccepted() {
+		return isInProgressRead || System.currentTimeMillis() - startedAt >= startGraceMillis;
+	}
+}
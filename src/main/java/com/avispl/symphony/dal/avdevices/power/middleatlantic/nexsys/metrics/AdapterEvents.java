@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics;
+
+/**
+ * AdapterEvents emits Java Flight Recorder events for device commands, monitoring cycles, controls and login retries, so
+ * adapter stalls can be correlated with GC and socket activity in the same recording.
+ * The adapter targets Java 8, where the jdk.jfr API only exists from 8u262 on; the event classes are only loaded once
+ * the API is known to be present, and every method returns a no-op recording when it is not, or when the event is not
+ * enabled in the running recording. A disabled event costs one allocation that escape analysis usually removes.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class AdapterEvents {
+	/**
+	 * Commands written on the adapter's own SSH shell
+	 */
+	public static final String SHELL_CHANNEL = "Shell";
+
+	/**
+	 * Commands exchanged on the byte-level frame transport
+	 */
+	public static final String FRAME_CHANNEL = "Frame";
+
+	/**
+	 * Commands exchanged on the dedicated control channel
+	 */
+	public static final String CONTROL_CHANNEL = "Control";
+
+	private static final boolean AVAILABLE = isAvailable();
+	private static final NoopRecording NOOP = new NoopRecording();
+
+	/**
+	 * Recording of one command exchanged with the device
+	 */
+	public interface CommandRecording {
+		/**
+		 * Checks whether the event is recorded, so the caller only computes its details when they are used
+		 *
+		 * @return true if the event is recorded
+		 */
+		boolean isRecording();
+
+		/**
+		 * Ends the exchange and commits the event
+		 *
+		 * @param command the command
+		 * @param bytesSent bytes written to the device
+		 * @param bytesReceived bytes read from the device
+		 * @param isSuccess true if the device answered
+		 */
+		void complete(String command, long bytesSent, long bytesReceived, boolean isSuccess);
+	}
+
+	/**
+	 * Recording of one monitoring cycle
+	 */
+	public interface CycleRecording {
+		/**
+		 * Ends the cycle and commits the event
+		 *
+		 * @param commands monitoring commands of the cycle
+		 * @param failedCommands monitoring commands that failed
+		 * @param isSuccess true if a snapshot was published
+		 */
+		void complete(int commands, int failedCommands, boolean isSuccess);
+	}
+
+	/**
+	 * Recording of one control action
+	 */
+	public interface ControlRecording {
+		/**
+		 * Ends the control and commits the event
+		 *
+		 * @param isSuccess true if the control completed without error
+		 */
+		void complete(boolean isSuccess);
+	}
+
+	private AdapterEvents() {
+	}
+
+	/**
+	 * Starts recording a command exchange
+	 *
+	 * @param host the device host
+	 * @param channel the channel the command goes through, {@link #SHELL_CHANNEL}, {@link #FRAME_CHANNEL} or {@link #CONTROL_CHANNEL}
+	 * @return the recording to complete once the answer is read
+	 */
+	public static CommandRecording beginCommand(String host, String channel) {
+		if (!AVAILABLE) {
+			return NOOP;
+		}
+		CommandEvent event = new CommandEvent();
+		if (!event.isEnabled()) {
+			return NOOP;
+		}
+		event.host = host;
+		event.channel = channel;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Starts recording a monitoring cycle
+	 *
+	 * @param host the device host
+	 * @return the recording to complete once the cycle ends
+	 */
+	public static CycleRecording beginCycle(String host) {
+		if (!AVAILABLE) {
+			return NOOP;
+		}
+		MonitoringCycleEvent event = new MonitoringCycleEvent();
+		if (!event.isEnabled()) {
+			return NOOP;
+		}
+		event.host = host;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Starts recording a control action
+	 *
+	 * @param host the device host
+	 * @param property the controlled property
+	 * @param value the requested value
+	 * @return the recording to complete once the control ends
+	 */
+	public static ControlRecording beginControl(String host, String property, String value) {
+		if (!AVAILABLE) {
+			return NOOP;
+		}
+		ControlEvent event = new ControlEvent();
+		if (!event.isEnabled()) {
+			return NOOP;
+		}
+		event.host = host;
+		event.property = property;
+		event.value = value;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Records that a command is retried after the device refused the login because of another connection
+	 *
+	 * @param host the device host
+	 * @param channel the channel the command goes through
+	 * @param delayMillis time waited before the retry
+	 */
+	public static void loginRetry(String host, String channel, long delayMillis) {
+		if (!AVAILABLE) {
+			return;
+		}
+		LoginRetryEvent event = new LoginRetryEvent();
+		if (!event.isEnabled()) {
+			return;
+		}
+		event.host = host;
+		event.channel = channel;
+		event.delay = delayMillis;
+		event.commit();
+	}
+
+	/**
+	 * Checks whether the Flight Recorder API can be used in this JVM
+	 *
+	 * @return true if jdk.jfr is present and Flight Recorder is available
+	 */
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return jdk.jfr.FlightRecorder.isAvailable();
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Recording used when events are not recorded
+	 */
+	private static final class NoopRecording implements CommandRecording, CycleRecording, ControlRecording {
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isRecording() {
+			return false;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void complete(String command, long bytesSent, long bytesReceived, boolean isSuccess) {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void complete(int commands, int failedCommands, boolean isSuccess) {
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void complete(boolean isSuccess) {
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one command exchanged with a NEXSYS UPS, its duration being the command latency.
+ * Only created through {@link AdapterEvents#beginCommand(String, String)}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Name("com.avispl.nexsys.Command")
+@Label("NEXSYS Command")
+@Category({ "AVI-SPL", "NEXSYS UPS" })
+@Description("A command written to a NEXSYS UPS and its answer")
+@StackTrace(false)
+final class CommandEvent extends Event implements AdapterEvents.CommandRecording {
+	@Label("Host")
+	String host;
+
+	@Label("Channel")
+	String channel;
+
+	@Label("Command")
+	String command;
+
+	@Label("Bytes Sent")
+	@DataAmount
+	long bytesSent;
+
+	@Label("Bytes Received")
+	@DataAmount
+	long bytesReceived;
+
+	@Label("Success")
+	boolean success;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isRecording() {
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void complete(String command, long bytesSent, long bytesReceived, boolean isSuccess) {
+		end();
+		this.command = command;
+		this.bytesSent = bytesSent;
+		this.bytesReceived = bytesReceived;
+		this.success = isSuccess;
+		commit();
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one control action, lock wait included.
+ * Only created through {@link AdapterEvents#beginControl(String, String, String)}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Name("com.avispl.nexsys.Control")
+@Label("NEXSYS Control")
+@Category({ "AVI-SPL", "NEXSYS UPS" })
+@Description("A control action on a NEXSYS UPS")
+@StackTrace(false)
+final class ControlEvent extends Event implements AdapterEvents.ControlRecording {
+	@Label("Host")
+	String host;
+
+	@Label("Property")
+	String property;
+
+	@Label("Value")
+	String value;
+
+	@Label("Success")
+	boolean success;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void complete(boolean isSuccess) {
+		end();
+		this.success = isSuccess;
+		commit();
+	}
+}
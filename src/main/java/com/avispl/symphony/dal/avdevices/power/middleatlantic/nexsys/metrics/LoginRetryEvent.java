@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event emitted when a command is retried because the device refused the login while another
+ * connection held it. Only created through {@link AdapterEvents#loginRetry(String, String, long)}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Name("com.avispl.nexsys.LoginRetry")
+@Label("NEXSYS Login Retry")
+@Category({ "AVI-SPL", "NEXSYS UPS" })
+@Description("A command retried after the NEXSYS UPS refused the login")
+@StackTrace(false)
+final class LoginRetryEvent extends Event {
+	@Label("Host")
+	String host;
+
+	@Label("Channel")
+	String channel;
+
+	@Label("Delay")
+	@Timespan(Timespan.MILLISECONDS)
+	long delay;
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one monitoring cycle, from the statistics request to the published snapshot.
+ * Only created through {@link AdapterEvents#beginCycle(String)}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Name("com.avispl.nexsys.MonitoringCycle")
+@Label("NEXSYS Monitoring Cycle")
+@Category({ "AVI-SPL", "NEXSYS UPS" })
+@Description("A monitoring cycle of a NEXSYS UPS adapter, lock wait included")
+@StackTrace(false)
+final class MonitoringCycleEvent extends Event implements AdapterEvents.CycleRecording {
+	@Label("Host")
+	String host;
+
+	@Label("Commands")
+	int commands;
+
+	@Label("Failed Commands")
+	int failedCommands;
+
+	@Label("Success")
+	boolean success;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void complete(int commands, int failedCommands, boolean isSuccess) {
+		end();
+		this.commands = commands;
+		this.failedCommands = failedCommands;
+		this.success = isSuccess;
+		commit();
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSConstant;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList;
+
+/**
+ * OpenMetricsExporter serves the latest telemetry snapshot of a UPS in OpenMetrics text format over an embedded HTTP server.
+ * The exporter never talks to the device: every scrape is rendered from the snapshot published by the last monitoring cycle,
+ * so a single device poll serves both Symphony and the scraper. The endpoint is not authenticated, so it listens on the
+ * loopback interface unless another bind address is given, and every series carries a host label so the series of several
+ * adapter instances can be told apart once collected.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class OpenMetricsExporter {
+	private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+	private static final String METRICS_PATH = "/metrics";
+	private static final String OUTLET_METRIC = "ups_outlet_state";
+	private static final int OUTLET_COUNT = 8;
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final String host;
+	private final Supplier<Map<String, String>> telemetrySupplier;
+	private HttpServer server;
+	private ExecutorService executor;
+
+	/**
+	 * Creates a new OpenMetricsExporter
+	 *
+	 * @param host the UPS host, reported in the host label of every series
+	 * @param telemetrySupplier supplies the latest raw telemetry snapshot, keyed like the adapter's local cache
+	 */
+	public OpenMetricsExporter(String host, Supplier<Map<String, String>> telemetrySupplier) {
+		this.host = host;
+		this.telemetrySupplier = telemetrySupplier;
+	}
+
+	/**
+	 * Starts the HTTP endpoint on the given address and port
+	 *
+	 * @param bindAddress the address to listen on, such as 127.0.0.1 for local scrapers only or 0.0.0.0 for all interfaces
+	 * @param port the TCP port to listen on
+	 * @throws IOException if the port can not be bound
+	 */
+	public synchronized void start(String bindAddress, int port) throws IOException {
+		if (server != null) {
+			return;
+		}
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getByName(bindAddress), port), 0);
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "nexsys-openmetrics-" + port);
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(executor);
+		server.createContext(METRICS_PATH, this::handle);
+		server.start();
+		if (logger.isDebugEnabled()) {
+			logger.debug("OpenMetrics endpoint is listening on " + bindAddress + ":" + port);
+		}
+	}
+
+	/**
+	 * Stops the HTTP endpoint if it is running
+	 */
+	public synchronized void stop() {
+		if (server != null) {
+			server.stop(0);
+			executor.shutdownNow();
+			server = null;
+			executor = null;
+		}
+	}
+
+	/**
+	 * Handles a scrape request
+	 *
+	 * @param exchange the HTTP exchange
+	 * @throws IOException if the response can not be written
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			byte[] body = render(host, telemetrySupplier.get()).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Renders the telemetry snapshot in OpenMetrics text format. Metrics the device did not report are left out.
+	 *
+	 * @param host the UPS host, reported in the host label of every series
+	 * @param telemetry raw telemetry snapshot, may be null before the first monitoring cycle
+	 * @return OpenMetrics exposition text
+	 */
+	public static String render(String host, Map<String, String> telemetry) {
+		StringBuilder builder = new StringBuilder(2048);
+		String hostLabel = "host=\"" + escapeLabelValue(host) + "\"";
+		if (telemetry != null) {
+			for (UPSMetricsList metric : UPSMetricsList.values()) {
+				UPSPropertiesList property = metric.getProperty();
+				Double value = parse(telemetry.get(property.getGroup() + property.getName()));
+				if (value != null) {
+					appendHeader(builder, metric.getName(), metric.getUnit(), metric.getHelp());
+					builder.append(metric.getName()).append('{').append(hostLabel).append("} ").append(value * metric.getMultiplier() / metric.getDivisor()).append('\n');
+				}
+			}
+			boolean outletHeader = false;
+			for (int i = 1; i <= OUTLET_COUNT; i++) {
+				String state = telemetry.get(UPSConstant.OUTLET_CONTROL_GROUP + UPSConstant.OUTLET + i);
+				if (UPSConstant.NUMBER_ONE.equals(state) || UPSConstant.ZERO.equals(state)) {
+					if (!outletHeader) {
+						builder.append("# TYPE ").append(OUTLET_METRIC).append(" gauge\n");
+						builder.append("# HELP ").append(OUTLET_METRIC).append(" Outlet state, 1 is on and 0 is off.\n");
+						outletHeader = true;
+					}
+					builder.append(OUTLET_METRIC).append('{').append(hostLabel).append(",outlet=\"").append(i).append("\"} ").append(state).append('\n');
+				}
+			}
+		}
+		builder.append("# EOF\n");
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the TYPE, UNIT and HELP lines of a gauge
+	 *
+	 * @param builder the output builder
+	 * @param name metric name
+	 * @param unit metric unit
+	 * @param help metric description
+	 */
+	private static void appendHeader(StringBuilder builder, String name, String unit, String help) {
+		builder.append("# TYPE ").append(name).append(" gauge\n");
+		builder.append("# UNIT ").append(name).append(' ').append(unit).append('\n');
+		builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+	}
+
+	/**
+	 * Escapes a label value as the OpenMetrics text format requires
+	 *
+	 * @param value the label value, may be null
+	 * @return the escaped value
+	 */
+	private static String escapeLabelValue(String value) {
+		if (value == null) {
+			return UPSConstant.EMPTY;
+		}
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	/**
+	 * Parses a raw device value
+	 *
+	 * @param value raw value
+	 * @return the numeric value, or null if the value is missing or not numeric
+	 */
+	private static Double parse(String value) {
+		if (value == null || value.isEmpty() || UPSConstant.NONE.equals(value)) {
+			return null;
+		}
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
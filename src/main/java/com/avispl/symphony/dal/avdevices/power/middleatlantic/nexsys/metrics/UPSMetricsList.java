@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.metrics;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList;
+
+/**
+ * This enum represents the gauges exposed by the OpenMetrics endpoint and the UPS property each one is read from.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum UPSMetricsList {
+	INPUT_VOLTAGE("ups_input_voltage_volts", "volts", "Input voltage.", UPSPropertiesList.INPUT_VOLTAGE, 1, 10),
+	INPUT_CURRENT("ups_input_current_amperes", "amperes", "Input current.", UPSPropertiesList.INPUT_CURRENT, 1, 10),
+	INPUT_FREQUENCY("ups_input_frequency_hertz", "hertz", "Input frequency.", UPSPropertiesList.INPUT_FREQUENCY, 1, 10),
+	OUTPUT_VOLTAGE("ups_output_voltage_volts", "volts", "Output voltage.", UPSPropertiesList.OUTPUT_VOLTAGE, 1, 10),
+	OUTPUT_CURRENT("ups_output_current_amperes", "amperes", "Output current.", UPSPropertiesList.OUTPUT_CURRENT, 1, 10),
+	OUTPUT_FREQUENCY("ups_output_frequency_hertz", "hertz", "Output frequency.", UPSPropertiesList.OUTPUT_FREQUENCY, 1, 10),
+	OUTPUT_LOAD("ups_output_load_percent", "percent", "Output load.", UPSPropertiesList.OUTPUT_LOAD, 1, 1),
+	OUTPUT_POWER("ups_output_power_watts", "watts", "Output power.", UPSPropertiesList.OUTPUT_POWER, 1, 1),
+	TEMPERATURE("ups_battery_temperature_celsius", "celsius", "Battery temperature.", UPSPropertiesList.TEMPERATURE, 1, 1),
+	CAPACITY("ups_battery_capacity_percent", "percent", "Battery capacity.", UPSPropertiesList.CAPACITY, 1, 1),
+	BATTERY_VOLTAGE("ups_battery_voltage_volts", "volts", "Battery voltage.", UPSPropertiesList.BATTERY_VOLTAGE, 1, 10),
+	REMAINING_TIME("ups_battery_remaining_runtime_seconds", "seconds", "Remaining battery runtime reported by the UPS.", UPSPropertiesList.REMAINING_TIME, 60, 1),
+	;
+	private final String name;
+	private final String unit;
+	private final String help;
+	private final UPSPropertiesList property;
+	private final int multiplier;
+	private final int divisor;
+
+	/**
+	 * Creates a new UPSMetricsList with the specified metric name, unit, description, source property and scaling.
+	 *
+	 * @param name The OpenMetrics name of the gauge.
+	 * @param unit The OpenMetrics unit of the gauge.
+	 * @param help The description of the gauge.
+	 * @param property The UPS property the gauge is read from.
+	 * @param multiplier The multiplier applied to the raw device value.
+	 * @param divisor The divisor applied to the raw device value.
+	 */
+	UPSMetricsList(String name, String unit, String help, UPSPropertiesList property, int multiplier, int divisor) {
+		this.name = name;
+		this.unit = unit;
+		this.help = help;
+		this.property = property;
+		this.multiplier = multiplier;
+		this.divisor = divisor;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #unit}
+	 *
+	 * @return value of {@link #unit}
+	 */
+	public String getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Retrieves {@link #help}
+	 *
+	 * @return value of {@link #help}
+	 */
+	public String getHelp() {
+		return help;
+	}
+
+	/**
+	 * Retrieves {@link #property}
+	 *
+	 * @return value of {@link #property}
+	 */
+	public UPSPropertiesList getProperty() {
+		return property;
+	}
+
+	/**
+	 * Retrieves {@link #multiplier}
+	 *
+	 * @return value of {@link #multiplier}
+	 */
+	public int getMultiplier() {
+		return multiplier;
+	}
+
+	/**
+	 * Retrieves {@link #divisor}
+	 *
+	 * @return value of {@link #divisor}
+	 */
+	public int getDivisor() {
+		return divisor;
+	}
+}
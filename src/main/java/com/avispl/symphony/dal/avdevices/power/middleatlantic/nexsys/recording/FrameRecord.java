@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording;
+
+/**
+ * FrameRecord is one recorded command and the raw device answer, exactly as returned by the transport.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FrameRecord {
+	private final long timestamp;
+	private final long latency;
+	private final FrameRecordType type;
+	private final String command;
+	private final String payload;
+
+	/**
+	 * Creates a new FrameRecord
+	 *
+	 * @param timestamp epoch milliseconds at which the command was sent
+	 * @param latency milliseconds until the answer (or the failure) was received
+	 * @param type outcome of the exchange
+	 * @param command the command as it was written to the channel
+	 * @param payload the raw response for {@link FrameRecordType#RESPONSE}, otherwise the error message
+	 */
+	public FrameRecord(long timestamp, long latency, FrameRecordType type, String command, String payload) {
+		this.timestamp = timestamp;
+		this.latency = latency;
+		this.type = type;
+		this.command = command;
+		this.payload = payload;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves {@link #latency}
+	 *
+	 * @return value of {@link #latency}
+	 */
+	public long getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Retrieves {@link #type}
+	 *
+	 * @return value of {@link #type}
+	 */
+	public FrameRecordType getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@link #payload}
+	 *
+	 * @return value of {@link #payload}
+	 */
+	public String getPayload() {
+		return payload;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording;
+
+/**
+ * This enum represents the outcome of a recorded NEXSYS exchange.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum FrameRecordType {
+	RESPONSE((byte) 0),
+	FAILED_LOGIN((byte) 1),
+	ERROR((byte) 2),
+	;
+	private final byte value;
+
+	/**
+	 * Creates a new FrameRecordType with the specified value.
+	 *
+	 * @param value The value written to the recording file.
+	 */
+	FrameRecordType(byte value) {
+		this.value = value;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public byte getValue() {
+		return value;
+	}
+
+	/**
+	 * This method is used to get record type by value
+	 *
+	 * @param value is the value read from the recording file
+	 * @return FrameRecordType is the record type
+	 */
+	public static FrameRecordType getByValue(byte value) {
+		for (FrameRecordType type : values()) {
+			if (type.value == value) {
+				return type;
+			}
+		}
+		throw new IllegalStateException(String.format("record type %s is not supported.", value));
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * FrameRecorder appends every NEXSYS exchange to a compact binary file so it can be replayed later by {@link FrameReplayer}.
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, then holds one record per exchange:
+ * timestamp (long), latency (int), type (byte), command and payload (int length + UTF-8 bytes each).
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FrameRecorder implements Closeable {
+	static final int MAGIC = 0x4E585243;
+	static final int VERSION = 1;
+
+	private final DataOutputStream outputStream;
+
+	/**
+	 * Creates a new FrameRecorder, appending to the file if it already holds a recording
+	 *
+	 * @param file the recording file
+	 * @throws IOException if the file can not be opened
+	 */
+	public FrameRecorder(File file) throws IOException {
+		boolean newFile = !file.exists() || file.length() == 0;
+		outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+		if (newFile) {
+			outputStream.writeInt(MAGIC);
+			outputStream.writeInt(VERSION);
+			outputStream.flush();
+		}
+	}
+
+	/**
+	 * Writes one exchange and flushes it, so a crash loses at most the exchange in flight
+	 *
+	 * @param record the exchange to write
+	 * @throws IOException if the record can not be written
+	 */
+	public synchronized void record(FrameRecord record) throws IOException {
+		outputStream.writeLong(record.getTimestamp());
+		outputStream.writeInt((int) Math.min(Integer.MAX_VALUE, record.getLatency()));
+		outputStream.writeByte(record.getType().getValue());
+		writeString(record.getCommand());
+		writeString(record.getPayload());
+		outputStream.flush();
+	}
+
+	/**
+	 * Writes a length-prefixed UTF-8 string, null is written as an empty string
+	 *
+	 * @param value the string to write
+	 * @throws IOException if the string can not be written
+	 */
+	private void writeString(String value) throws IOException {
+		byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+		outputStream.writeInt(bytes.length);
+		outputStream.write(bytes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		outputStream.close();
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.security.auth.login.FailedLoginException;
+
+/**
+ * FrameReplayer is a transport that answers commands from a file written by {@link FrameRecorder} instead of the device.
+ * Records are served in order; a command that does not match the next record skips ahead to the next record with the same
+ * command, and the recording starts over once it is exhausted. With pacing enabled every answer is delayed so that it is
+ * returned at the same offset from the start of the replay as it was in the original session.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FrameReplayer {
+	private final List<FrameRecord> records;
+	private final boolean paced;
+	private int position;
+	private long replayStart;
+
+	/**
+	 * Creates a new FrameReplayer
+	 *
+	 * @param file the recording file
+	 * @param paced true to reproduce the original timing, false to replay at full speed
+	 * @throws IOException if the file can not be read or is not a recording
+	 */
+	public FrameReplayer(File file, boolean paced) throws IOException {
+		this.records = Collections.unmodifiableList(load(file));
+		this.paced = paced;
+		if (records.isEmpty()) {
+			throw new IOException("The recording " + file + " does not contain any exchange");
+		}
+	}
+
+	/**
+	 * Returns the recorded answer to a command
+	 *
+	 * @param command the command as it would be written to the channel
+	 * @return the raw recorded response
+	 * @throws FailedLoginException if the recorded exchange was rejected with a login failure
+	 * @throws IllegalStateException if the recording does not contain the command
+	 * @throws Exception if the recorded exchange failed
+	 */
+	public synchronized String send(String command) throws Exception {
+		FrameRecord record = next(command);
+		if (paced) {
+			long offset = record.getTimestamp() + record.getLatency() - records.get(0).getTimestamp();
+			long delay = replayStart + offset - System.currentTimeMillis();
+			if (delay > 0) {
+				Thread.sleep(delay);
+			}
+		}
+		switch (record.getType()) {
+			case FAILED_LOGIN:
+				throw new FailedLoginException(record.getPayload());
+			case ERROR:
+				throw new IOException(record.getPayload());
+			default:
+				return record.getPayload();
+		}
+	}
+
+	/**
+	 * Finds the next record for the command, starting over at the end of the recording
+	 *
+	 * @param command the command to look for
+	 * @return the matching record
+	 */
+	private FrameRecord next(String command) {
+		for (int i = 0; i < records.size(); i++) {
+			if (position == 0) {
+				replayStart = System.currentTimeMillis();
+			}
+			FrameRecord record = records.get(position);
+			position = (position + 1) % records.size();
+			if (record.getCommand().equals(command)) {
+				return record;
+			}
+		}
+		throw new IllegalStateException("The recording does not contain the command " + command.trim());
+	}
+
+	/**
+	 * Reads every record of a recording file
+	 *
+	 * @param file the recording file
+	 * @return the records in file order
+	 * @throws IOException if the file can not be read or is not a recording
+	 */
+	private static List<FrameRecord> load(File file) throws IOException {
+		List<FrameRecord> result = new ArrayList<>();
+		try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (inputStream.readInt() != FrameRecorder.MAGIC || inputStream.readInt() != FrameRecorder.VERSION) {
+				throw new IOException("The file " + file + " is not a supported recording");
+			}
+			while (true) {
+				long timestamp;
+				try {
+					timestamp = inputStream.readLong();
+				} catch (EOFException e) {
+					break;
+				}
+				long latency = inputStream.readInt();
+				FrameRecordType type = FrameRecordType.getByValue(inputStream.readByte());
+				String command = readString(inputStream);
+				String payload = readString(inputStream);
+				result.add(new FrameRecord(timestamp, latency, type, command, payload));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Reads a length-prefixed UTF-8 string
+	 *
+	 * @param inputStream the stream to read from
+	 * @return the string
+	 * @throws IOException if the string can not be read
+	 */
+	private static String readString(DataInputStream inputStream) throws IOException {
+		byte[] bytes = new byte[inputStream.readInt()];
+		inputStream.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * FrameRingBuffer keeps the last command/response exchanges of a device in memory, for diagnostics on demand.
+ * All slots and their byte arrays are allocated up front, so recording an exchange copies at most
+ * {@link #COMMAND_CAPACITY} + {@link #RESPONSE_CAPACITY} bytes and allocates nothing. Writers claim a slot with an atomic
+ * sequence and never lock; each slot carries a version, set to {@link #WRITING} while it is written, which a reader
+ * checks before and after copying the slot and skips the slot if it changed. Longer frames are truncated.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FrameRingBuffer {
+	/**
+	 * Bytes kept of a command
+	 */
+	public static final int COMMAND_CAPACITY = 64;
+
+	/**
+	 * Bytes kept of a response
+	 */
+	public static final int RESPONSE_CAPACITY = 512;
+
+	private static final long WRITING = -1;
+	private static final long EMPTY = -2;
+
+	private final Slot[] slots;
+	private final int mask;
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicLongArray versions;
+
+	/**
+	 * Creates a new FrameRingBuffer
+	 *
+	 * @param size minimum number of exchanges kept, rounded up to a power of two
+	 */
+	public FrameRingBuffer(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("The frame history size must be positive: " + size);
+		}
+		int capacity = Integer.highestOneBit(size);
+		if (capacity < size) {
+			capacity <<= 1;
+		}
+		slots = new Slot[capacity];
+		versions = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			slots[i] = new Slot();
+			versions.set(i, EMPTY);
+		}
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Retrieves the number of exchanges kept
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return slots.length;
+	}
+
+	/**
+	 * Retrieves the number of exchanges recorded since the buffer was created
+	 *
+	 * @return the recorded exchange count
+	 */
+	public long getRecordedFrames() {
+		return sequence.get();
+	}
+
+	/**
+	 * Records a text exchange
+	 *
+	 * @param timestamp start of the exchange in epoch milliseconds
+	 * @param latencyNanos duration of the exchange in nanoseconds
+	 * @param type outcome of the exchange
+	 * @param command the command
+	 * @param response the response, or the error message
+	 */
+	public void record(long timestamp, long latencyNanos, FrameRecordType type, CharSequence command, CharSequence response) {
+		long slotSequence = sequence.getAndIncrement();
+		int index = (int) (slotSequence & mask);
+		Slot slot = slots[index];
+		versions.getAndSet(index, WRITING);
+		slot.timestamp = timestamp;
+		slot.latencyNanos = latencyNanos;
+		slot.type = type;
+		slot.commandLength = copy(command, slot.command);
+		slot.responseLength = copy(response, slot.response);
+		slot.responseFullLength = response == null ? 0 : response.length();
+		versions.set(index, slotSequence);
+	}
+
+	/**
+	 * Records a frame exchange; the buffers are left unchanged
+	 *
+	 * @param timestamp start of the exchange in epoch milliseconds
+	 * @param latencyNanos duration of the exchange in nanoseconds
+	 * @param type outcome of the exchange
+	 * @param command the command frame, read from commandStart up to its limit since writing it consumed it
+	 * @param commandStart position of the command frame before it was written
+	 * @param response the answer frame, read between position and limit, null if there is none
+	 * @param error the error message, null if there is an answer frame
+	 */
+	public void record(long timestamp, long latencyNanos, FrameRecordType type, ByteBuffer command, int commandStart, ByteBuffer response, String error) {
+		long slotSequence = sequence.getAndIncrement();
+		int index = (int) (slotSequence & mask);
+		Slot slot = slots[index];
+		versions.getAndSet(index, WRITING);
+		slot.timestamp = timestamp;
+		slot.latencyNanos = latencyNanos;
+		slot.type = type;
+		slot.commandLength = copy(command, commandStart, slot.command);
+		if (response != null) {
+			slot.responseLength = copy(response, response.position(), slot.response);
+			slot.responseFullLength = response.remaining();
+		} else {
+			slot.responseLength = copy(error, slot.response);
+			slot.responseFullLength = error == null ? 0 : error.length();
+		}
+		versions.set(index, slotSequence);
+	}
+
+	/**
+	 * Renders the kept exchanges, oldest first, one line each.
+	 * Exchanges overwritten while they are read are left out.
+	 *
+	 * @return the rendered exchanges
+	 */
+	public List<String> dump() {
+		long end = sequence.get();
+		long start = Math.max(0, end - slots.length);
+		List<String> lines = new ArrayList<>((int) (end - start));
+		byte[] command = new byte[COMMAND_CAPACITY];
+		byte[] response = new byte[RESPONSE_CAPACITY];
+		for (long slotSequence = start; slotSequence < end; slotSequence++) {
+			int index = (int) (slotSequence & mask);
+			Slot slot = slots[index];
+			if (versions.get(index) != slotSequence) {
+				continue;
+			}
+			long timestamp = slot.timestamp;
+			long latencyNanos = slot.latencyNanos;
+			FrameRecordType type = slot.type;
+			int commandLength = slot.commandLength;
+			int responseLength = slot.responseLength;
+			int responseFullLength = slot.responseFullLength;
+			System.arraycopy(slot.command, 0, command, 0, commandLength);
+			System.arraycopy(slot.response, 0, response, 0, responseLength);
+			if (!versions.compareAndSet(index, slotSequence, slotSequence)) {
+				continue;
+			}
+			StringBuilder line = new StringBuilder(64 + commandLength + responseLength);
+			line.append(Instant.ofEpochMilli(timestamp)).append(' ').append(type).append(' ')
+					.append(latencyNanos / 1000000).append('.').append(String.format("%03d", latencyNanos / 1000 % 1000)).append("ms ");
+			appendEscaped(line, command, commandLength);
+			line.append(" -> ");
+			appendEscaped(line, response, responseLength);
+			if (responseFullLength > responseLength) {
+				line.append("... (").append(responseFullLength).append(" bytes)");
+			}
+			lines.add(line.toString());
+		}
+		return lines;
+	}
+
+	/**
+	 * Copies the ASCII bytes of a text into a slot array, truncating it
+	 *
+	 * @param text the text, may be null
+	 * @param target the slot array
+	 * @return the number of bytes copied
+	 */
+	private static int copy(CharSequence text, byte[] target) {
+		if (text == null) {
+			return 0;
+		}
+		int length = Math.min(text.length(), target.length);
+		for (int i = 0; i < length; i++) {
+			target[i] = (byte) text.charAt(i);
+		}
+		return length;
+	}
+
+	/**
+	 * Copies the bytes of a buffer from a position up to its limit into a slot array, truncating them
+	 *
+	 * @param buffer the buffer
+	 * @param start the first index to copy
+	 * @param target the slot array
+	 * @return the number of bytes copied
+	 */
+	private static int copy(ByteBuffer buffer, int start, byte[] target) {
+		int length = Math.min(buffer.limit() - start, target.length);
+		for (int i = 0; i < length; i++) {
+			target[i] = buffer.get(start + i);
+		}
+		return length;
+	}
+
+	/**
+	 * Appends bytes as printable ASCII, escaping control characters
+	 *
+	 * @param line the line being rendered
+	 * @param bytes the bytes
+	 * @param length the number of bytes to append
+	 */
+	private static void appendEscaped(StringBuilder line, byte[] bytes, int length) {
+		for (int i = 0; i < length; i++) {
+			int value = bytes[i] & 0xFF;
+			if (value == '\r') {
+				line.append("\\r");
+			} else if (value == '\n') {
+				line.append("\\n");
+			} else if (value == '\\') {
+				line.append("\\\\");
+			} else if (value < ' ' || value > '~') {
+				line.append(String.format("\\x%02X", value));
+			} else {
+				line.append((char) value);
+			}
+		}
+	}
+
+	/**
+	 * One preallocated exchange slot
+	 */
+	private static final class Slot {
+		private final byte[] command = new byte[COMMAND_CAPACITY];
+		private final byte[] response = new byte[RESPONSE_CAPACITY];
+		private long timestamp;
+		private long latencyNanos;
+		private FrameRecordType type;
+		private int commandLength;
+		private int responseLength;
+		private int responseFullLength;
+	}
+}
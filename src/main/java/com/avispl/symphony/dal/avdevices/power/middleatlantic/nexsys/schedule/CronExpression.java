@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * CronExpression is a five field cron expression: minute, hour, day of month, month and day of week.
+ * Every field accepts "*", a value, a range "a-b", a step "/n" on "*" or a range, and comma separated lists of those.
+ * Day of week runs from 0 (Sunday) to 7 (Sunday again). As in cron, when both day fields are restricted a day matches if
+ * either of them matches.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CronExpression {
+	private static final int FIELD_COUNT = 5;
+	private static final int SEARCH_YEARS = 5;
+
+	private final String expression;
+	private final BitSet minutes;
+	private final BitSet hours;
+	private final BitSet daysOfMonth;
+	private final BitSet months;
+	private final BitSet daysOfWeek;
+	private final boolean isDayOfMonthRestricted;
+	private final boolean isDayOfWeekRestricted;
+
+	/**
+	 * Parses a cron expression
+	 *
+	 * @param expression the five field expression, fields separated by spaces
+	 * @throws IllegalArgumentException if the expression is invalid
+	 */
+	public CronExpression(String expression) {
+		String[] fields = expression.trim().split("\\s+");
+		if (fields.length != FIELD_COUNT) {
+			throw new IllegalArgumentException("The cron expression must have 5 fields: " + expression);
+		}
+		this.expression = expression.trim();
+		minutes = parseField(fields[0], 0, 59);
+		hours = parseField(fields[1], 0, 23);
+		daysOfMonth = parseField(fields[2], 1, 31);
+		months = parseField(fields[3], 1, 12);
+		daysOfWeek = parseField(fields[4], 0, 7);
+		if (daysOfWeek.get(7)) {
+			daysOfWeek.set(0);
+		}
+		isDayOfMonthRestricted = !fields[2].startsWith("*");
+		isDayOfWeekRestricted = !fields[4].startsWith("*");
+	}
+
+	/**
+	 * Finds the first minute matching the expression strictly after the given time
+	 *
+	 * @param after the time to search from
+	 * @return the next matching time, or null if none matches within five years (e.g. February 31st)
+	 */
+	public ZonedDateTime next(ZonedDateTime after) {
+		ZonedDateTime time = after.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+		ZonedDateTime limit = time.plusYears(SEARCH_YEARS);
+		while (time.isBefore(limit)) {
+			if (!months.get(time.getMonthValue())) {
+				time = time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1).plusMonths(1);
+			} else if (!isDayMatched(time)) {
+				time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+			} else if (!hours.get(time.getHour())) {
+				time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+			} else if (!minutes.get(time.getMinute())) {
+				time = time.plusMinutes(1);
+			} else {
+				return time;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	/**
+	 * Checks the day of month and day of week fields
+	 *
+	 * @param time the time to check
+	 * @return true if the day matches
+	 */
+	private boolean isDayMatched(ZonedDateTime time) {
+		boolean dayOfMonth = daysOfMonth.get(time.getDayOfMonth());
+		boolean dayOfWeek = daysOfWeek.get(time.getDayOfWeek().getValue() % 7);
+		if (isDayOfMonthRestricted && isDayOfWeekRestricted) {
+			return dayOfMonth || dayOfWeek;
+		}
+		return dayOfMonth && dayOfWeek;
+	}
+
+	/**
+	 * Parses one field into the set of values it matches
+	 *
+	 * @param field the field
+	 * @param min lowest allowed value
+	 * @param max highest allowed value
+	 * @return the matched values
+	 * @throws IllegalArgumentException if the field is invalid
+	 */
+	private static BitSet parseField(String field, int min, int max) {
+		BitSet values = new BitSet(max + 1);
+		for (String item : field.split(",")) {
+			String range = item;
+			int step = 1;
+			int slash = item.indexOf('/');
+			if (slash >= 0) {
+				range = item.substring(0, slash);
+				step = parseValue(item.substring(slash + 1), 1, max, field);
+			}
+			int start;
+			int end;
+			if ("*".equals(range)) {
+				start = min;
+				end = max;
+			} else {
+				int dash = range.indexOf('-');
+				if (dash >= 0) {
+					start = parseValue(range.substring(0, dash), min, max, field);
+					end = parseValue(range.substring(dash + 1), min, max, field);
+				} else {
+					start = parseValue(range, min, max, field);
+					end = slash >= 0 ? max : start;
+				}
+			}
+			if (start > end) {
+				throw new IllegalArgumentException("Invalid range in cron field: " + field);
+			}
+			for (int value = start; value <= end; value += step) {
+				values.set(value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Parses a numeric value of a field
+	 *
+	 * @param value the value
+	 * @param min lowest allowed value
+	 * @param max highest allowed value
+	 * @param field the whole field, for the error message
+	 * @return the value
+	 * @throws IllegalArgumentException if the value is not a number within the bounds
+	 */
+	private static int parseValue(String value, int min, int max, String field) {
+		try {
+			int number = Integer.parseInt(value);
+			if (number < min || number > max) {
+				throw new IllegalArgumentException("Value " + number + " is out of range [" + min + "-" + max + "] in cron field: " + field);
+			}
+			return number;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid value in cron field: " + field, e);
+		}
+	}
+}
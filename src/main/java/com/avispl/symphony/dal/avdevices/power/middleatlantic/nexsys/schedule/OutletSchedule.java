@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.OutletActionEnum;
+
+/**
+ * OutletSchedule is one scheduled outlet action, written as {@code Outlet<n>=<On|Off|Cycle>@<cron expression>},
+ * for example {@code Outlet3=Cycle@30 2 * * *}. It also holds the next fire time and the outcome of the last run.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class OutletSchedule {
+	private static final String OUTLET = "Outlet";
+
+	private final String definition;
+	private final int outlet;
+	private final OutletActionEnum action;
+	private final CronExpression cronExpression;
+	private volatile long nextFireTime;
+	private volatile long lastFireTime;
+	private volatile String lastResult;
+	private TimingWheel.Timeout timeout;
+
+	/**
+	 * Parses a schedule definition
+	 *
+	 * @param definition the definition, {@code Outlet<n>=<action>@<cron expression>}
+	 * @param outletCount number of outlets of the device
+	 * @throws IllegalArgumentException if the definition is invalid
+	 */
+	public OutletSchedule(String definition, int outletCount) {
+		this.definition = definition.trim();
+		int equals = this.definition.indexOf('=');
+		int at = this.definition.indexOf('@');
+		if (equals < 0 || at < equals) {
+			throw new IllegalArgumentException("The outlet schedule must look like Outlet<n>=<On|Off|Cycle>@<cron expression>: " + definition);
+		}
+		String outletName = this.definition.substring(0, equals).trim();
+		if (!outletName.regionMatches(true, 0, OUTLET, 0, OUTLET.length())) {
+			throw new IllegalArgumentException("Invalid outlet in schedule: " + definition);
+		}
+		try {
+			outlet = Integer.parseInt(outletName.substring(OUTLET.length()));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid outlet in schedule: " + definition, e);
+		}
+		if (outlet < 1 || outlet > outletCount) {
+			throw new IllegalArgumentException("The outlet must be between 1 and " + outletCount + ": " + definition);
+		}
+		action = OutletActionEnum.getByName(this.definition.substring(equals + 1, at).trim());
+		cronExpression = new CronExpression(this.definition.substring(at + 1));
+	}
+
+	/**
+	 * Retrieves {@link #definition}
+	 *
+	 * @return value of {@link #definition}
+	 */
+	public String getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Retrieves {@link #outlet}
+	 *
+	 * @return value of {@link #outlet}
+	 */
+	public int getOutlet() {
+		return outlet;
+	}
+
+	/**
+	 * Retrieves {@link #action}
+	 *
+	 * @return value of {@link #action}
+	 */
+	public OutletActionEnum getAction() {
+		return action;
+	}
+
+	/**
+	 * Retrieves {@link #cronExpression}
+	 *
+	 * @return value of {@link #cronExpression}
+	 */
+	public CronExpression getCronExpression() {
+		return cronExpression;
+	}
+
+	/**
+	 * Retrieves {@link #nextFireTime}
+	 *
+	 * @return value of {@link #nextFireTime}, in epoch milliseconds, 0 if the schedule is not armed
+	 */
+	public long getNextFireTime() {
+		return nextFireTime;
+	}
+
+	/**
+	 * Sets {@link #nextFireTime} value
+	 *
+	 * @param nextFireTime new value of {@link #nextFireTime}
+	 */
+	public void setNextFireTime(long nextFireTime) {
+		this.nextFireTime = nextFireTime;
+	}
+
+	/**
+	 * Retrieves {@link #lastFireTime}
+	 *
+	 * @return value of {@link #lastFireTime}, in epoch milliseconds, 0 if the schedule never ran
+	 */
+	public long getLastFireTime() {
+		return lastFireTime;
+	}
+
+	/**
+	 * Sets {@link #lastFireTime} value
+	 *
+	 * @param lastFireTime new value of {@link #lastFireTime}
+	 */
+	public void setLastFireTime(long lastFireTime) {
+		this.lastFireTime = lastFireTime;
+	}
+
+	/**
+	 * Retrieves {@link #lastResult}
+	 *
+	 * @return value of {@link #lastResult}, null if the schedule never ran
+	 */
+	public String getLastResult() {
+		return lastResult;
+	}
+
+	/**
+	 * Sets {@link #lastResult} value
+	 *
+	 * @param lastResult new value of {@link #lastResult}
+	 */
+	public void setLastResult(String lastResult) {
+		this.lastResult = lastResult;
+	}
+
+	/**
+	 * Retrieves {@link #timeout}
+	 *
+	 * @return value of {@link #timeout}
+	 */
+	TimingWheel.Timeout getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Sets {@link #timeout} value
+	 *
+	 * @param timeout new value of {@link #timeout}
+	 */
+	void setTimeout(TimingWheel.Timeout timeout) {
+		this.timeout = timeout;
+	}
+}
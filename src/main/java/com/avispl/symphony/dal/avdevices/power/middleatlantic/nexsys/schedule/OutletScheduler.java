@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.OutletActionEnum;
+
+/**
+ * OutletScheduler runs the scheduled outlet actions of one device.
+ * Every schedule is armed on the shared {@link TimingWheel} for its next fire time; when it fires, the action is handed to
+ * the adapter's executor, its outcome is recorded and the schedule is armed again. The last fire time and result of each
+ * schedule are kept in a state file, keyed by the schedule definition, so they survive adapter restarts.
+ * Runs missed while the adapter was down are not caught up.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class OutletScheduler {
+	private static final String SUCCESS = "Success";
+	private static final String FAILED = "Failed: ";
+	private static final String LAST_FIRE_TIME_SUFFIX = ".lastFireTime";
+	private static final String LAST_RESULT_SUFFIX = ".lastResult";
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final TimingWheel timingWheel;
+	private final Executor executor;
+	private final OutletActionHandler actionHandler;
+	private final File stateFile;
+	private final List<OutletSchedule> schedules;
+	private boolean isRunning;
+
+	/**
+	 * Runs an outlet action on the device
+	 */
+	@FunctionalInterface
+	public interface OutletActionHandler {
+		/**
+		 * Runs an outlet action
+		 *
+		 * @param outlet the outlet number, starting at 1
+		 * @param action the action
+		 * @throws Exception if the action failed
+		 */
+		void execute(int outlet, OutletActionEnum action) throws Exception;
+	}
+
+	/**
+	 * Creates a new OutletScheduler
+	 *
+	 * @param timingWheel the wheel the schedules are armed on
+	 * @param executor the executor the actions run on
+	 * @param actionHandler runs the actions on the device
+	 * @param stateFile file keeping the last fire time and result of the schedules, null to keep them in memory only
+	 * @param schedules the schedules
+	 */
+	public OutletScheduler(TimingWheel timingWheel, Executor executor, OutletActionHandler actionHandler, File stateFile, List<OutletSchedule> schedules) {
+		this.timingWheel = timingWheel;
+		this.executor = executor;
+		this.actionHandler = actionHandler;
+		this.stateFile = stateFile;
+		this.schedules = Collections.unmodifiableList(new ArrayList<>(schedules));
+	}
+
+	/**
+	 * Parses a ';' separated list of schedule definitions, see {@link OutletSchedule}
+	 *
+	 * @param definitions the schedule definitions
+	 * @param outletCount number of outlets of the device
+	 * @return the schedules
+	 * @throws IllegalArgumentException if a definition is invalid
+	 */
+	public static List<OutletSchedule> parse(String definitions, int outletCount) {
+		List<OutletSchedule> schedules = new ArrayList<>();
+		for (String definition : definitions.split(";")) {
+			if (!definition.trim().isEmpty()) {
+				schedules.add(new OutletSchedule(definition, outletCount));
+			}
+		}
+		return schedules;
+	}
+
+	/**
+	 * Retrieves {@link #schedules}
+	 *
+	 * @return value of {@link #schedules}
+	 */
+	public List<OutletSchedule> getSchedules() {
+		return schedules;
+	}
+
+	/**
+	 * Restores the persisted state and arms every schedule
+	 */
+	public synchronized void start() {
+		if (isRunning) {
+			return;
+		}
+		isRunning = true;
+		loadState();
+		for (OutletSchedule schedule : schedules) {
+			arm(schedule);
+		}
+	}
+
+	/**
+	 * Disarms every schedule, an action already handed to the executor still completes
+	 */
+	public synchronized void stop() {
+		isRunning = false;
+		for (OutletSchedule schedule : schedules) {
+			if (schedule.getTimeout() != null) {
+				schedule.getTimeout().cancel();
+				schedule.setTimeout(null);
+			}
+			schedule.setNextFireTime(0);
+		}
+	}
+
+	/**
+	 * Arms a schedule for its next fire time
+	 *
+	 * @param schedule the schedule
+	 */
+	private void arm(OutletSchedule schedule) {
+		ZonedDateTime next = schedule.getCronExpression().next(ZonedDateTime.now(ZoneId.systemDefault()));
+		if (next == null) {
+			schedule.setNextFireTime(0);
+			logger.warn("The outlet schedule " + schedule.getDefinition() + " never fires");
+			return;
+		}
+		long nextFireTime = next.toInstant().toEpochMilli();
+		schedule.setNextFireTime(nextFireTime);
+		schedule.setTimeout(timingWheel.schedule(nextFireTime, () -> executor.execute(() -> fire(schedule))));
+	}
+
+	/**
+	 * Runs the action of a schedule, records its outcome and arms the schedule again
+	 *
+	 * @param schedule the schedule
+	 */
+	private void fire(OutletSchedule schedule) {
+		synchronized (this) {
+			if (!isRunning) {
+				return;
+			}
+		}
+		String result;
+		try {
+			actionHandler.execute(schedule.getOutlet(), schedule.getAction());
+			result = SUCCESS;
+		} catch (Exception e) {
+			result = FAILED + e.getMessage();
+			logger.error("Error while running the outlet schedule " + schedule.getDefinition() + ": " + e.getMessage(), e);
+		}
+		synchronized (this) {
+			schedule.setLastFireTime(System.currentTimeMillis());
+			schedule.setLastResult(result);
+			saveState();
+			if (isRunning) {
+				arm(schedule);
+			}
+		}
+	}
+
+	/**
+	 * Loads the last fire time and result of the schedules from {@link #stateFile}
+	 */
+	private void loadState() {
+		if (stateFile == null || !stateFile.exists()) {
+			return;
+		}
+		Properties state = new Properties();
+		try (InputStream inputStream = new FileInputStream(stateFile)) {
+			state.load(inputStream);
+		} catch (IOException e) {
+			logger.error("Error while reading the outlet schedule state file " + stateFile + ": " + e.getMessage(), e);
+			return;
+		}
+		for (OutletSchedule schedule : schedules) {
+			String lastFireTime = state.getProperty(schedule.getDefinition() + LAST_FIRE_TIME_SUFFIX);
+			if (lastFireTime != null) {
+				try {
+					schedule.setLastFireTime(Instant.parse(lastFireTime).toEpochMilli());
+				} catch (Exception e) {
+					logger.warn("Ignoring the invalid last fire time " + lastFireTime + " of the outlet schedule " + schedule.getDefinition());
+				}
+			}
+			schedule.setLastResult(state.getProperty(schedule.getDefinition() + LAST_RESULT_SUFFIX));
+		}
+	}
+
+	/**
+	 * Writes the last fire time and result of the schedules to {@link #stateFile}, replacing it atomically
+	 */
+	private void saveState() {
+		if (stateFile == null) {
+			return;
+		}
+		Properties state = new Properties();
+		for (OutletSchedule schedule : schedules) {
+			if (schedule.getLastResult() != null) {
+				state.setProperty(schedule.getDefinition() + LAST_FIRE_TIME_SUFFIX, Instant.ofEpochMilli(schedule.getLastFireTime()).toString());
+				state.setProperty(schedule.getDefinition() + LAST_RESULT_SUFFIX, schedule.getLastResult());
+			}
+		}
+		File temporaryFile = new File(stateFile.getPath() + ".tmp");
+		try {
+			try (OutputStream outputStream = new FileOutputStream(temporaryFile)) {
+				state.store(outputStream, "NEXSYS outlet schedule state");
+			}
+			Files.move(temporaryFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.error("Error while writing the outlet schedule state file " + stateFile + ": " + e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,329 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * TimingWheel is a hierarchical timing wheel shared by every adapter instance of the JVM.
+ * Each level has {@link #WHEEL_SIZE} buckets; a bucket of level n spans {@code WHEEL_SIZE^n} ticks, so with one second ticks
+ * four levels cover about 194 days. Buckets are intrusive doubly-linked lists of their timeouts, so scheduling and
+ * cancelling are O(1) whatever the bucket holds, a tick only touches the buckets that are due, and
+ * timeouts cascade down one level at a time as their deadline gets closer. The single ticker thread sleeps while no
+ * timeout is pending, so idle schedules cost nothing but their bucket entry.
+ * Expired tasks run on the ticker thread and must only hand their work off to another executor.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TimingWheel {
+	private static final long TICK_MILLIS = 1000;
+	private static final int WHEEL_SIZE = 64;
+	private static final int LEVELS = 4;
+	private static final TimingWheel SHARED = new TimingWheel();
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final LongSupplier clock;
+	private final boolean isTickerEnabled;
+	private final long[] levelSpans = new long[LEVELS + 1];
+	private final Bucket[] buckets = new Bucket[LEVELS * WHEEL_SIZE];
+	private long currentTick;
+	private int pending;
+	private Thread ticker;
+
+	/**
+	 * Creates a new TimingWheel driven by the wall clock and its own ticker thread
+	 */
+	private TimingWheel() {
+		this(System::currentTimeMillis, true);
+	}
+
+	/**
+	 * Creates a new TimingWheel
+	 *
+	 * @param clock supplies the current time in epoch milliseconds
+	 * @param isTickerEnabled false to leave the ticks to {@link #tick()} calls, as tests do
+	 */
+	TimingWheel(LongSupplier clock, boolean isTickerEnabled) {
+		this.clock = clock;
+		this.isTickerEnabled = isTickerEnabled;
+		levelSpans[0] = 1;
+		for (int level = 1; level <= LEVELS; level++) {
+			levelSpans[level] = levelSpans[level - 1] * WHEEL_SIZE;
+		}
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new Bucket();
+		}
+	}
+
+	/**
+	 * Retrieves the wheel shared by all adapters
+	 *
+	 * @return the shared wheel
+	 */
+	public static TimingWheel shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Schedules a task at a wall clock time, rounded up to the next tick
+	 *
+	 * @param deadlineMillis the time to run the task at, in epoch milliseconds
+	 * @param task the task, run on the ticker thread
+	 * @return a handle to cancel the task
+	 */
+	public synchronized Timeout schedule(long deadlineMillis, Runnable task) {
+		Timeout timeout = new Timeout(this, (deadlineMillis + TICK_MILLIS - 1) / TICK_MILLIS, task);
+		if (pending == 0) {
+			currentTick = clock.getAsLong() / TICK_MILLIS;
+		}
+		pending++;
+		if (!place(timeout)) {
+			add(timeout, 0, (currentTick + 1) % WHEEL_SIZE);
+		}
+		if (ticker == null && isTickerEnabled) {
+			ticker = new Thread(this::run, "nexsys-timing-wheel");
+			ticker.setDaemon(true);
+			ticker.start();
+		}
+		notifyAll();
+		return timeout;
+	}
+
+	/**
+	 * Retrieves the number of timeouts waiting in the wheel
+	 *
+	 * @return the pending timeout count
+	 */
+	synchronized int getPending() {
+		return pending;
+	}
+
+	/**
+	 * Removes a timeout from its bucket
+	 *
+	 * @param timeout the timeout
+	 */
+	private synchronized void cancel(Timeout timeout) {
+		if (timeout.bucket != null) {
+			timeout.bucket.remove(timeout);
+			pending--;
+		}
+	}
+
+	/**
+	 * Puts a timeout in the bucket matching its distance to {@link #currentTick}
+	 *
+	 * @param timeout the timeout
+	 * @return false if the timeout is already due
+	 */
+	private boolean place(Timeout timeout) {
+		long delta = timeout.deadlineTick - currentTick;
+		if (delta <= 0) {
+			return false;
+		}
+		for (int level = 0; level < LEVELS; level++) {
+			if (delta < levelSpans[level + 1]) {
+				add(timeout, level, (timeout.deadlineTick / levelSpans[level]) % WHEEL_SIZE);
+				return true;
+			}
+		}
+		long furthestTick = currentTick + levelSpans[LEVELS] - 1;
+		add(timeout, LEVELS - 1, (furthestTick / levelSpans[LEVELS - 1]) % WHEEL_SIZE);
+		return true;
+	}
+
+	/**
+	 * Adds a timeout to a bucket
+	 *
+	 * @param timeout the timeout
+	 * @param level the wheel level
+	 * @param slot the bucket index in the level
+	 */
+	private void add(Timeout timeout, int level, long slot) {
+		buckets[level * WHEEL_SIZE + (int) slot].add(timeout);
+	}
+
+	/**
+	 * Ticker loop: waits while nothing is pending, otherwise advances one tick per elapsed tick and runs the due tasks
+	 */
+	private void run() {
+		while (true) {
+			synchronized (this) {
+				try {
+					while (pending == 0) {
+						wait();
+					}
+					long waitMillis = (currentTick + 1) * TICK_MILLIS - clock.getAsLong();
+					if (waitMillis > 0) {
+						wait(waitMillis);
+						continue;
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+			tick();
+		}
+	}
+
+	/**
+	 * Advances the wheel by one tick and runs the tasks that became due, on the calling thread
+	 */
+	void tick() {
+		List<Timeout> due = new ArrayList<>();
+		synchronized (this) {
+			currentTick++;
+			advance(due);
+		}
+		for (Timeout timeout : due) {
+			try {
+				timeout.task.run();
+			} catch (Exception e) {
+				logger.error("Error while running a scheduled task: " + e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Cascades the higher level buckets reaching {@link #currentTick} and collects the timeouts that are due
+	 *
+	 * @param due receives the due timeouts
+	 */
+	private void advance(List<Timeout> due) {
+		for (int level = LEVELS - 1; level > 0; level--) {
+			if (currentTick % levelSpans[level] == 0) {
+				Timeout timeout = buckets[level * WHEEL_SIZE + (int) ((currentTick / levelSpans[level]) % WHEEL_SIZE)].detach();
+				while (timeout != null) {
+					Timeout next = timeout.next;
+					timeout.next = null;
+					if (!place(timeout)) {
+						expire(timeout, due);
+					}
+					timeout = next;
+				}
+			}
+		}
+		Timeout timeout = buckets[(int) (currentTick % WHEEL_SIZE)].detach();
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			timeout.next = null;
+			expire(timeout, due);
+			timeout = next;
+		}
+	}
+
+	/**
+	 * Moves a detached timeout into the due list
+	 *
+	 * @param timeout the timeout
+	 * @param due the due list
+	 */
+	private void expire(Timeout timeout, List<Timeout> due) {
+		pending--;
+		due.add(timeout);
+	}
+
+	/**
+	 * Bucket of a wheel level, an intrusive doubly-linked list threaded through its timeouts
+	 */
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		/**
+		 * Appends a timeout
+		 *
+		 * @param timeout the timeout, not in any bucket
+		 */
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			timeout.previous = tail;
+			timeout.next = null;
+			if (tail == null) {
+				head = timeout;
+			} else {
+				tail.next = timeout;
+			}
+			tail = timeout;
+		}
+
+		/**
+		 * Unlinks a timeout of this bucket
+		 *
+		 * @param timeout the timeout
+		 */
+		void remove(Timeout timeout) {
+			if (timeout.previous == null) {
+				head = timeout.next;
+			} else {
+				timeout.previous.next = timeout.next;
+			}
+			if (timeout.next == null) {
+				tail = timeout.previous;
+			} else {
+				timeout.next.previous = timeout.previous;
+			}
+			timeout.bucket = null;
+			timeout.previous = null;
+			timeout.next = null;
+		}
+
+		/**
+		 * Empties the bucket, leaving its timeouts chained through {@link Timeout#next} for the caller to walk
+		 *
+		 * @return the first timeout of the chain, null if the bucket was empty
+		 */
+		Timeout detach() {
+			Timeout first = head;
+			for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+				timeout.bucket = null;
+				timeout.previous = null;
+			}
+			head = null;
+			tail = null;
+			return first;
+		}
+	}
+
+	/**
+	 * Handle of a task scheduled on a {@link TimingWheel}
+	 */
+	public static final class Timeout {
+		private final TimingWheel wheel;
+		private final long deadlineTick;
+		private final Runnable task;
+		private Bucket bucket;
+		private Timeout previous;
+		private Timeout next;
+
+		/**
+		 * Creates a new Timeout
+		 *
+		 * @param wheel the wheel it is scheduled on
+		 * @param deadlineTick the tick it expires at
+		 * @param task the task to run
+		 */
+		private Timeout(TimingWheel wheel, long deadlineTick, Runnable task) {
+			this.wheel = wheel;
+			this.deadlineTick = deadlineTick;
+			this.task = task;
+		}
+
+		/**
+		 * Cancels the task if it did not run yet
+		 */
+		public void cancel() {
+			wheel.cancel(this);
+		}
+	}
+}
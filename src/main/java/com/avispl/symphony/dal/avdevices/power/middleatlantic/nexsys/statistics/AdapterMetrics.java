@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * AdapterMetrics collects measurements of the adapter itself, to tell a slow device apart from lock contention or
+ * allocation pressure in the adapter: lock wait and hold times, monitoring cycle and parse durations, bytes allocated by a
+ * cycle and failed monitoring commands. Recording is a few field updates per call and times come from
+ * {@link System#nanoTime()}; allocated bytes come from the HotSpot {@link com.sun.management.ThreadMXBean} and are
+ * reported as unknown on JVMs that do not support it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AdapterMetrics {
+	/**
+	 * Value of a measurement that is not available
+	 */
+	public static final long UNKNOWN = -1;
+
+	private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+	private long lockWait = UNKNOWN;
+	private long maxLockWait = UNKNOWN;
+	private long lockHold = UNKNOWN;
+	private long maxLockHold = UNKNOWN;
+	private long cycleDuration = UNKNOWN;
+	private long parseDuration = UNKNOWN;
+	private long allocatedBytes = UNKNOWN;
+	private int failedCommands;
+	private long totalFailedCommands;
+
+	/**
+	 * Retrieves the number of bytes allocated so far by the current thread
+	 *
+	 * @return allocated bytes, {@link #UNKNOWN} if the JVM does not measure them
+	 */
+	public static long currentThreadAllocatedBytes() {
+		return ALLOCATION_BEAN == null ? UNKNOWN : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Records the time a caller waited for the lock
+	 *
+	 * @param nanos wait time in nanoseconds
+	 */
+	public synchronized void recordLockWait(long nanos) {
+		lockWait = nanos;
+		maxLockWait = Math.max(maxLockWait, nanos);
+	}
+
+	/**
+	 * Records the time a caller held the lock
+	 *
+	 * @param nanos hold time in nanoseconds
+	 */
+	public synchronized void recordLockHold(long nanos) {
+		lockHold = nanos;
+		maxLockHold = Math.max(maxLockHold, nanos);
+	}
+
+	/**
+	 * Records a completed monitoring cycle
+	 *
+	 * @param durationNanos duration of the whole cycle, lock wait included, in nanoseconds
+	 * @param parseNanos time spent parsing device responses, in nanoseconds
+	 * @param allocated bytes allocated by the cycle, {@link #UNKNOWN} if not measured
+	 * @param failed number of monitoring commands that failed
+	 */
+	public synchronized void recordCycle(long durationNanos, long parseNanos, long allocated, int failed) {
+		cycleDuration = durationNanos;
+		parseDuration = parseNanos;
+		allocatedBytes = allocated;
+		failedCommands = failed;
+		totalFailedCommands += failed;
+	}
+
+	/**
+	 * Retrieves the last lock wait time
+	 *
+	 * @return wait time in nanoseconds, {@link #UNKNOWN} if none was recorded
+	 */
+	public synchronized long getLockWait() {
+		return lockWait;
+	}
+
+	/**
+	 * Retrieves the longest lock wait time
+	 *
+	 * @return wait time in nanoseconds, {@link #UNKNOWN} if none was recorded
+	 */
+	public synchronized long getMaxLockWait() {
+		return maxLockWait;
+	}
+
+	/**
+	 * Retrieves the last lock hold time
+	 *
+	 * @return hold time in nanoseconds, {@link #UNKNOWN} if none was recorded
+	 */
+	public synchronized long getLockHold() {
+		return lockHold;
+	}
+
+	/**
+	 * Retrieves the longest lock hold time
+	 *
+	 * @return hold time in nanoseconds, {@link #UNKNOWN} if none was recorded
+	 */
+	public synchronized long getMaxLockHold() {
+		return maxLockHold;
+	}
+
+	/**
+	 * Retrieves the duration of the last monitoring cycle
+	 *
+	 * @return duration in nanoseconds, {@link #UNKNOWN} if no cycle completed
+	 */
+	public synchronized long getCycleDuration() {
+		return cycleDuration;
+	}
+
+	/**
+	 * Retrieves the parse time of the last monitoring cycle
+	 *
+	 * @return parse time in nanoseconds, {@link #UNKNOWN} if no cycle completed
+	 */
+	public synchronized long getParseDuration() {
+		return parseDuration;
+	}
+
+	/**
+	 * Retrieves the bytes allocated by the last monitoring cycle
+	 *
+	 * @return allocated bytes, {@link #UNKNOWN} if not measured
+	 */
+	public synchronized long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/**
+	 * Retrieves the number of failed commands of the last monitoring cycle
+	 *
+	 * @return failed command count
+	 */
+	public synchronized int getFailedCommands() {
+		return failedCommands;
+	}
+
+	/**
+	 * Retrieves the number of failed commands since the adapter started
+	 *
+	 * @return failed command count
+	 */
+	public synchronized long getTotalFailedCommands() {
+		return totalFailedCommands;
+	}
+
+	/**
+	 * Retrieves the bean measuring per-thread allocation, enabling the measurement if needed
+	 *
+	 * @return the bean, or null if the JVM does not support the measurement
+	 */
+	private static com.sun.management.ThreadMXBean getAllocationBean() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+				if (allocationBean.isThreadAllocatedMemorySupported()) {
+					if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+						allocationBean.setThreadAllocatedMemoryEnabled(true);
+					}
+					return allocationBean;
+				}
+			}
+		} catch (LinkageError | RuntimeException e) {
+			// Not a HotSpot JVM, allocation is reported as unknown
+		}
+		return null;
+	}
+}
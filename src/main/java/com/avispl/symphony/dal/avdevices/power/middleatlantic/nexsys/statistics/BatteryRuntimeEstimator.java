@@ -0,0 +1,279 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+/**
+ * BatteryRuntimeEstimator predicts the remaining battery runtime of a UPS while it runs on battery.
+ * Two least-squares fits are maintained incrementally over the on-battery time: battery capacity (%) and battery voltage (V).
+ * Each fit gives a time to exhaustion (capacity reaching 0%, voltage reaching the end-of-discharge voltage), scaled by the
+ * ratio between the current output power and the average power of the discharge, so a load change is reflected immediately.
+ * The average power is taken over the part of the discharge the estimator observed, which starts at the first sample it
+ * received, usually some time after the UPS switched to battery.
+ * The two predictions are combined by inverse variance and the confidence band is derived from the fit errors and from the
+ * disagreement between both predictions.
+ * Every update is O(1) and the estimator keeps a constant amount of state, so one instance per device is cheap.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class BatteryRuntimeEstimator {
+	/**
+	 * End-of-discharge voltage relative to the voltage at the start of the discharge (about 10.5V of 12.6V per 12V block)
+	 */
+	private static final double CUTOFF_VOLTAGE_RATIO = 0.83;
+
+	/**
+	 * z-score of the reported confidence band (95%)
+	 */
+	private static final double CONFIDENCE_Z = 1.96;
+
+	/**
+	 * Minimum number of samples before an estimate is published
+	 */
+	private static final int MIN_SAMPLES = 3;
+
+	private final LinearFit capacityFit = new LinearFit();
+	private final LinearFit voltageFit = new LinearFit();
+	private boolean discharging;
+	private long firstOnBatteryTime;
+	private long lastOnBatteryTime;
+	private double lastPower;
+	private double energy;
+	private double initialVoltage;
+	private double estimate = Double.NaN;
+	private double lower = Double.NaN;
+	private double upper = Double.NaN;
+
+	/**
+	 * Feeds one poll of telemetry into the estimator
+	 *
+	 * @param onBattery true if the output source is the battery
+	 * @param capacity battery capacity in %
+	 * @param voltage battery voltage in V
+	 * @param onBatteryTime seconds spent on battery as reported by the UPS
+	 * @param power output power in W
+	 */
+	public synchronized void update(boolean onBattery, double capacity, double voltage, long onBatteryTime, double power) {
+		if (!onBattery) {
+			reset();
+			return;
+		}
+		if (!discharging || onBatteryTime < lastOnBatteryTime) {
+			reset();
+			discharging = true;
+			firstOnBatteryTime = onBatteryTime;
+			initialVoltage = voltage;
+		} else {
+			energy += (power + lastPower) / 2 * (onBatteryTime - lastOnBatteryTime);
+		}
+		lastOnBatteryTime = onBatteryTime;
+		lastPower = power;
+		capacityFit.add(onBatteryTime, capacity);
+		voltageFit.add(onBatteryTime, voltage);
+		computeEstimate(capacity, voltage, onBatteryTime, power);
+	}
+
+	/**
+	 * Clears the discharge state, used when the UPS goes back to input power
+	 */
+	public synchronized void reset() {
+		capacityFit.clear();
+		voltageFit.clear();
+		discharging = false;
+		firstOnBatteryTime = 0;
+		lastOnBatteryTime = 0;
+		lastPower = 0;
+		energy = 0;
+		initialVoltage = 0;
+		estimate = Double.NaN;
+		lower = Double.NaN;
+		upper = Double.NaN;
+	}
+
+	/**
+	 * Checks whether an estimate is available
+	 *
+	 * @return true if the UPS is discharging and enough samples were collected
+	 */
+	public synchronized boolean hasEstimate() {
+		return !Double.isNaN(estimate);
+	}
+
+	/**
+	 * Retrieves the predicted remaining runtime
+	 *
+	 * @return predicted remaining runtime in seconds, NaN if not available
+	 */
+	public synchronized double getEstimate() {
+		return estimate;
+	}
+
+	/**
+	 * Retrieves the lower bound of the confidence band
+	 *
+	 * @return lower bound of the remaining runtime in seconds, NaN if not available
+	 */
+	public synchronized double getLower() {
+		return lower;
+	}
+
+	/**
+	 * Retrieves the upper bound of the confidence band
+	 *
+	 * @return upper bound of the remaining runtime in seconds, NaN if not available
+	 */
+	public synchronized double getUpper() {
+		return upper;
+	}
+
+	/**
+	 * Recomputes the estimate and its confidence band from both fits
+	 *
+	 * @param capacity latest battery capacity in %
+	 * @param voltage latest battery voltage in V
+	 * @param onBatteryTime latest on-battery time in seconds
+	 * @param power latest output power in W
+	 */
+	private void computeEstimate(double capacity, double voltage, long onBatteryTime, double power) {
+		estimate = Double.NaN;
+		lower = Double.NaN;
+		upper = Double.NaN;
+		if (capacityFit.count() < MIN_SAMPLES) {
+			return;
+		}
+		double loadFactor = 1;
+		long observedTime = onBatteryTime - firstOnBatteryTime;
+		if (observedTime > 0 && energy > 0 && power > 0) {
+			loadFactor = power / (energy / observedTime);
+		}
+		double[] byCapacity = timeToReach(capacityFit, capacity, 0, loadFactor);
+		double[] byVoltage = timeToReach(voltageFit, voltage, initialVoltage * CUTOFF_VOLTAGE_RATIO, loadFactor);
+		if (byCapacity == null && byVoltage == null) {
+			return;
+		}
+		double variance;
+		if (byCapacity == null || byVoltage == null) {
+			double[] only = byCapacity == null ? byVoltage : byCapacity;
+			estimate = only[0];
+			variance = only[1];
+		} else {
+			double capacityWeight = 1 / Math.max(byCapacity[1], 1);
+			double voltageWeight = 1 / Math.max(byVoltage[1], 1);
+			estimate = (byCapacity[0] * capacityWeight + byVoltage[0] * voltageWeight) / (capacityWeight + voltageWeight);
+			double spread = (byCapacity[0] - byVoltage[0]) / 2;
+			variance = 1 / (capacityWeight + voltageWeight) + spread * spread;
+		}
+		double margin = CONFIDENCE_Z * Math.sqrt(variance);
+		lower = Math.max(0, estimate - margin);
+		upper = estimate + margin;
+	}
+
+	/**
+	 * Computes the time until a fitted quantity decreases from its current value to a target value
+	 *
+	 * @param fit the fit of the quantity over time
+	 * @param current the current value
+	 * @param target the value at which the battery is considered empty
+	 * @param loadFactor current power relative to the average power of the discharge
+	 * @return the time in seconds and its variance, or null if the quantity is not decreasing
+	 */
+	private double[] timeToReach(LinearFit fit, double current, double target, double loadFactor) {
+		double slope = fit.slope();
+		if (Double.isNaN(slope) || slope >= 0 || current <= target) {
+			return null;
+		}
+		double rate = -slope * loadFactor;
+		double time = (current - target) / rate;
+		double relativeError = fit.slopeStandardError() / -slope;
+		if (Double.isNaN(relativeError)) {
+			relativeError = 0;
+		}
+		return new double[] { time, time * time * relativeError * relativeError };
+	}
+
+	/**
+	 * LinearFit is an ordinary least-squares line kept as running sums, relative to the first x value for numerical stability
+	 */
+	private static class LinearFit {
+		private long n;
+		private double x0;
+		private double sumX;
+		private double sumY;
+		private double sumXX;
+		private double sumXY;
+		private double sumYY;
+
+		/**
+		 * Adds one sample
+		 *
+		 * @param x sample abscissa
+		 * @param y sample value
+		 */
+		void add(double x, double y) {
+			if (n == 0) {
+				x0 = x;
+			}
+			double dx = x - x0;
+			n++;
+			sumX += dx;
+			sumY += y;
+			sumXX += dx * dx;
+			sumXY += dx * y;
+			sumYY += y * y;
+		}
+
+		/**
+		 * Removes every sample
+		 */
+		void clear() {
+			n = 0;
+			x0 = 0;
+			sumX = 0;
+			sumY = 0;
+			sumXX = 0;
+			sumXY = 0;
+			sumYY = 0;
+		}
+
+		/**
+		 * Retrieves the number of samples
+		 *
+		 * @return number of samples
+		 */
+		long count() {
+			return n;
+		}
+
+		/**
+		 * Computes the slope of the fitted line
+		 *
+		 * @return slope, NaN if all samples share the same x
+		 */
+		double slope() {
+			double sxx = sumXX - sumX * sumX / n;
+			if (n < 2 || sxx <= 0) {
+				return Double.NaN;
+			}
+			return (sumXY - sumX * sumY / n) / sxx;
+		}
+
+		/**
+		 * Computes the standard error of the slope
+		 *
+		 * @return standard error, NaN if there are not enough samples
+		 */
+		double slopeStandardError() {
+			double sxx = sumXX - sumX * sumX / n;
+			if (n < 3 || sxx <= 0) {
+				return Double.NaN;
+			}
+			double sxy = sumXY - sumX * sumY / n;
+			double syy = sumYY - sumY * sumY / n;
+			double residual = Math.max(0, syy - sxy * sxy / sxx);
+			return Math.sqrt(residual / (n - 2) / sxx);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+/**
+ * Deadband is the change a historical value has to make, relative to the last emitted value, before a new point is
+ * emitted. It is either absolute, in the unit of the property, or a percentage of the last emitted value.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class Deadband {
+	private static final String PERCENT = "%";
+
+	private final double threshold;
+	private final boolean isPercent;
+
+	/**
+	 * Creates a new Deadband
+	 *
+	 * @param threshold the threshold, must not be negative
+	 * @param isPercent true if the threshold is a percentage of the last emitted value
+	 */
+	public Deadband(double threshold, boolean isPercent) {
+		if (!(threshold >= 0)) {
+			throw new IllegalArgumentException("The deadband must not be negative: " + threshold);
+		}
+		this.threshold = threshold;
+		this.isPercent = isPercent;
+	}
+
+	/**
+	 * Parses a deadband such as "0.5" (absolute) or "5%" (percent)
+	 *
+	 * @param deadband the deadband definition
+	 * @return the deadband
+	 * @throws IllegalArgumentException if the definition is not a non-negative number with an optional percent sign
+	 */
+	public static Deadband parse(String deadband) {
+		String definition = deadband.trim();
+		boolean isPercent = definition.endsWith(PERCENT);
+		if (isPercent) {
+			definition = definition.substring(0, definition.length() - PERCENT.length()).trim();
+		}
+		return new Deadband(Double.parseDouble(definition), isPercent);
+	}
+
+	/**
+	 * Checks whether a value moved past the deadband
+	 *
+	 * @param reference the last emitted value
+	 * @param value the new value
+	 * @return true if the difference is larger than the deadband
+	 */
+	public boolean isExceeded(double reference, double value) {
+		double difference = Math.abs(value - reference);
+		return isPercent ? difference > Math.abs(reference) * threshold / 100 : difference > threshold;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return isPercent ? threshold + PERCENT : String.valueOf(threshold);
+	}
+}
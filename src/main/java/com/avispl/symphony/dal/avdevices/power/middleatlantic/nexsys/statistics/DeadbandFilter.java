@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DeadbandFilter decides which historical values are emitted as new points.
+ * A value is emitted when it is the first of its property, when it moved past the property's {@link Deadband} since the
+ * last emitted value, or when the heartbeat interval elapsed since the last emitted value, so a flat signal still gets a
+ * point at least once per heartbeat. Values that are not numbers are emitted whenever they change.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeadbandFilter {
+	private final Map<String, EmittedValue> emittedValues = new HashMap<>();
+
+	/**
+	 * Checks whether a value is emitted, and records it as the last emitted value if so
+	 *
+	 * @param propertyName the property name
+	 * @param value the new value
+	 * @param deadband the deadband of the property, null to emit every value
+	 * @param heartbeatNanos longest interval between two emitted values
+	 * @param now current time, from {@link System#nanoTime()}
+	 * @return true if the value has to be emitted
+	 */
+	public synchronized boolean shouldEmit(String propertyName, String value, Deadband deadband, long heartbeatNanos, long now) {
+		EmittedValue last = emittedValues.get(propertyName);
+		boolean emit = deadband == null || last == null || now - last.time >= heartbeatNanos || isChanged(last.value, value, deadband);
+		if (emit) {
+			emittedValues.put(propertyName, new EmittedValue(value, now));
+		}
+		return emit;
+	}
+
+	/**
+	 * Forgets the emitted values, so the next value of every property is emitted
+	 */
+	public synchronized void clear() {
+		emittedValues.clear();
+	}
+
+	/**
+	 * Compares a value with the last emitted one
+	 *
+	 * @param reference the last emitted value
+	 * @param value the new value
+	 * @param deadband the deadband of the property
+	 * @return true if the value moved past the deadband, or changed if the values are not numbers
+	 */
+	private boolean isChanged(String reference, String value, Deadband deadband) {
+		try {
+			return deadband.isExceeded(Double.parseDouble(reference), Double.parseDouble(value));
+		} catch (NumberFormatException e) {
+			return !reference.equals(value);
+		}
+	}
+
+	/**
+	 * Last emitted value of a property
+	 */
+	private static final class EmittedValue {
+		private final String value;
+		private final long time;
+
+		/**
+		 * Creates a new EmittedValue
+		 *
+		 * @param value the value
+		 * @param time emission time, from {@link System#nanoTime()}
+		 */
+		private EmittedValue(String value, long time) {
+			this.value = value;
+			this.time = time;
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * EnergyAccumulator integrates the output power of a UPS into energy counters.
+ * Each poll adds the trapezoid between the previous and the current power sample over the time elapsed on the monotonic
+ * clock, so the result does not depend on the poll rate being regular or high. A gap longer than {@link #MAX_GAP_NANOS},
+ * or a poll without a power value, is not integrated: the accumulation restarts from the next sample.
+ * Besides the cumulative energy, the energy of the current and previous day and month is kept, rolled over on the local
+ * calendar. All counters are written to a checkpoint file, at most every {@link #CHECKPOINT_INTERVAL_NANOS} and when the
+ * adapter stops, and read back when it starts, so they survive restarts.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class EnergyAccumulator {
+	/**
+	 * Longest interval between two samples that is still integrated
+	 */
+	private static final long MAX_GAP_NANOS = TimeUnit.MINUTES.toNanos(15);
+
+	/**
+	 * Minimum interval between two checkpoint writes while polling
+	 */
+	private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	/**
+	 * Nanoseconds per hour times watts per kilowatt, to turn W x ns into kWh
+	 */
+	private static final double NANOS_WATTS_PER_KWH = 3.6e12 * 1000;
+
+	private static final String TOTAL = "total";
+	private static final String SINCE = "since";
+	private static final String CURRENT_DAY = "currentDay";
+	private static final String CURRENT_DAY_ENERGY = "currentDayEnergy";
+	private static final String PREVIOUS_DAY_ENERGY = "previousDayEnergy";
+	private static final String CURRENT_MONTH = "currentMonth";
+	private static final String CURRENT_MONTH_ENERGY = "currentMonthEnergy";
+	private static final String PREVIOUS_MONTH_ENERGY = "previousMonthEnergy";
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final File checkpointFile;
+	private final ZoneId zone;
+	private boolean hasLastSample;
+	private long lastSampleTime;
+	private double lastPower;
+	private boolean hasCheckpoint;
+	private long lastCheckpointTime;
+	private long since;
+	private double total;
+	private LocalDate currentDay;
+	private double currentDayEnergy;
+	private double previousDayEnergy;
+	private YearMonth currentMonth;
+	private double currentMonthEnergy;
+	private double previousMonthEnergy;
+
+	/**
+	 * Creates a new EnergyAccumulator
+	 *
+	 * @param checkpointFile file keeping the counters, null to keep them in memory only
+	 * @param zone time zone of the day and month periods
+	 */
+	public EnergyAccumulator(File checkpointFile, ZoneId zone) {
+		this.checkpointFile = checkpointFile;
+		this.zone = zone;
+	}
+
+	/**
+	 * Feeds one poll of output power into the counters
+	 *
+	 * @param time sample time, from {@link System#nanoTime()}
+	 * @param wallTime sample time in milliseconds since the epoch, used for the day and month periods
+	 * @param power output power in W, NaN if unknown
+	 */
+	public synchronized void update(long time, long wallTime, double power) {
+		if (since == 0) {
+			since = wallTime;
+		}
+		rollPeriods(Instant.ofEpochMilli(wallTime).atZone(zone).toLocalDate());
+		if (Double.isNaN(power)) {
+			hasLastSample = false;
+			return;
+		}
+		long elapsed = time - lastSampleTime;
+		if (hasLastSample && elapsed > 0 && elapsed <= MAX_GAP_NANOS) {
+			double energy = (lastPower + power) / 2 * elapsed / NANOS_WATTS_PER_KWH;
+			total += energy;
+			currentDayEnergy += energy;
+			currentMonthEnergy += energy;
+		}
+		hasLastSample = true;
+		lastSampleTime = time;
+		lastPower = power;
+		if (!hasCheckpoint || time - lastCheckpointTime >= CHECKPOINT_INTERVAL_NANOS) {
+			hasCheckpoint = true;
+			lastCheckpointTime = time;
+			save();
+		}
+	}
+
+	/**
+	 * Retrieves the energy accumulated since {@link #getSince()}
+	 *
+	 * @return energy in kWh
+	 */
+	public synchronized double getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retrieves the start of the accumulation
+	 *
+	 * @return milliseconds since the epoch, 0 if nothing was accumulated yet
+	 */
+	public synchronized long getSince() {
+		return since;
+	}
+
+	/**
+	 * Retrieves the energy of the current day
+	 *
+	 * @return energy in kWh
+	 */
+	public synchronized double getCurrentDayEnergy() {
+		return currentDayEnergy;
+	}
+
+	/**
+	 * Retrieves the energy of the previous day
+	 *
+	 * @return energy in kWh
+	 */
+	public synchronized double getPreviousDayEnergy() {
+		return previousDayEnergy;
+	}
+
+	/**
+	 * Retrieves the energy of the current month
+	 *
+	 * @return energy in kWh
+	 */
+	public synchronized double getCurrentMonthEnergy() {
+		return currentMonthEnergy;
+	}
+
+	/**
+	 * Retrieves the energy of the previous month
+	 *
+	 * @return energy in kWh
+	 */
+	public synchronized double getPreviousMonthEnergy() {
+		return previousMonthEnergy;
+	}
+
+	/**
+	 * Reads the counters from the checkpoint file, if it exists
+	 */
+	public synchronized void load() {
+		if (checkpointFile == null || !checkpointFile.exists()) {
+			return;
+		}
+		Properties checkpoint = new Properties();
+		try (InputStream inputStream = new FileInputStream(checkpointFile)) {
+			checkpoint.load(inputStream);
+			since = Instant.parse(checkpoint.getProperty(SINCE)).toEpochMilli();
+			total = Double.parseDouble(checkpoint.getProperty(TOTAL));
+			currentDay = LocalDate.parse(checkpoint.getProperty(CURRENT_DAY));
+			currentDayEnergy = Double.parseDouble(checkpoint.getProperty(CURRENT_DAY_ENERGY));
+			previousDayEnergy = Double.parseDouble(checkpoint.getProperty(PREVIOUS_DAY_ENERGY));
+			currentMonth = YearMonth.parse(checkpoint.getProperty(CURRENT_MONTH));
+			currentMonthEnergy = Double.parseDouble(checkpoint.getProperty(CURRENT_MONTH_ENERGY));
+			previousMonthEnergy = Double.parseDouble(checkpoint.getProperty(PREVIOUS_MONTH_ENERGY));
+		} catch (Exception e) {
+			logger.error("Error while reading the energy checkpoint file " + checkpointFile + ": " + e.getMessage(), e);
+			since = 0;
+			total = 0;
+			currentDay = null;
+			currentDayEnergy = 0;
+			previousDayEnergy = 0;
+			currentMonth = null;
+			currentMonthEnergy = 0;
+			previousMonthEnergy = 0;
+		}
+	}
+
+	/**
+	 * Writes the counters to the checkpoint file, replacing it atomically
+	 */
+	public synchronized void save() {
+		if (checkpointFile == null || since == 0) {
+			return;
+		}
+		Properties checkpoint = new Properties();
+		checkpoint.setProperty(SINCE, Instant.ofEpochMilli(since).toString());
+		checkpoint.setProperty(TOTAL, Double.toString(total));
+		checkpoint.setProperty(CURRENT_DAY, currentDay.toString());
+		checkpoint.setProperty(CURRENT_DAY_ENERGY, Double.toString(currentDayEnergy));
+		checkpoint.setProperty(PREVIOUS_DAY_ENERGY, Double.toString(previousDayEnergy));
+		checkpoint.setProperty(CURRENT_MONTH, currentMonth.toString());
+		checkpoint.setProperty(CURRENT_MONTH_ENERGY, Double.toString(currentMonthEnergy));
+		checkpoint.setProperty(PREVIOUS_MONTH_ENERGY, Double.toString(previousMonthEnergy));
+		File temporaryFile = new File(checkpointFile.getPath() + ".tmp");
+		try {
+			try (OutputStream outputStream = new FileOutputStream(temporaryFile)) {
+				checkpoint.store(outputStream, "NEXSYS energy counters");
+			}
+			Files.move(temporaryFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.error("Error while writing the energy checkpoint file " + checkpointFile + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Moves the day and month counters forward when the sample falls on a later day.
+	 * A counter is only kept as previous if its period directly precedes the new one.
+	 *
+	 * @param day the day of the sample
+	 */
+	private void rollPeriods(LocalDate day) {
+		if (currentDay == null) {
+			currentDay = day;
+			currentMonth = YearMonth.from(day);
+			return;
+		}
+		if (!day.isAfter(currentDay)) {
+			return;
+		}
+		previousDayEnergy = day.equals(currentDay.plusDays(1)) ? currentDayEnergy : 0;
+		currentDayEnergy = 0;
+		currentDay = day;
+		YearMonth month = YearMonth.from(day);
+		if (month.isAfter(currentMonth)) {
+			previousMonthEnergy = month.equals(currentMonth.plusMonths(1)) ? currentMonthEnergy : 0;
+			currentMonthEnergy = 0;
+			currentMonth = month;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.util.ArrayDeque;
+
+/**
+ * SlidingWindowAggregate keeps the minimum, maximum, mean and standard deviation of the samples of the last time window.
+ * Minimum and maximum come from monotonic deques and the mean and deviation from running sums, so adding a sample and
+ * expiring old ones costs amortized O(1) and reading an aggregate costs O(1).
+ * The sums hold the offsets of the samples from a shift value taken in the window, so a small spread around a large value,
+ * such as a mains voltage, does not cancel out in the variance. Once as many updates went through the sums as the window
+ * holds samples, they are rebuilt from the samples around a fresh shift, which bounds the rounding drift of long runs and
+ * follows a level change of the values at an amortized O(1) cost.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SlidingWindowAggregate {
+	private final long windowNanos;
+	private final ArrayDeque<Sample> samples = new ArrayDeque<>();
+	private final ArrayDeque<Sample> minimums = new ArrayDeque<>();
+	private final ArrayDeque<Sample> maximums = new ArrayDeque<>();
+	private double shift;
+	private double sum;
+	private double sumOfSquares;
+	private int updatesSinceRebuild;
+
+	/**
+	 * Creates a new SlidingWindowAggregate
+	 *
+	 * @param windowNanos length of the window in nanoseconds
+	 */
+	public SlidingWindowAggregate(long windowNanos) {
+		this.windowNanos = windowNanos;
+	}
+
+	/**
+	 * Adds a sample and expires the samples that left the window
+	 *
+	 * @param time sample time, from {@link System#nanoTime()}
+	 * @param value sample value
+	 */
+	public void add(long time, double value) {
+		expire(time);
+		Sample sample = new Sample(time, value);
+		if (samples.isEmpty()) {
+			shift = value;
+		}
+		samples.addLast(sample);
+		double offset = value - shift;
+		sum += offset;
+		sumOfSquares += offset * offset;
+		updatesSinceRebuild++;
+		while (!minimums.isEmpty() && minimums.peekLast().value >= value) {
+			minimums.pollLast();
+		}
+		minimums.addLast(sample);
+		while (!maximums.isEmpty() && maximums.peekLast().value <= value) {
+			maximums.pollLast();
+		}
+		maximums.addLast(sample);
+	}
+
+	/**
+	 * Expires the samples that are older than the window
+	 *
+	 * @param now current time, from {@link System#nanoTime()}
+	 */
+	public void expire(long now) {
+		while (!samples.isEmpty() && now - samples.peekFirst().time >= windowNanos) {
+			Sample sample = samples.pollFirst();
+			double offset = sample.value - shift;
+			sum -= offset;
+			sumOfSquares -= offset * offset;
+			updatesSinceRebuild++;
+			if (minimums.peekFirst() == sample) {
+				minimums.pollFirst();
+			}
+			if (maximums.peekFirst() == sample) {
+				maximums.pollFirst();
+			}
+		}
+		if (samples.isEmpty()) {
+			sum = 0;
+			sumOfSquares = 0;
+			updatesSinceRebuild = 0;
+		} else if (updatesSinceRebuild > samples.size()) {
+			rebuildSums();
+		}
+	}
+
+	/**
+	 * Retrieves the number of samples in the window
+	 *
+	 * @return sample count
+	 */
+	public int getCount() {
+		return samples.size();
+	}
+
+	/**
+	 * Retrieves the minimum of the window
+	 *
+	 * @return the minimum, NaN if the window is empty
+	 */
+	public double getMin() {
+		return minimums.isEmpty() ? Double.NaN : minimums.peekFirst().value;
+	}
+
+	/**
+	 * Retrieves the maximum of the window
+	 *
+	 * @return the maximum, NaN if the window is empty
+	 */
+	public double getMax() {
+		return maximums.isEmpty() ? Double.NaN : maximums.peekFirst().value;
+	}
+
+	/**
+	 * Retrieves the mean of the window
+	 *
+	 * @return the mean, NaN if the window is empty
+	 */
+	public double getMean() {
+		return samples.isEmpty() ? Double.NaN : shift + sum / samples.size();
+	}
+
+	/**
+	 * Retrieves the population standard deviation of the window
+	 *
+	 * @return the standard deviation, NaN if the window is empty
+	 */
+	public double getStandardDeviation() {
+		if (samples.isEmpty()) {
+			return Double.NaN;
+		}
+		double meanOffset = sum / samples.size();
+		return Math.sqrt(Math.max(0, sumOfSquares / samples.size() - meanOffset * meanOffset));
+	}
+
+	/**
+	 * Recomputes the running sums from the samples of the window, around the oldest sample
+	 */
+	private void rebuildSums() {
+		shift = samples.peekFirst().value;
+		sum = 0;
+		sumOfSquares = 0;
+		for (Sample sample : samples) {
+			double offset = sample.value - shift;
+			sum += offset;
+			sumOfSquares += offset * offset;
+		}
+		updatesSinceRebuild = 0;
+	}
+
+	/**
+	 * One sample of the window
+	 */
+	private static final class Sample {
+		private final long time;
+		private final double value;
+
+		/**
+		 * Creates a new Sample
+		 *
+		 * @param time sample time, from {@link System#nanoTime()}
+		 * @param value sample value
+		 */
+		private Sample(long time, double value) {
+			this.time = time;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * SnapshotFile keeps the raw device values of the last published snapshot on disk, so an adapter that restarts can serve
+ * statistics and accept controls before its first poll completes. Only the raw values are stored, the replacement dates
+ * included; the statistics and controls are rebuilt from them, which keeps the file small and independent of the
+ * statistics layout. The file is replaced atomically, so a crash while writing leaves the previous snapshot intact.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SnapshotFile {
+	private static final String PUBLISHED_TIME = "publishedTime";
+	private static final String VALUE_PREFIX = "value.";
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final File file;
+
+	/**
+	 * Snapshot read back from a {@link SnapshotFile}
+	 */
+	public static final class Snapshot {
+		private final Map<String, String> values;
+		private final long publishedTime;
+
+		/**
+		 * Creates a new Snapshot
+		 *
+		 * @param values raw device values by property name
+		 * @param publishedTime time the snapshot was published, in epoch milliseconds
+		 */
+		private Snapshot(Map<String, String> values, long publishedTime) {
+			this.values = Collections.unmodifiableMap(values);
+			this.publishedTime = publishedTime;
+		}
+
+		/**
+		 * Retrieves {@link #values}
+		 *
+		 * @return value of {@link #values}, unmodifiable
+		 */
+		public Map<String, String> getValues() {
+			return values;
+		}
+
+		/**
+		 * Retrieves {@link #publishedTime}
+		 *
+		 * @return value of {@link #publishedTime}
+		 */
+		public long getPublishedTime() {
+			return publishedTime;
+		}
+	}
+
+	/**
+	 * Creates a new SnapshotFile
+	 *
+	 * @param file the file
+	 */
+	public SnapshotFile(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Writes a snapshot, replacing the previous one
+	 *
+	 * @param values raw device values by property name
+	 * @param publishedTime time the snapshot was published, in epoch milliseconds
+	 */
+	public synchronized void write(Map<String, String> values, long publishedTime) {
+		Properties snapshot = new Properties();
+		snapshot.setProperty(PUBLISHED_TIME, Instant.ofEpochMilli(publishedTime).toString());
+		for (Map.Entry<String, String> entry : values.entrySet()) {
+			snapshot.setProperty(VALUE_PREFIX + entry.getKey(), entry.getValue());
+		}
+		File temporaryFile = new File(file.getPath() + ".tmp");
+		try {
+			try (OutputStream outputStream = new FileOutputStream(temporaryFile)) {
+				snapshot.store(outputStream, "NEXSYS snapshot");
+			}
+			Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.error("Error while writing the snapshot file " + file + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Reads the last written snapshot
+	 *
+	 * @return the snapshot, or null if there is none or it cannot be read
+	 */
+	public synchronized Snapshot read() {
+		if (!file.exists()) {
+			return null;
+		}
+		Properties snapshot = new Properties();
+		try (InputStream inputStream = new FileInputStream(file)) {
+			snapshot.load(inputStream);
+			long publishedTime = Instant.parse(snapshot.getProperty(PUBLISHED_TIME)).toEpochMilli();
+			Map<String, String> values = new HashMap<>();
+			for (String name : snapshot.stringPropertyNames()) {
+				if (name.startsWith(VALUE_PREFIX)) {
+					values.put(name.substring(VALUE_PREFIX.length()), snapshot.getProperty(name));
+				}
+			}
+			return new Snapshot(values, publishedTime);
+		} catch (Exception e) {
+			logger.error("Error while reading the snapshot file " + file + ": " + e.getMessage(), e);
+			return null;
+		}
+	}
+}
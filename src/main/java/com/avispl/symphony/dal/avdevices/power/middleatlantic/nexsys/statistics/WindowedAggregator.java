@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList;
+
+/**
+ * WindowedAggregator keeps a {@link SlidingWindowAggregate} per tracked property and per window length, so the peaks and
+ * spread between two polls or two Symphony collections remain visible.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class WindowedAggregator {
+	private final int[] windowMinutes;
+	private final Map<UPSPropertiesList, SlidingWindowAggregate[]> aggregates = new EnumMap<>(UPSPropertiesList.class);
+
+	/**
+	 * Creates a new WindowedAggregator
+	 *
+	 * @param windowMinutes the window lengths in minutes
+	 * @param properties the tracked properties
+	 */
+	public WindowedAggregator(int[] windowMinutes, Collection<UPSPropertiesList> properties) {
+		this.windowMinutes = windowMinutes.clone();
+		for (UPSPropertiesList property : properties) {
+			SlidingWindowAggregate[] windows = new SlidingWindowAggregate[windowMinutes.length];
+			for (int i = 0; i < windowMinutes.length; i++) {
+				windows[i] = new SlidingWindowAggregate(TimeUnit.MINUTES.toNanos(windowMinutes[i]));
+			}
+			aggregates.put(property, windows);
+		}
+	}
+
+	/**
+	 * Retrieves the window lengths
+	 *
+	 * @return the window lengths in minutes
+	 */
+	public int[] getWindowMinutes() {
+		return windowMinutes.clone();
+	}
+
+	/**
+	 * Retrieves the tracked properties
+	 *
+	 * @return the tracked properties, in enum order
+	 */
+	public synchronized Collection<UPSPropertiesList> getProperties() {
+		return aggregates.keySet();
+	}
+
+	/**
+	 * Adds a sample of a property to all its windows
+	 *
+	 * @param property the property
+	 * @param time sample time, from {@link System#nanoTime()}
+	 * @param value sample value
+	 */
+	public synchronized void add(UPSPropertiesList property, long time, double value) {
+		SlidingWindowAggregate[] windows = aggregates.get(property);
+		if (windows != null) {
+			for (SlidingWindowAggregate window : windows) {
+				window.add(time, value);
+			}
+		}
+	}
+
+	/**
+	 * Expires old samples of a property that got no new sample
+	 *
+	 * @param property the property
+	 * @param now current time, from {@link System#nanoTime()}
+	 */
+	public synchronized void expire(UPSPropertiesList property, long now) {
+		SlidingWindowAggregate[] windows = aggregates.get(property);
+		if (windows != null) {
+			for (SlidingWindowAggregate window : windows) {
+				window.expire(now);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the aggregate of a property over one window
+	 *
+	 * @param property the property
+	 * @param windowIndex index of the window in {@link #getWindowMinutes()}
+	 * @return the aggregate, or null if the property is not tracked
+	 */
+	public synchronized SlidingWindowAggregate getAggregate(UPSPropertiesList property, int windowIndex) {
+		SlidingWindowAggregate[] windows = aggregates.get(property);
+		return windows == null ? null : windows[windowIndex];
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * CommandRateLimiter paces the frames sent to a device with a token bucket.
+ * The bucket holds up to {@code burst} tokens and refills at {@code rate} tokens per second; every frame takes one token.
+ * When the bucket is empty the caller reserves the next free token and sleeps until that token is due, so frames are never
+ * rejected by the limiter itself, and the burst lets up to {@code burst} frames go back to back after the device was idle.
+ * Frames are sent under their channel lock, so the caller sleeps for its token while holding that lock. One limiter is
+ * shared by every channel of the device, so with a dedicated control channel a monitoring and a control caller can wait in
+ * the limiter at the same time, while other callers queue on the channel locks. The queue depth therefore counts both:
+ * the callers waiting in the limiter, and those the lock waiter supplier reports.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CommandRateLimiter {
+	private final double nanosPerToken;
+	private final double burst;
+	private final IntSupplier lockWaiters;
+	private final AtomicInteger limiterWaiters = new AtomicInteger();
+	private final AtomicLong throttledCommands = new AtomicLong();
+	private final AtomicLong throttledNanos = new AtomicLong();
+	private double storedTokens;
+	private long nextFreeNanos;
+	private int maxQueueDepth;
+
+	/**
+	 * Creates a new CommandRateLimiter whose callers do not queue anywhere else, the bucket starts full
+	 *
+	 * @param rate number of frames allowed per second, must be positive
+	 * @param burst number of frames that can be sent back to back, at least 1
+	 */
+	public CommandRateLimiter(double rate, int burst) {
+		this(rate, burst, () -> 0);
+	}
+
+	/**
+	 * Creates a new CommandRateLimiter, the bucket starts full
+	 *
+	 * @param rate number of frames allowed per second, must be positive
+	 * @param burst number of frames that can be sent back to back, at least 1
+	 * @param lockWaiters supplies the number of callers waiting for a channel lock before they can take a token
+	 */
+	public CommandRateLimiter(double rate, int burst, IntSupplier lockWaiters) {
+		if (rate <= 0) {
+			throw new IllegalArgumentException("The command rate must be positive: " + rate);
+		}
+		this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / rate;
+		this.burst = Math.max(1, burst);
+		this.lockWaiters = lockWaiters;
+		this.storedTokens = this.burst;
+		this.nextFreeNanos = System.nanoTime();
+	}
+
+	/**
+	 * Takes a token, waiting until one is available
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		long waitNanos = reserve(System.nanoTime());
+		if (waitNanos <= 0) {
+			return;
+		}
+		throttledCommands.incrementAndGet();
+		throttledNanos.addAndGet(waitNanos);
+		limiterWaiters.incrementAndGet();
+		try {
+			recordQueueDepth();
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		} finally {
+			limiterWaiters.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Retrieves the number of callers currently waiting to send a frame, in the limiter or for a channel lock
+	 *
+	 * @return current queue depth
+	 */
+	public int getQueueDepth() {
+		return recordQueueDepth();
+	}
+
+	/**
+	 * Retrieves the highest queue depth seen when a caller was throttled or the queue depth was read
+	 *
+	 * @return maximum queue depth
+	 */
+	public synchronized int getMaxQueueDepth() {
+		return maxQueueDepth;
+	}
+
+	/**
+	 * Retrieves the number of frames that had to wait for a token
+	 *
+	 * @return throttled frame count
+	 */
+	public long getThrottledCommands() {
+		return throttledCommands.get();
+	}
+
+	/**
+	 * Retrieves the total time frames spent waiting for a token
+	 *
+	 * @return total wait time in milliseconds
+	 */
+	public long getThrottledMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(throttledNanos.get());
+	}
+
+	/**
+	 * Counts the callers waiting to send a frame and keeps the highest count
+	 *
+	 * @return current queue depth
+	 */
+	private int recordQueueDepth() {
+		int queueDepth = limiterWaiters.get() + lockWaiters.getAsInt();
+		synchronized (this) {
+			maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+		}
+		return queueDepth;
+	}
+
+	/**
+	 * Reserves the next token and returns how long the caller has to wait for it
+	 *
+	 * @param now current {@link System#nanoTime()}
+	 * @return wait time in nanoseconds, 0 if a stored token was available
+	 */
+	synchronized long reserve(long now) {
+		if (now > nextFreeNanos) {
+			storedTokens = Math.min(burst, storedTokens + (now - nextFreeNanos) / nanosPerToken);
+			nextFreeNanos = now;
+		}
+		if (storedTokens >= 1) {
+			storedTokens -= 1;
+		} else {
+			nextFreeNanos += (long) Math.ceil((1 - storedTokens) * nanosPerToken);
+			storedTokens = 0;
+		}
+		return nextFreeNanos - now;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * FileSessionLease is a {@link SessionLease} backed by an exclusive lock on a file named after the UPS host, shared by
+ * the adapter instances of one node, or of several nodes when the directory is on a file system that supports locks.
+ * File locks are held per process, so instances running in the same JVM first take turns on a semaphore per lock file;
+ * the file lock is then polled until it is granted or the wait times out.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FileSessionLease implements SessionLease {
+	private static final long POLL_INTERVAL = 100;
+	private static final ConcurrentHashMap<String, Semaphore> localLeases = new ConcurrentHashMap<>();
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final File file;
+	private final Semaphore localLease;
+	private FileChannel channel;
+	private FileLock lock;
+
+	/**
+	 * Creates a new FileSessionLease
+	 *
+	 * @param directory directory of the lock files, created if it does not exist
+	 * @param host the UPS host the lease is for
+	 * @throws IOException if the lock file path can not be resolved
+	 */
+	public FileSessionLease(File directory, String host) throws IOException {
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Can't create the session lease directory " + directory);
+		}
+		this.file = new File(directory, "nexsys-" + host.replaceAll("[^A-Za-z0-9.-]", "_") + ".lock").getCanonicalFile();
+		this.localLease = localLeases.computeIfAbsent(file.getPath(), path -> new Semaphore(1));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized boolean acquire(long timeoutMillis) throws Exception {
+		if (lock != null) {
+			return true;
+		}
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		if (!localLease.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+			return false;
+		}
+		try {
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			while (true) {
+				lock = channel.tryLock();
+				if (lock != null) {
+					return true;
+				}
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					break;
+				}
+				Thread.sleep(Math.min(POLL_INTERVAL, remaining));
+			}
+		} catch (Exception e) {
+			closeChannel();
+			localLease.release();
+			throw e;
+		}
+		closeChannel();
+		localLease.release();
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized boolean isHeld() {
+		return lock != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void release() {
+		if (lock == null) {
+			return;
+		}
+		try {
+			lock.release();
+		} catch (IOException e) {
+			logger.error("Error while releasing the session lease " + file + ": " + e.getMessage(), e);
+		}
+		lock = null;
+		closeChannel();
+		localLease.release();
+	}
+
+	/**
+	 * Closes the lock file channel, which releases a lock still held on it
+	 */
+	private void closeChannel() {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			logger.error("Error while closing the session lease " + file + ": " + e.getMessage(), e);
+		}
+		channel = null;
+	}
+}
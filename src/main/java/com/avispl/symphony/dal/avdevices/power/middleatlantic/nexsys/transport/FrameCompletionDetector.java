@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+/**
+ * FrameCompletionDetector decides whether the response to a NEXSYS command is complete while it is being read.
+ * The shell reader hands over the whole accumulated response after every chunk; the detector remembers how far it already
+ * scanned and only looks at the characters that arrived since, so a read costs O(n) in total instead of rescanning the
+ * growing buffer on every chunk.
+ * A response is complete when it is a bare echo of the command (NUL characters ignored), or when the answer frame, which
+ * starts at the second '~' of the response (the first one belongs to the echoed command), is closed by a carriage return.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FrameCompletionDetector {
+	private String command;
+	private int scanned;
+	private int echoIndex;
+	private boolean echoMatches;
+	private int tildeCount;
+	private boolean frameComplete;
+
+	/**
+	 * Prepares the detector for the response to a new command; called before every exchange, so a command sent twice in a
+	 * row is not scanned as the continuation of the previous response
+	 *
+	 * @param command the command that was sent
+	 */
+	public synchronized void reset(String command) {
+		this.command = command;
+		scanned = 0;
+		echoIndex = 0;
+		echoMatches = true;
+		tildeCount = 0;
+		frameComplete = false;
+	}
+
+	/**
+	 * Scans the part of the response that arrived since the previous call. The scan starts over when the command differs in
+	 * value from the one of the last {@link #reset(String)}, or when the response is shorter than what was already scanned.
+	 *
+	 * @param command the command that was sent
+	 * @param response the whole response accumulated so far
+	 * @return true if the response is complete
+	 */
+	public synchronized boolean isComplete(String command, String response) {
+		if (!command.equals(this.command) || response.length() < scanned) {
+			reset(command);
+		}
+		int length = response.length();
+		for (int i = scanned; i < length && !frameComplete; i++) {
+			char character = response.charAt(i);
+			if (character == '\u0000') {
+				continue;
+			}
+			if (echoMatches) {
+				if (echoIndex < command.length() && command.charAt(echoIndex) == character) {
+					echoIndex++;
+				} else if (echoIndex != 0 || (character != '\r' && character != '\n')) {
+					echoMatches = false;
+				}
+			}
+			if (character == '~') {
+				tildeCount++;
+			} else if (character == '\r' && tildeCount >= 2) {
+				frameComplete = true;
+			}
+		}
+		scanned = length;
+		return frameComplete || (echoMatches && echoIndex == command.length());
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSConstant;
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSMonitoringCommand;
+
+/**
+ * NexsysFrameCodec encodes NEXSYS command frames and decodes answer frames directly on bytes.
+ * Monitoring frames are encoded once into read-only buffers, control frames are written into a caller supplied buffer,
+ * and answer frames are split into field values without turning the frame into a String first.
+ * Frames are ASCII; the wire terminator of a command is "\r\n", as written by the shell transport.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NexsysFrameCodec {
+	private static final byte[] TERMINATOR = { '\r', '\n' };
+	private static final byte[] FAIL_RESPONSE = UPSConstant.FAIL_RESPONSE.getBytes(StandardCharsets.US_ASCII);
+	private static final Map<UPSMonitoringCommand, ByteBuffer> MONITORING_FRAMES = new EnumMap<>(UPSMonitoringCommand.class);
+
+	static {
+		for (UPSMonitoringCommand command : UPSMonitoringCommand.values()) {
+			byte[] bytes = command.getCommand().getBytes(StandardCharsets.US_ASCII);
+			ByteBuffer buffer = ByteBuffer.allocate(bytes.length + TERMINATOR.length);
+			buffer.put(bytes).put(TERMINATOR).flip();
+			MONITORING_FRAMES.put(command, buffer.asReadOnlyBuffer());
+		}
+	}
+
+	private NexsysFrameCodec() {
+	}
+
+	/**
+	 * Retrieves the encoded frame of a monitoring command
+	 *
+	 * @param command the monitoring command
+	 * @return a read-only view positioned at the start of the frame, the underlying bytes are shared
+	 */
+	public static ByteBuffer monitoringFrame(UPSMonitoringCommand command) {
+		return MONITORING_FRAMES.get(command).duplicate();
+	}
+
+	/**
+	 * Encodes a control command template from {@code UPSControlCommand} into the target buffer.
+	 * "$" is replaced by the first argument, "$1" and "$2" by the first and second arguments.
+	 *
+	 * @param template the control command template
+	 * @param target the buffer to encode into, cleared first and flipped for reading on return
+	 * @param arguments the template arguments
+	 * @return the target buffer
+	 */
+	public static ByteBuffer encodeControl(String template, ByteBuffer target, String... arguments) {
+		target.clear();
+		int length = template.length();
+		for (int i = 0; i < length; i++) {
+			char character = template.charAt(i);
+			if (character == '$') {
+				int index = 0;
+				if (i + 1 < length && Character.isDigit(template.charAt(i + 1))) {
+					index = template.charAt(++i) - '1';
+				}
+				putAscii(target, arguments[index]);
+			} else {
+				target.put((byte) character);
+			}
+		}
+		target.put(TERMINATOR).flip();
+		return target;
+	}
+
+	/**
+	 * Checks whether an answer frame is the rejection frame
+	 *
+	 * @param frame the answer frame, from its '~' up to (excluding) its carriage return
+	 * @return true if the device rejected the command
+	 */
+	public static boolean isRejected(ByteBuffer frame) {
+		int start = trimStart(frame);
+		int end = trimEnd(frame, start);
+		if (end - start != FAIL_RESPONSE.length) {
+			return false;
+		}
+		for (int i = 0; i < FAIL_RESPONSE.length; i++) {
+			if (frame.get(start + i) != FAIL_RESPONSE[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether an answer frame carries data after its header
+	 *
+	 * @param frame the answer frame
+	 * @return true if the frame is longer than the header
+	 */
+	public static boolean hasPayload(ByteBuffer frame) {
+		int start = trimStart(frame);
+		return trimEnd(frame, start) - start > UPSConstant.LENGTH_OF_BIT_DATA;
+	}
+
+	/**
+	 * Decodes the ';' separated fields of an answer frame, empty fields are decoded as "None"
+	 *
+	 * @param frame the answer frame
+	 * @return the field values
+	 */
+	public static String[] decodeFields(ByteBuffer frame) {
+		int start = trimStart(frame);
+		int end = trimEnd(frame, start);
+		start += UPSConstant.LENGTH_OF_BIT_DATA;
+		int count = 1;
+		for (int i = start; i < end; i++) {
+			if (frame.get(i) == ';') {
+				count++;
+			}
+		}
+		String[] values = new String[count];
+		int fieldStart = start;
+		int field = 0;
+		for (int i = start; i <= end; i++) {
+			if (i == end || frame.get(i) == ';') {
+				values[field++] = i == fieldStart ? UPSConstant.NONE : decodeAscii(frame, fieldStart, i);
+				fieldStart = i + 1;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Decodes the payload of an answer frame as a single value
+	 *
+	 * @param frame the answer frame
+	 * @return the payload after the header
+	 */
+	public static String decodeText(ByteBuffer frame) {
+		int start = trimStart(frame);
+		int end = trimEnd(frame, start);
+		return decodeAscii(frame, start + UPSConstant.LENGTH_OF_BIT_DATA, end);
+	}
+
+	/**
+	 * Decodes a command frame back to its command, without its terminator; the buffer position is left unchanged
+	 *
+	 * @param frame the command frame, positioned at its start
+	 * @return the command
+	 */
+	public static String decodeCommand(ByteBuffer frame) {
+		int start = trimStart(frame);
+		return decodeAscii(frame, start, trimEnd(frame, start));
+	}
+
+	/**
+	 * Writes an ASCII string into a buffer
+	 *
+	 * @param target the buffer
+	 * @param value the string
+	 */
+	private static void putAscii(ByteBuffer target, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			target.put((byte) value.charAt(i));
+		}
+	}
+
+	/**
+	 * Decodes an ASCII range of a buffer
+	 *
+	 * @param frame the buffer
+	 * @param start first index, inclusive
+	 * @param end last index, exclusive
+	 * @return the decoded string
+	 */
+	private static String decodeAscii(ByteBuffer frame, int start, int end) {
+		char[] chars = new char[end - start];
+		for (int i = start; i < end; i++) {
+			chars[i - start] = (char) (frame.get(i) & 0xFF);
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Finds the first non whitespace index of a frame
+	 *
+	 * @param frame the frame
+	 * @return the index
+	 */
+	private static int trimStart(ByteBuffer frame) {
+		int start = frame.position();
+		while (start < frame.limit() && frame.get(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	/**
+	 * Finds the index after the last non whitespace byte of a frame
+	 *
+	 * @param frame the frame
+	 * @param start the first non whitespace index
+	 * @return the index
+	 */
+	private static int trimEnd(ByteBuffer frame, int start) {
+		int end = frame.limit();
+		while (end > start && frame.get(end - 1) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+}
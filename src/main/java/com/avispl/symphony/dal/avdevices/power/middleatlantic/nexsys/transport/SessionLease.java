@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+/**
+ * SessionLease grants one adapter instance at a time the right to log in to a UPS, so adapter instances sharing a device
+ * take turns on its single SSH session instead of rejecting each other's logins. A lease is held by the adapter instance,
+ * not by a thread: it is acquired before the first exchange of a session and released once the session is closed.
+ * Implementations decide how far the instances cooperate, such as processes of one node through a lock file, or nodes
+ * through a shared store.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface SessionLease {
+	/**
+	 * Acquires the lease, waiting while another instance holds it; returns at once if this instance already holds it
+	 *
+	 * @param timeoutMillis longest time to wait for the lease in milliseconds
+	 * @return true if the lease is held, false if it could not be acquired in time
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 * @throws Exception if the lease can not be acquired
+	 */
+	boolean acquire(long timeoutMillis) throws Exception;
+
+	/**
+	 * Checks whether this instance holds the lease
+	 *
+	 * @return true if the lease is held
+	 */
+	boolean isHeld();
+
+	/**
+	 * Releases the lease if this instance holds it, letting the next instance log in
+	 */
+	void release();
+}
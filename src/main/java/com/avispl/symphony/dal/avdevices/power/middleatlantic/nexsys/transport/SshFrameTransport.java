@@ -0,0 +1,295 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.security.auth.login.FailedLoginException;
+
+import com.jcraft.jsch.Channel;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+
+/**
+ * SshFrameTransport exchanges NEXSYS frames over its own SSH shell session using reusable byte buffers.
+ * Commands are written from {@link NexsysFrameCodec} buffers through a {@link WritableByteChannel}, answers are read into a
+ * single receive buffer and handed back as a read-only view of the answer frame, so no String is built for a frame.
+ * Incoming bytes are pushed by the JSch session thread into a {@link FrameReceiver}, and a read blocks on it until bytes
+ * arrive or the deadline of the exchange passes, instead of polling the channel input stream.
+ * The session is opened the same way as {@code SshCommunicator}: password authentication, shell channel, and the login is
+ * confirmed by one of the login success markers.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SshFrameTransport implements Closeable {
+	private static final int RECEIVE_BUFFER_SIZE = 4096;
+
+	private final String host;
+	private final int port;
+	private final String login;
+	private final String password;
+	private final List<String> loginSuccessList;
+	private final List<String> loginErrorList;
+	private final ByteBuffer receiveBuffer = ByteBuffer.allocate(RECEIVE_BUFFER_SIZE);
+	private Session session;
+	private Channel channel;
+	private FrameReceiver receiver;
+	private WritableByteChannel outputChannel;
+
+	/**
+	 * Creates a new SshFrameTransport
+	 *
+	 * @param host device host
+	 * @param port SSH port
+	 * @param login SSH login
+	 * @param password SSH password
+	 * @param loginSuccessList strings ending the login output on success
+	 * @param loginErrorList strings ending the login output on failure
+	 */
+	public SshFrameTransport(String host, int port, String login, String password, List<String> loginSuccessList, List<String> loginErrorList) {
+		this.host = host;
+		this.port = port;
+		this.login = login;
+		this.password = password;
+		this.loginSuccessList = loginSuccessList;
+		this.loginErrorList = loginErrorList;
+	}
+
+	/**
+	 * Checks whether the session is connected
+	 *
+	 * @return true if the shell channel is connected
+	 */
+	public synchronized boolean isConnected() {
+		return channel != null && channel.isConnected();
+	}
+
+	/**
+	 * Opens the SSH session and the shell channel, then waits for the login to complete
+	 *
+	 * @param timeout connect and login timeout in milliseconds
+	 * @throws FailedLoginException if the device rejects the login
+	 * @throws Exception if the session can not be opened
+	 */
+	public synchronized void connect(int timeout) throws Exception {
+		close();
+		session = new JSch().getSession(login, host, port);
+		session.setPassword(password);
+		session.setConfig("StrictHostKeyChecking", "no");
+		session.setTimeout(timeout);
+		session.connect(timeout);
+		channel = session.openChannel("shell");
+		receiver = new FrameReceiver();
+		channel.setOutputStream(receiver);
+		channel.connect(timeout);
+		outputChannel = Channels.newChannel(channel.getOutputStream());
+		waitForLogin(timeout);
+	}
+
+	/**
+	 * Writes a command frame and reads the answer frame
+	 *
+	 * @param frame the encoded command, as returned by {@link NexsysFrameCodec}
+	 * @param timeout read timeout in milliseconds
+	 * @return a read-only view of the answer frame, from its '~' up to (excluding) its carriage return, valid until the next exchange
+	 * @throws SocketTimeoutException if the answer frame is not complete within the timeout
+	 * @throws IOException if the channel is closed
+	 */
+	public synchronized ByteBuffer exchange(ByteBuffer frame, int timeout) throws Exception {
+		if (!isConnected()) {
+			throw new IOException("The frame transport to " + host + " is not connected");
+		}
+		receiver.clear();
+		while (frame.hasRemaining()) {
+			outputChannel.write(frame);
+		}
+		channel.getOutputStream().flush();
+		receiveBuffer.clear();
+		byte[] bytes = receiveBuffer.array();
+		long deadline = System.currentTimeMillis() + timeout;
+		int tildeCount = 0;
+		int frameStart = -1;
+		int scanned = 0;
+		while (true) {
+			if (!receiveBuffer.hasRemaining()) {
+				throw new IOException("The answer from " + host + " exceeds " + RECEIVE_BUFFER_SIZE + " bytes");
+			}
+			int read = receiver.read(bytes, receiveBuffer.position(), receiveBuffer.remaining(), deadline);
+			if (read < 0) {
+				throw new IOException("Connection was forcibly closed");
+			}
+			if (read == 0) {
+				throw new SocketTimeoutException("No complete answer frame from " + host + " within " + timeout + "ms");
+			}
+			receiveBuffer.position(receiveBuffer.position() + read);
+			for (; scanned < receiveBuffer.position(); scanned++) {
+				byte value = bytes[scanned];
+				if (value == '~' && ++tildeCount == 2) {
+					frameStart = scanned;
+				} else if (value == '\r' && frameStart >= 0) {
+					ByteBuffer answer = ByteBuffer.wrap(bytes, frameStart, scanned - frameStart).slice();
+					return answer.asReadOnlyBuffer();
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() {
+		if (channel != null) {
+			channel.disconnect();
+			channel = null;
+		}
+		if (session != null) {
+			session.disconnect();
+			session = null;
+		}
+		if (receiver != null) {
+			receiver.close();
+			receiver = null;
+		}
+		outputChannel = null;
+	}
+
+	/**
+	 * Reads the login output until a login success or error marker
+	 *
+	 * @param timeout login timeout in milliseconds
+	 * @throws FailedLoginException if a login error marker is read
+	 * @throws SocketTimeoutException if no marker is read within the timeout
+	 */
+	private void waitForLogin(int timeout) throws Exception {
+		StringBuilder output = new StringBuilder();
+		byte[] bytes = receiveBuffer.array();
+		long deadline = System.currentTimeMillis() + timeout;
+		while (true) {
+			int read = receiver.read(bytes, 0, bytes.length, deadline);
+			if (read < 0) {
+				close();
+				throw new IOException("Connection to " + host + " was closed during the login");
+			}
+			if (read == 0) {
+				break;
+			}
+			output.append(new String(bytes, 0, read, StandardCharsets.ISO_8859_1));
+			String text = output.toString();
+			for (String error : loginErrorList) {
+				if (text.endsWith(error)) {
+					close();
+					throw new FailedLoginException("Login to " + host + " failed: " + error);
+				}
+			}
+			for (String success : loginSuccessList) {
+				if (text.endsWith(success)) {
+					return;
+				}
+			}
+		}
+		close();
+		throw new SocketTimeoutException("Login to " + host + " did not complete within " + timeout + "ms");
+	}
+
+	/**
+	 * FrameReceiver takes the bytes the JSch session thread receives on the shell channel and hands them to the exchanging
+	 * thread, which blocks until bytes arrive, the deadline passes or the channel closes. The session thread blocks in turn
+	 * while the pending bytes fill the buffer, so a device answering faster than it is read is slowed down rather than lost.
+	 */
+	private static final class FrameReceiver extends OutputStream {
+		private final byte[] pending = new byte[RECEIVE_BUFFER_SIZE];
+		private int count;
+		private boolean closed;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(int value) throws IOException {
+			write(new byte[] { (byte) value }, 0, 1);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+			while (length > 0) {
+				while (count == pending.length && !closed) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new IOException("Interrupted while receiving from the device", e);
+					}
+				}
+				if (closed) {
+					throw new IOException("The frame receiver is closed");
+				}
+				int copied = Math.min(length, pending.length - count);
+				System.arraycopy(bytes, offset, pending, count, copied);
+				count += copied;
+				offset += copied;
+				length -= copied;
+				notifyAll();
+			}
+		}
+
+		/**
+		 * Moves the received bytes to a buffer, waiting for bytes until the deadline
+		 *
+		 * @param bytes the destination buffer
+		 * @param offset the position of the first byte to fill
+		 * @param length the largest number of bytes to move
+		 * @param deadline the time to stop waiting, in epoch milliseconds
+		 * @return the number of bytes moved, 0 if none arrived before the deadline, -1 if the channel closed
+		 * @throws InterruptedException if the thread is interrupted while waiting
+		 */
+		synchronized int read(byte[] bytes, int offset, int length, long deadline) throws InterruptedException {
+			long remaining = deadline - System.currentTimeMillis();
+			while (count == 0 && !closed && remaining > 0) {
+				wait(remaining);
+				remaining = deadline - System.currentTimeMillis();
+			}
+			if (count == 0) {
+				return closed ? -1 : 0;
+			}
+			int moved = Math.min(length, count);
+			System.arraycopy(pending, 0, bytes, offset, moved);
+			System.arraycopy(pending, moved, pending, 0, count - moved);
+			count -= moved;
+			notifyAll();
+			return moved;
+		}
+
+		/**
+		 * Discards bytes left over from the previous answer, such as its line feed and NUL terminator
+		 */
+		synchronized void clear() {
+			count = 0;
+			notifyAll();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized void close() {
+			closed = true;
+			notifyAll();
+		}
+	}
+}
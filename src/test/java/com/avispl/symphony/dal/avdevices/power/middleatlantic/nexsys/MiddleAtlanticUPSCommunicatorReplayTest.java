@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+
+/**
+ * MiddleAtlanticUPSCommunicatorReplayTest for unit test of MiddleAtlanticUPSCommunicator against a recorded monitoring cycle,
+ * answered by the FrameReplayer instead of a device
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class MiddleAtlanticUPSCommunicatorReplayTest {
+	private static final String RECORDING = "/recording/nexsys-monitoring-cycle.rec";
+
+	private MiddleAtlanticUPSCommunicator middleAtlanticUPSCommunicator;
+
+	@BeforeEach()
+	public void setUp() {
+		middleAtlanticUPSCommunicator = new MiddleAtlanticUPSCommunicator();
+		middleAtlanticUPSCommunicator.setHost("127.0.0.1");
+		middleAtlanticUPSCommunicator.setPort(22);
+		middleAtlanticUPSCommunicator.setLogin("");
+		middleAtlanticUPSCommunicator.setPassword("");
+		middleAtlanticUPSCommunicator.setConfigManagement("true");
+	}
+
+	@AfterEach()
+	public void destroy() {
+		middleAtlanticUPSCommunicator.destroy();
+	}
+
+	/**
+	 * Unit test to verify that getMultipleStatistics builds the statistics from a recorded monitoring cycle.
+	 * This test ensures that every monitoring command is answered by the recording and parsed into the expected values.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testGetMultipleStatisticsFromRecording() throws Exception {
+		middleAtlanticUPSCommunicator.setReplayFile(new File(getClass().getResource(RECORDING).toURI()).getPath());
+		middleAtlanticUPSCommunicator.init();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) middleAtlanticUPSCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistics.getStatistics();
+		Assert.assertEquals(62, statistics.size());
+		Assert.assertEquals(19, extendedStatistics.getControllableProperties().size());
+		Assert.assertEquals("S02E03", statistics.get("FirmwareVersion"));
+		Assert.assertEquals("8", statistics.get("NumberOfOutlets"));
+		Assert.assertEquals("F0LW2A6002U", statistics.get("SerialNumber"));
+		Assert.assertEquals("120.0", statistics.get("InputStatus#Voltage(V)"));
+		Assert.assertEquals("Normal", statistics.get("OutputStatus#Source"));
+		Assert.assertEquals("140", statistics.get("OutputStatus#Power(W)"));
+		Assert.assertEquals("54.2", statistics.get("BatteryStatus#Voltage(V)"));
+		Assert.assertEquals("01/15/2027", statistics.get("BatteryStatus#NextReplacementDate(MM/DD/YYYY)"));
+		Assert.assertEquals("On", statistics.get("OutletControl#Outlet1"));
+		Assert.assertEquals("Off", statistics.get("OutletControl#Outlet2"));
+		Assert.assertEquals("0", statistics.get("AdapterMetrics#FailedCommands"));
+	}
+
+	/**
+	 * Unit test to verify that a caller modifying the statistics it received does not change what other callers see.
+	 * This test ensures that copySnapshot copies the statistics and the controllable property values, and leaves the
+	 * published snapshot untouched.
+	 */
+	@Test
+	void testCopySnapshotIsolatesCallers() {
+		Map<String, String> stats = new HashMap<>();
+		stats.put("OutletControl#Outlet1", "On");
+		AdvancedControllableProperty.Switch outletSwitch = new AdvancedControllableProperty.Switch();
+		outletSwitch.setLabelOn("On");
+		outletSwitch.setLabelOff("Off");
+		ExtendedStatistics snapshot = new ExtendedStatistics();
+		snapshot.setStatistics(Collections.unmodifiableMap(stats));
+		snapshot.setDynamicStatistics(Collections.emptyMap());
+		snapshot.setControllableProperties(Collections.singletonList(new AdvancedControllableProperty("OutletControl#Outlet1", new Date(), outletSwitch, "1")));
+
+		ExtendedStatistics first = MiddleAtlanticUPSCommunicator.copySnapshot(snapshot);
+		first.getStatistics().put("OutletControl#Outlet1", "Off");
+		first.getControllableProperties().get(0).setValue("0");
+		first.getControllableProperties().get(0).getTimestamp().setTime(0);
+		ExtendedStatistics second = MiddleAtlanticUPSCommunicator.copySnapshot(snapshot);
+
+		Assert.assertEquals("On", second.getStatistics().get("OutletControl#Outlet1"));
+		Assert.assertEquals("1", second.getControllableProperties().get(0).getValue());
+		Assert.assertNotEquals(0, second.getControllableProperties().get(0).getTimestamp().getTime());
+		Assert.assertEquals("1", snapshot.getControllableProperties().get(0).getValue());
+		Assert.assertNotSame(snapshot.getControllableProperties().get(0), second.getControllableProperties().get(0));
+	}
+
+	/**
+	 * Unit test to verify that init tolerates a replay file that can not be read.
+	 * This test ensures that a missing recording is logged instead of failing the adapter initialization.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testInitWithMissingRecording() throws Exception {
+		middleAtlanticUPSCommunicator.setReplayFile(new File("target", "missing-recording.rec").getPath());
+		middleAtlanticUPSCommunicator.init();
+		Assert.assertTrue(middleAtlanticUPSCommunicator.isInitialized());
+	}
+
+	/**
+	 * Unit test to verify that getMultipleStatisticsAsync completes with the statistics of the recorded monitoring cycle.
+	 * This test ensures that asynchronous calls run on their own executor and that a destroyed adapter fails new calls.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testGetMultipleStatisticsAsync() throws Exception {
+		middleAtlanticUPSCommunicator.setReplayFile(new File(getClass().getResource(RECORDING).toURI()).getPath());
+		middleAtlanticUPSCommunicator.init();
+		List<Statistics> statistics = middleAtlanticUPSCommunicator.getMultipleStatisticsAsync(10000).get(10, TimeUnit.SECONDS);
+		Assert.assertEquals(62, ((ExtendedStatistics) statistics.get(0)).getStatistics().size());
+
+		middleAtlanticUPSCommunicator.destroy();
+		CompletableFuture<List<Statistics>> future = middleAtlanticUPSCommunicator.getMultipleStatisticsAsync(10000);
+		ExecutionException exception = Assert.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+		Assert.assertTrue(exception.getCause() instanceof IllegalStateException);
+	}
+}
@@ -6,9 +6,13 @@ package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys;
 
 import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList.NEXT_REPLACEMENT_DATE;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
@@ -60,8 +64,42 @@ public class MiddleAtlanticUPSCommunicatorTest {
 		extendedStatistic = (ExtendedStatistics) middleAtlanticUPSCommunicator.getMultipleStatistics().get(0);
 		List<AdvancedControllableProperty> advancedControllablePropertyList = extendedStatistic.getControllableProperties();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(42, statistics.size());
-		Assert.assertEquals(18, advancedControllablePropertyList.size());
+		Assert.assertEquals(62, statistics.size());
+		Assert.assertEquals(19, advancedControllablePropertyList.size());
+	}
+
+	/**
+	 * Unit test to verify that getMultipleStatistics publishes the measurements of the adapter itself.
+	 * This test ensures that every AdapterMetrics statistic is present and that no other one is published in the group.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testGetMultipleStatisticsWithAdapterMetrics() throws Exception {
+		extendedStatistic = (ExtendedStatistics) middleAtlanticUPSCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Set<String> adapterMetrics = statistics.keySet().stream().filter(name -> name.startsWith("AdapterMetrics#")).collect(Collectors.toSet());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("AdapterMetrics#AllocatedBytes", "AdapterMetrics#ConfirmedWrites", "AdapterMetrics#CycleDuration(ms)",
+				"AdapterMetrics#ExpiredWrites", "AdapterMetrics#FailedCommands", "AdapterMetrics#LockHold(ms)", "AdapterMetrics#LockWait(ms)",
+				"AdapterMetrics#MaxLockHold(ms)", "AdapterMetrics#MaxLockWait(ms)", "AdapterMetrics#ParseDuration(ms)", "AdapterMetrics#PendingWrites",
+				"AdapterMetrics#TotalFailedCommands")), adapterMetrics);
+		Assert.assertEquals("0", statistics.get("AdapterMetrics#FailedCommands"));
+	}
+
+	/**
+	 * Unit test to verify that getMultipleStatistics publishes the outlet control verification counters.
+	 * This test ensures that every OutletVerification statistic is present, with no failure before any control.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testGetMultipleStatisticsWithOutletVerification() throws Exception {
+		extendedStatistic = (ExtendedStatistics) middleAtlanticUPSCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assert.assertEquals("0", statistics.get("OutletVerification#PendingVerifications"));
+		Assert.assertEquals("0", statistics.get("OutletVerification#VerifiedControls"));
+		Assert.assertEquals("0", statistics.get("OutletVerification#FailedVerifications"));
+		Assert.assertEquals("None", statistics.get("OutletVerification#LastFailure"));
 	}
 
 	/**
@@ -143,8 +181,8 @@ public class MiddleAtlanticUPSCommunicatorTest {
 		List<AdvancedControllableProperty> advancedControllablePropertyList = extendedStatistic.getControllableProperties();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
 		Map<String, String> dynamics = extendedStatistic.getDynamicStatistics();
-		Assert.assertEquals(37, statistics.size());
-		Assert.assertEquals(18, advancedControllablePropertyList.size());
+		Assert.assertEquals(57, statistics.size());
+		Assert.assertEquals(19, advancedControllablePropertyList.size());
 		Assert.assertEquals(6, dynamics.size());
 	}
 
@@ -212,9 +250,40 @@ public class MiddleAtlanticUPSCommunicatorTest {
 		controllableProperty.setProperty(property);
 		controllableProperty.setValue(value);
 		middleAtlanticUPSCommunicator.controlProperty(controllableProperty);
+
+		extendedStatistic = (ExtendedStatistics) middleAtlanticUPSCommunicator.getMultipleStatistics().get(0);
 		List<AdvancedControllableProperty> advancedControllablePropertyList = extendedStatistic.getControllableProperties();
 		Optional<AdvancedControllableProperty> advancedControllableProperty = advancedControllablePropertyList.stream().filter(item ->
 				property.equals(item.getName())).findFirst();
 		Assert.assertEquals(value, advancedControllableProperty.get().getValue());
 	}
+
+	/**
+	 * Unit test to verify that a control action publishes a new statistics snapshot instead of mutating the one already returned.
+	 * This test ensures that the previously returned statistics keep their value while the next snapshot carries the new one.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlDoesNotMutatePublishedSnapshot() throws Exception {
+		extendedStatistic = (ExtendedStatistics) middleAtlanticUPSCommunicator.getMultipleStatistics().get(0);
+		String property = UPSConstant.OUTLET_CONTROL_GROUP.concat("Outlet3");
+		String previousValue = extendedStatistic.getStatistics().get(property);
+		String value = UPSConstant.ON.equals(previousValue) ? "0" : "1";
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		AdvancedControllableProperty previousControl = extendedStatistic.getControllableProperties().stream().filter(item -> property.equals(item.getName()))
+				.findFirst().get();
+		Object previousControlValue = previousControl.getValue();
+		middleAtlanticUPSCommunicator.controlProperty(controllableProperty);
+
+		Assert.assertEquals(previousValue, extendedStatistic.getStatistics().get(property));
+		Assert.assertEquals(previousControlValue, previousControl.getValue());
+		ExtendedStatistics nextStatistic = (ExtendedStatistics) middleAtlanticUPSCommunicator.getMultipleStatistics().get(0);
+		Assert.assertEquals(value, nextStatistic.getStatistics().get(property));
+		AdvancedControllableProperty nextControl = nextStatistic.getControllableProperties().stream().filter(item -> property.equals(item.getName())).findFirst().get();
+		Assert.assertEquals(value, nextControl.getValue());
+		Assert.assertNotSame(previousControl, nextControl);
+	}
 }
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.LoadSheddingPolicy.PowerSourceEnum.BATTERY;
+import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.LoadSheddingPolicy.PowerSourceEnum.LINE;
+import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.LoadSheddingPolicy.PowerSourceEnum.UNKNOWN;
+import static com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control.LoadSheddingPolicy.UNSET;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LoadSheddingPolicyTest for unit test of LoadSheddingPolicy
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LoadSheddingPolicyTest {
+	private static final long RESTORE_DELAY = 60000;
+	private static final Set<Integer> ALL_ON = new HashSet<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8));
+
+	/**
+	 * Unit test to verify the remaining time threshold.
+	 * This test ensures that outlets are shed in priority order only once the remaining time falls below the threshold.
+	 */
+	@Test
+	void testRemainingTimeThreshold() {
+		LoadSheddingPolicy policy = new LoadSheddingPolicy(Arrays.asList(5, 3), 10, UNSET, RESTORE_DELAY);
+		Assert.assertTrue(policy.evaluate(BATTERY, 10, 50, ALL_ON, 0).getOutlets().isEmpty());
+		LoadSheddingPolicy.Decision decision = policy.evaluate(BATTERY, 9, 50, ALL_ON, 1000);
+		Assert.assertTrue(decision.isShed());
+		Assert.assertEquals(Arrays.asList(5, 3), decision.getOutlets());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.SHEDDING, policy.getState());
+		Assert.assertTrue(policy.evaluate(BATTERY, 8, 50, ALL_ON, 2000).getOutlets().isEmpty());
+	}
+
+	/**
+	 * Unit test to verify the capacity threshold.
+	 * This test ensures that outlets already off are not shed and not restored.
+	 */
+	@Test
+	void testCapacityThresholdSkipsOutletsOff() {
+		LoadSheddingPolicy policy = new LoadSheddingPolicy(Arrays.asList(1, 2, 3), UNSET, 30, RESTORE_DELAY);
+		Assert.assertTrue(policy.evaluate(BATTERY, 5, 30, ALL_ON, 0).getOutlets().isEmpty());
+		LoadSheddingPolicy.Decision decision = policy.evaluate(BATTERY, 5, 29, new HashSet<>(Arrays.asList(1, 3)), 1000);
+		Assert.assertEquals(Arrays.asList(1, 3), decision.getOutlets());
+		Assert.assertTrue(policy.getShedOutlets().isEmpty());
+		policy.confirmShed(1);
+		policy.confirmShed(3);
+		Assert.assertEquals(Arrays.asList(1, 3), policy.getShedOutlets());
+	}
+
+	/**
+	 * Unit test to verify that unknown telemetry values never trigger shedding.
+	 * This test ensures that an UNSET remaining time or capacity is ignored, and that a policy without thresholds is rejected.
+	 */
+	@Test
+	void testUnsetValues() {
+		LoadSheddingPolicy policy = new LoadSheddingPolicy(Collections.singletonList(1), 10, 30, RESTORE_DELAY);
+		Assert.assertTrue(policy.evaluate(BATTERY, UNSET, UNSET, ALL_ON, 0).getOutlets().isEmpty());
+		Assert.assertTrue(policy.evaluate(BATTERY, UNSET, 50, ALL_ON, 1000).getOutlets().isEmpty());
+		Assert.assertEquals(Collections.singletonList(1), policy.evaluate(BATTERY, UNSET, 20, ALL_ON, 2000).getOutlets());
+		try {
+			new LoadSheddingPolicy(Collections.singletonList(1), UNSET, UNSET, RESTORE_DELAY);
+			Assert.fail("Expected a policy without threshold to be rejected");
+		} catch (IllegalArgumentException e) {
+			Assert.assertNotNull(e.getMessage());
+		}
+	}
+
+	/**
+	 * Unit test to verify the restore delay.
+	 * This test ensures that shed outlets are restored in reverse order once input power has been back for the whole delay.
+	 */
+	@Test
+	void testRestoreDelay() {
+		LoadSheddingPolicy policy = shedOutletsOneAndTwo();
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 10000).getOutlets().isEmpty());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.RESTORE_PENDING, policy.getState());
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 10000 + RESTORE_DELAY - 1).getOutlets().isEmpty());
+		LoadSheddingPolicy.Decision decision = policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 10000 + RESTORE_DELAY);
+		Assert.assertFalse(decision.isShed());
+		Assert.assertEquals(Arrays.asList(2, 1), decision.getOutlets());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.NORMAL, policy.getState());
+		Assert.assertTrue(policy.getShedOutlets().isEmpty());
+	}
+
+	/**
+	 * Unit test to verify flapping between battery and input power.
+	 * This test ensures that every return to battery restarts the restore delay.
+	 */
+	@Test
+	void testFlappingRestartsRestoreDelay() {
+		LoadSheddingPolicy policy = shedOutletsOneAndTwo();
+		long now = 10000;
+		for (int i = 0; i < 5; i++) {
+			Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), now).getOutlets().isEmpty());
+			now += RESTORE_DELAY - 1000;
+			Assert.assertTrue(policy.evaluate(BATTERY, 30, 90, Collections.emptySet(), now).getOutlets().isEmpty());
+			Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.SHEDDING, policy.getState());
+			now += 1000;
+		}
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), now).getOutlets().isEmpty());
+		Assert.assertEquals(Arrays.asList(2, 1), policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), now + RESTORE_DELAY).getOutlets());
+	}
+
+	/**
+	 * Unit test to verify that an unknown power source is not taken as input power.
+	 * This test ensures that an unknown source neither sheds, restores nor counts toward the restore delay.
+	 */
+	@Test
+	void testUnknownSourceDoesNotRestore() {
+		LoadSheddingPolicy policy = shedOutletsOneAndTwo();
+		Assert.assertTrue(policy.evaluate(UNKNOWN, 1, 1, ALL_ON, 10000).getOutlets().isEmpty());
+		Assert.assertTrue(policy.evaluate(UNKNOWN, 1, 1, ALL_ON, 10000 + 2 * RESTORE_DELAY).getOutlets().isEmpty());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.SHEDDING, policy.getState());
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 200000).getOutlets().isEmpty());
+		Assert.assertTrue(policy.evaluate(UNKNOWN, UNSET, 90, Collections.emptySet(), 230000).getOutlets().isEmpty());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.SHEDDING, policy.getState());
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 260000).getOutlets().isEmpty());
+		Assert.assertEquals(Arrays.asList(2, 1), policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 260000 + RESTORE_DELAY).getOutlets());
+		Assert.assertTrue(new LoadSheddingPolicy(Collections.singletonList(1), 10, UNSET, RESTORE_DELAY).evaluate(UNKNOWN, 1, 1, ALL_ON, 0).getOutlets().isEmpty());
+	}
+
+	/**
+	 * Unit test to verify an outlet whose turn off failed.
+	 * This test ensures that the outlet is not reported as shed, is not decided again while its turn off is in flight, and
+	 * is decided again at the next evaluation on battery once the failure is reported.
+	 */
+	@Test
+	void testFailedShedIsRetried() {
+		LoadSheddingPolicy policy = new LoadSheddingPolicy(Arrays.asList(1, 2), 10, UNSET, RESTORE_DELAY);
+		Assert.assertEquals(Arrays.asList(1, 2), policy.evaluate(BATTERY, 5, 40, ALL_ON, 0).getOutlets());
+		Assert.assertTrue(policy.evaluate(BATTERY, 5, 40, ALL_ON, 1000).getOutlets().isEmpty());
+		policy.confirmShed(1);
+		policy.failShed(2);
+		Assert.assertEquals(Collections.singletonList(1), policy.getShedOutlets());
+		Assert.assertEquals(Collections.singletonList(2), policy.evaluate(BATTERY, 5, 40, new HashSet<>(Arrays.asList(2, 3)), 2000).getOutlets());
+		policy.confirmShed(2);
+		Assert.assertEquals(Arrays.asList(1, 2), policy.getShedOutlets());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.SHEDDING, policy.getState());
+	}
+
+	/**
+	 * Unit test to verify a shed decision whose every outlet failed.
+	 * This test ensures that nothing is restored once input power is back, since no outlet was turned off.
+	 */
+	@Test
+	void testFailedShedIsNotRestored() {
+		LoadSheddingPolicy policy = new LoadSheddingPolicy(Collections.singletonList(1), 10, UNSET, RESTORE_DELAY);
+		Assert.assertEquals(Collections.singletonList(1), policy.evaluate(BATTERY, 5, 40, ALL_ON, 0).getOutlets());
+		policy.failShed(1);
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.NORMAL, policy.getState());
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, ALL_ON, 1000).getOutlets().isEmpty());
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, ALL_ON, 1000 + RESTORE_DELAY).getOutlets().isEmpty());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.NORMAL, policy.getState());
+	}
+
+	/**
+	 * Unit test to verify an outlet whose turn on failed.
+	 * This test ensures that the outlet is shed again and restored after another restore delay.
+	 */
+	@Test
+	void testFailedRestoreIsRetried() {
+		LoadSheddingPolicy policy = shedOutletsOneAndTwo();
+		policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 10000);
+		Assert.assertEquals(Arrays.asList(2, 1), policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), 10000 + RESTORE_DELAY).getOutlets());
+		policy.failRestore(1);
+		Assert.assertEquals(Collections.singletonList(1), policy.getShedOutlets());
+		Assert.assertEquals(LoadSheddingPolicy.LoadSheddingStateEnum.SHEDDING, policy.getState());
+		long now = 20000 + RESTORE_DELAY;
+		Assert.assertTrue(policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), now).getOutlets().isEmpty());
+		Assert.assertEquals(Collections.singletonList(1), policy.evaluate(LINE, UNSET, 90, Collections.emptySet(), now + RESTORE_DELAY).getOutlets());
+	}
+
+	/**
+	 * Creates a policy that already shed outlets 1 and 2 on battery, both turn offs confirmed
+	 *
+	 * @return the policy
+	 */
+	private LoadSheddingPolicy shedOutletsOneAndTwo() {
+		LoadSheddingPolicy policy = new LoadSheddingPolicy(Arrays.asList(1, 2), 10, UNSET, RESTORE_DELAY);
+		Assert.assertEquals(Arrays.asList(1, 2), policy.evaluate(BATTERY, 5, 40, ALL_ON, 0).getOutlets());
+		policy.confirmShed(1);
+		policy.confirmShed(2);
+		return policy;
+	}
+}
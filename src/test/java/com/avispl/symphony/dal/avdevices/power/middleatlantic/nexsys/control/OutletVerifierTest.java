@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OutletVerifierTest for unit test of OutletVerifier
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class OutletVerifierTest {
+	private static final long INTERVAL = 5;
+	private static final long TIMEOUT = 200;
+	private static final long CYCLE_DELAY = 50;
+	private static final long WAIT = 5000;
+
+	private ScheduledExecutorService scheduler;
+	private List<Integer> failedOutlets;
+
+	@BeforeEach()
+	public void setUp() {
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+		failedOutlets = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	@AfterEach()
+	public void destroy() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Unit test to verify an on control whose outlet turns on after a few read-backs.
+	 * This test ensures that the control is verified once the expected state is read.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testOnControlVerified() throws Exception {
+		OutletVerifier outletVerifier = createVerifier(script("00000000", "", "00000000", "00000100"));
+		outletVerifier.expect(3, "1");
+		awaitSettled(outletVerifier);
+		Assert.assertEquals(1, outletVerifier.getVerifiedControls());
+		Assert.assertEquals(0, outletVerifier.getFailedVerifications());
+		Assert.assertTrue(failedOutlets.isEmpty());
+	}
+
+	/**
+	 * Unit test to verify an off control whose outlet stays on.
+	 * This test ensures that the verification fails at its timeout and that the outlet is handed to the failure listener.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testOffControlFailed() throws Exception {
+		OutletVerifier outletVerifier = createVerifier(() -> "00000010");
+		long start = System.currentTimeMillis();
+		outletVerifier.expect(2, "0");
+		awaitSettled(outletVerifier);
+		Assert.assertTrue(System.currentTimeMillis() - start >= TIMEOUT);
+		Assert.assertEquals(0, outletVerifier.getVerifiedControls());
+		Assert.assertEquals(1, outletVerifier.getFailedVerifications());
+		Assert.assertEquals("Outlet2 expected 0, read 1", outletVerifier.getLastFailure());
+		Assert.assertEquals(Collections.singletonList(2), failedOutlets);
+	}
+
+	/**
+	 * Unit test to verify a cycle that turns the outlet off and back on.
+	 * This test ensures that the cycle is verified once the outlet was read off, then on again.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testCycleVerified() throws Exception {
+		OutletVerifier outletVerifier = createVerifier(script("00000001", "00000000", "00000000", "00000001"));
+		Assert.assertTrue(outletVerifier.expectCycle(1, "1", CYCLE_DELAY));
+		awaitSettled(outletVerifier);
+		Assert.assertEquals(1, outletVerifier.getVerifiedControls());
+		Assert.assertEquals(0, outletVerifier.getFailedVerifications());
+	}
+
+	/**
+	 * Unit test to verify a cycle the device acknowledged but never performed.
+	 * This test ensures that reading the outlet in its state before the cycle does not verify it, and that the cycle fails.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testCycleNeverPerformedFailed() throws Exception {
+		OutletVerifier outletVerifier = createVerifier(() -> "00000001");
+		long start = System.currentTimeMillis();
+		Assert.assertTrue(outletVerifier.expectCycle(1, "1", CYCLE_DELAY));
+		awaitSettled(outletVerifier);
+		Assert.assertTrue(System.currentTimeMillis() - start >= CYCLE_DELAY + TIMEOUT);
+		Assert.assertEquals(0, outletVerifier.getVerifiedControls());
+		Assert.assertEquals(1, outletVerifier.getFailedVerifications());
+		Assert.assertEquals("Outlet1 expected a cycle from 1, read 1", outletVerifier.getLastFailure());
+		Assert.assertEquals(Collections.singletonList(1), failedOutlets);
+	}
+
+	/**
+	 * Unit test to verify a cycle whose outlet stays in the opposite state.
+	 * This test ensures that the cycle fails when the outlet is not restored.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testCycleNotRestoredFailed() throws Exception {
+		OutletVerifier outletVerifier = createVerifier(script("00000000", "00000010"));
+		Assert.assertTrue(outletVerifier.expectCycle(2, "0", CYCLE_DELAY));
+		awaitSettled(outletVerifier);
+		Assert.assertEquals(0, outletVerifier.getVerifiedControls());
+		Assert.assertEquals("Outlet2 expected 0, read 1", outletVerifier.getLastFailure());
+	}
+
+	/**
+	 * Unit test to verify a cycle shorter than the read-back interval.
+	 * This test ensures that the cycle is reported as not verified and is not tracked.
+	 */
+	@Test
+	void testCycleShorterThanIntervalNotVerified() {
+		OutletVerifier outletVerifier = new OutletVerifier(scheduler, () -> "00000001", failedOutlets::add, () -> CYCLE_DELAY, TIMEOUT);
+		Assert.assertFalse(outletVerifier.expectCycle(1, "1", CYCLE_DELAY));
+		Assert.assertEquals(0, outletVerifier.getPendingVerifications());
+	}
+
+	/**
+	 * Creates a verifier reporting failures into {@link #failedOutlets}
+	 *
+	 * @param bitmaskReader the scripted bitmask reader
+	 * @return the verifier
+	 */
+	private OutletVerifier createVerifier(Callable<String> bitmaskReader) {
+		return new OutletVerifier(scheduler, bitmaskReader, failedOutlets::add, () -> INTERVAL, TIMEOUT);
+	}
+
+	/**
+	 * Creates a reader returning the given bitmasks in order, then the last one again
+	 *
+	 * @param bitmasks the bitmasks
+	 * @return the reader
+	 */
+	private Callable<String> script(String... bitmasks) {
+		Iterator<String> iterator = Arrays.asList(bitmasks).iterator();
+		String[] last = { "" };
+		return () -> {
+			if (iterator.hasNext()) {
+				last[0] = iterator.next();
+			}
+			return last[0];
+		};
+	}
+
+	/**
+	 * Waits for every verification to be settled and every failure to reach the failure listener
+	 *
+	 * @param outletVerifier the verifier
+	 * @throws Exception if verifications are still pending after {@link #WAIT}
+	 */
+	private void awaitSettled(OutletVerifier outletVerifier) throws Exception {
+		long deadline = System.currentTimeMillis() + WAIT;
+		while (outletVerifier.getPendingVerifications() > 0 || failedOutlets.size() < outletVerifier.getFailedVerifications()) {
+			if (System.currentTimeMillis() >= deadline) {
+				throw new AssertionError("The verifications are still pending");
+			}
+			Thread.sleep(INTERVAL);
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PendingWriteOverlayTest for unit test of PendingWriteOverlay
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PendingWriteOverlayTest {
+	private static final String OUTLET = "OutletControl#Outlet3";
+	private static final String AUDIBLE_ALARM = "AudibleAlarm";
+	private static final long TTL = TimeUnit.SECONDS.toNanos(10);
+
+	private PendingWriteOverlay pendingWriteOverlay;
+	private Map<String, String> cache;
+
+	@BeforeEach()
+	public void setUp() {
+		pendingWriteOverlay = new PendingWriteOverlay();
+		cache = new HashMap<>();
+		cache.put(OUTLET, "1");
+		cache.put(AUDIBLE_ALARM, "Enabled");
+	}
+
+	/**
+	 * Unit test to verify that beginPoll removes only the pending properties from the cache.
+	 * This test ensures that the cycle can tell a fresh reading of a pending property from the cached value.
+	 */
+	@Test
+	void testBeginPollRemovesPendingProperties() {
+		pendingWriteOverlay.put(OUTLET, "0", TTL);
+		pendingWriteOverlay.beginPoll(cache);
+		Assert.assertFalse(cache.containsKey(OUTLET));
+		Assert.assertEquals("Enabled", cache.get(AUDIBLE_ALARM));
+	}
+
+	/**
+	 * Unit test to verify that a reading that does not match a pending value is masked until the value expires.
+	 * This test ensures that a poll running before the device applied a control keeps showing the written value.
+	 */
+	@Test
+	void testPendingValueMasksReading() {
+		pendingWriteOverlay.put(OUTLET, "0", TTL);
+		poll("1", TTL - 1);
+		Assert.assertEquals("0", cache.get(OUTLET));
+		Assert.assertEquals(1, pendingWriteOverlay.getPendingWrites());
+		Assert.assertEquals(0, pendingWriteOverlay.getConfirmedWrites());
+		Assert.assertEquals(0, pendingWriteOverlay.getExpiredWrites());
+	}
+
+	/**
+	 * Unit test to verify that a reading matching the pending value confirms the write.
+	 * This test ensures that the write is dropped and counted as confirmed, so later readings are shown as they are.
+	 */
+	@Test
+	void testMatchingReadingConfirmsWrite() {
+		pendingWriteOverlay.put(OUTLET, "0", TTL);
+		poll("0", 1);
+		Assert.assertEquals("0", cache.get(OUTLET));
+		Assert.assertEquals(0, pendingWriteOverlay.getPendingWrites());
+		Assert.assertEquals(1, pendingWriteOverlay.getConfirmedWrites());
+		poll("1", 2);
+		Assert.assertEquals("1", cache.get(OUTLET));
+		Assert.assertNull(pendingWriteOverlay.get(OUTLET));
+	}
+
+	/**
+	 * Unit test to verify the expiry of a pending value the device never reported.
+	 * This test ensures that once the time to live ran out the device reading is shown and the write counted as expired.
+	 */
+	@Test
+	void testExpiredWriteShowsReading() {
+		pendingWriteOverlay.put(OUTLET, "0", TTL);
+		poll("1", TTL);
+		Assert.assertEquals("1", cache.get(OUTLET));
+		Assert.assertEquals(0, pendingWriteOverlay.getPendingWrites());
+		Assert.assertEquals(1, pendingWriteOverlay.getExpiredWrites());
+		Assert.assertEquals(0, pendingWriteOverlay.getConfirmedWrites());
+	}
+
+	/**
+	 * Unit test to verify the expiry of a pending value whose property the cycle did not read.
+	 * This test ensures that the pending value is kept in the cache until expiry and is written back when it expires
+	 * without a reading.
+	 */
+	@Test
+	void testExpiryWithoutReading() {
+		pendingWriteOverlay.put(OUTLET, "0", TTL);
+		poll(null, 1);
+		Assert.assertEquals("0", cache.get(OUTLET));
+		Assert.assertEquals(1, pendingWriteOverlay.getPendingWrites());
+		poll(null, TTL + 1);
+		Assert.assertEquals("0", cache.get(OUTLET));
+		Assert.assertEquals(0, pendingWriteOverlay.getPendingWrites());
+		Assert.assertEquals(1, pendingWriteOverlay.getExpiredWrites());
+	}
+
+	/**
+	 * Unit test to verify that the expiry compares monotonic times across a wrap of {@link System#nanoTime()}.
+	 * This test ensures that a write put just before the clock wraps does not expire at once.
+	 */
+	@Test
+	void testExpiryAcrossClockWrap() {
+		long now = Long.MAX_VALUE - TimeUnit.SECONDS.toNanos(1);
+		pendingWriteOverlay.put(OUTLET, "0", now + TTL);
+		poll("1", now + TimeUnit.SECONDS.toNanos(5));
+		Assert.assertEquals("0", cache.get(OUTLET));
+		poll("1", now + TTL);
+		Assert.assertEquals("1", cache.get(OUTLET));
+		Assert.assertEquals(1, pendingWriteOverlay.getExpiredWrites());
+	}
+
+	/**
+	 * Unit test to verify that a new write replaces the pending one and that remove and clear drop pending writes.
+	 * This test ensures that only the last written value is laid over the readings and that clear resets the counters.
+	 */
+	@Test
+	void testReplaceRemoveAndClear() {
+		pendingWriteOverlay.put(OUTLET, "0", TTL);
+		pendingWriteOverlay.put(OUTLET, "1", 2 * TTL);
+		Assert.assertEquals("1", pendingWriteOverlay.get(OUTLET));
+		Assert.assertEquals(1, pendingWriteOverlay.getPendingWrites());
+		pendingWriteOverlay.remove(OUTLET);
+		Assert.assertNull(pendingWriteOverlay.get(OUTLET));
+		pendingWriteOverlay.put(AUDIBLE_ALARM, "Disabled", TTL);
+		pendingWriteOverlay.beginPoll(cache);
+		cache.put(AUDIBLE_ALARM, "Disabled");
+		pendingWriteOverlay.endPoll(cache, 0);
+		Assert.assertEquals(1, pendingWriteOverlay.getConfirmedWrites());
+		pendingWriteOverlay.put(OUTLET, "0", TTL);
+		pendingWriteOverlay.clear();
+		Assert.assertEquals(0, pendingWriteOverlay.getPendingWrites());
+		Assert.assertEquals(0, pendingWriteOverlay.getConfirmedWrites());
+	}
+
+	/**
+	 * Runs one monitoring cycle over {@link #cache}
+	 *
+	 * @param reading the outlet value the cycle reads, null if the cycle does not read it
+	 * @param now time of the end of the cycle
+	 */
+	private void poll(String reading, long now) {
+		pendingWriteOverlay.beginPoll(cache);
+		if (reading != null) {
+			cache.put(OUTLET, reading);
+		}
+		pendingWriteOverlay.endPoll(cache, now);
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.control;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SelfTestTrackerTest for unit test of SelfTestTracker
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SelfTestTrackerTest {
+	private static final long INTERVAL = 5;
+	private static final long TIMEOUT = 10000;
+	private static final long LONG_GRACE = 60000;
+	private static final long WAIT = 5000;
+
+	private ScheduledExecutorService scheduler;
+	private List<String> published;
+
+	@BeforeEach()
+	public void setUp() {
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+		published = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	@AfterEach()
+	public void destroy() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Unit test to verify that the final result of the previous test is not published over a test that just started.
+	 * This test ensures that the tracker waits for an in-progress result before it accepts a final one.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testStaleResultBeforeInProgressIsIgnored() throws Exception {
+		SelfTestTracker selfTestTracker = createTracker(script("1", "1", "2", "2", "4"), TIMEOUT, LONG_GRACE);
+		selfTestTracker.track();
+		awaitStopped(selfTestTracker);
+		Assert.assertEquals(Arrays.asList("2", "2", "4"), published);
+	}
+
+	/**
+	 * Unit test to verify a test that never reports itself in progress within the start grace period.
+	 * This test ensures that the previous result is not published and that the tracking stops at its timeout.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testStaleResultUntilTimeout() throws Exception {
+		SelfTestTracker selfTestTracker = createTracker(() -> "1", 200, LONG_GRACE);
+		selfTestTracker.track();
+		awaitStopped(selfTestTracker);
+		Assert.assertTrue(published.isEmpty());
+	}
+
+	/**
+	 * Unit test to verify a test that finished before its progress could be read.
+	 * This test ensures that a final result is accepted once the start grace period elapsed, and published once.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testFinalResultAcceptedAfterGracePeriod() throws Exception {
+		SelfTestTracker selfTestTracker = createTracker(() -> "1", TIMEOUT, 100);
+		long start = System.currentTimeMillis();
+		selfTestTracker.track();
+		awaitStopped(selfTestTracker);
+		Assert.assertTrue(System.currentTimeMillis() - start >= 100);
+		Assert.assertEquals(Collections.singletonList("1"), published);
+	}
+
+	/**
+	 * Unit test to verify that only final results stop the tracking.
+	 * This test ensures that "No test performed", empty reads and failed reads are ignored, and that an aborted test is final.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testOnlyFinalResultsStopTracking() throws Exception {
+		Iterator<String> results = Arrays.asList("2", "0", "", "error", "6").iterator();
+		SelfTestTracker selfTestTracker = createTracker(() -> {
+			String result = results.hasNext() ? results.next() : "";
+			if ("error".equals(result)) {
+				throw new IllegalStateException("No answer");
+			}
+			return result;
+		}, TIMEOUT, LONG_GRACE);
+		selfTestTracker.track();
+		awaitStopped(selfTestTracker);
+		Assert.assertEquals(Arrays.asList("2", "6"), published);
+	}
+
+	/**
+	 * Unit test to verify that restarting the tracking requires a new in-progress result.
+	 * This test ensures that the in-progress result of the previous tracking does not let a stale result through.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testRestartRequiresNewInProgress() throws Exception {
+		SelfTestTracker selfTestTracker = createTracker(script("2", "1", "1", "1", "1", "1", "1", "1", "1"), TIMEOUT, LONG_GRACE);
+		selfTestTracker.track();
+		awaitStopped(selfTestTracker);
+		Assert.assertEquals(Arrays.asList("2", "1"), published);
+		published.clear();
+		selfTestTracker.track();
+		Thread.sleep(20 * INTERVAL);
+		Assert.assertTrue(selfTestTracker.isTracking());
+		selfTestTracker.cancel();
+		Assert.assertFalse(selfTestTracker.isTracking());
+		Assert.assertTrue(published.isEmpty());
+	}
+
+	/**
+	 * Creates a tracker publishing into {@link #published}
+	 *
+	 * @param resultReader the scripted result reader
+	 * @param timeoutMillis the tracking timeout
+	 * @param startGraceMillis the start grace period
+	 * @return the tracker
+	 */
+	private SelfTestTracker createTracker(Callable<String> resultReader, long timeoutMillis, long startGraceMillis) {
+		return new SelfTestTracker(scheduler, resultReader, published::add, () -> INTERVAL, timeoutMillis, startGraceMillis);
+	}
+
+	/**
+	 * Creates a reader returning the given results in order, then the last one again
+	 *
+	 * @param results the results
+	 * @return the reader
+	 */
+	private Callable<String> script(String... results) {
+		Iterator<String> iterator = Arrays.asList(results).iterator();
+		String[] last = { "" };
+		return () -> {
+			if (iterator.hasNext()) {
+				last[0] = iterator.next();
+			}
+			return last[0];
+		};
+	}
+
+	/**
+	 * Waits for the tracking to stop
+	 *
+	 * @param selfTestTracker the tracker
+	 * @throws Exception if the tracking is still running after {@link #WAIT}
+	 */
+	private void awaitStopped(SelfTestTracker selfTestTracker) throws Exception {
+		long deadline = System.currentTimeMillis() + WAIT;
+		while (selfTestTracker.isTracking()) {
+			if (System.currentTimeMillis() >= deadline) {
+				throw new AssertionError("The tracking did not stop");
+			}
+			Thread.sleep(INTERVAL);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.recording;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FrameRingBufferTest for unit test of FrameRingBuffer
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FrameRingBufferTest {
+	private static final String EPOCH = "1970-01-01T00:00:00Z";
+
+	/**
+	 * Unit test to verify the capacity of the buffer.
+	 * This test ensures that the size is rounded up to a power of two and that a non-positive size is rejected.
+	 */
+	@Test
+	void testCapacity() {
+		Assert.assertEquals(8, new FrameRingBuffer(5).getCapacity());
+		Assert.assertEquals(8, new FrameRingBuffer(8).getCapacity());
+		Assert.assertEquals(1, new FrameRingBuffer(1).getCapacity());
+		try {
+			new FrameRingBuffer(0);
+			Assert.fail("A zero size must be rejected");
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("0"));
+		}
+	}
+
+	/**
+	 * Unit test to verify the rendering of one exchange.
+	 * This test ensures that the timestamp, the type, the latency and the escaped frames are rendered.
+	 */
+	@Test
+	void testDumpLine() {
+		FrameRingBuffer frameRingBuffer = new FrameRingBuffer(4);
+		frameRingBuffer.record(0, 1500000, FrameRecordType.RESPONSE, "^PING\r", "OK\\\r\n\u0001");
+		Assert.assertEquals(Collections.singletonList(EPOCH + " RESPONSE 1.500ms ^PING\\r -> OK\\\\\\r\\n\\x01"), frameRingBuffer.dump());
+	}
+
+	/**
+	 * Unit test to verify the order of the dump before the buffer is full.
+	 * This test ensures that the exchanges are rendered oldest first and that empty slots are left out.
+	 */
+	@Test
+	void testDumpOrdering() {
+		FrameRingBuffer frameRingBuffer = new FrameRingBuffer(8);
+		Assert.assertTrue(frameRingBuffer.dump().isEmpty());
+		frameRingBuffer.record(3000, 0, FrameRecordType.RESPONSE, "C0", "R0");
+		frameRingBuffer.record(2000, 0, FrameRecordType.FAILED_LOGIN, "C1", "denied");
+		frameRingBuffer.record(1000, 0, FrameRecordType.ERROR, "C2", "timeout");
+
+		List<String> lines = frameRingBuffer.dump();
+		Assert.assertEquals(3, lines.size());
+		Assert.assertTrue(lines.get(0).endsWith(" RESPONSE 0.000ms C0 -> R0"));
+		Assert.assertTrue(lines.get(1).endsWith(" FAILED_LOGIN 0.000ms C1 -> denied"));
+		Assert.assertTrue(lines.get(2).endsWith(" ERROR 0.000ms C2 -> timeout"));
+		Assert.assertEquals(3, frameRingBuffer.getRecordedFrames());
+	}
+
+	/**
+	 * Unit test to verify the wrap-around of the buffer at its capacity.
+	 * This test ensures that only the last exchanges are kept, oldest first, while every exchange is counted.
+	 */
+	@Test
+	void testWrapAround() {
+		FrameRingBuffer frameRingBuffer = new FrameRingBuffer(4);
+		for (int i = 0; i < 10; i++) {
+			frameRingBuffer.record(0, 0, FrameRecordType.RESPONSE, "C" + i, "R" + i);
+		}
+
+		List<String> lines = frameRingBuffer.dump();
+		Assert.assertEquals(4, lines.size());
+		for (int i = 0; i < 4; i++) {
+			Assert.assertTrue(lines.get(i), lines.get(i).endsWith(" C" + (i + 6) + " -> R" + (i + 6)));
+		}
+		Assert.assertEquals(10, frameRingBuffer.getRecordedFrames());
+	}
+
+	/**
+	 * Unit test to verify the truncation of long frames.
+	 * This test ensures that a long command is cut at its capacity and that a long response is cut with its full length appended.
+	 */
+	@Test
+	void testTruncation() {
+		FrameRingBuffer frameRingBuffer = new FrameRingBuffer(2);
+		String command = repeat('c', FrameRingBuffer.COMMAND_CAPACITY + 10);
+		String response = repeat('r', FrameRingBuffer.RESPONSE_CAPACITY + 88);
+		frameRingBuffer.record(0, 0, FrameRecordType.RESPONSE, command, response);
+		frameRingBuffer.record(0, 0, FrameRecordType.RESPONSE, "short", repeat('r', FrameRingBuffer.RESPONSE_CAPACITY));
+
+		List<String> lines = frameRingBuffer.dump();
+		Assert.assertEquals(EPOCH + " RESPONSE 0.000ms " + repeat('c', FrameRingBuffer.COMMAND_CAPACITY) + " -> "
+				+ repeat('r', FrameRingBuffer.RESPONSE_CAPACITY) + "... (600 bytes)", lines.get(0));
+		Assert.assertEquals(EPOCH + " RESPONSE 0.000ms short -> " + repeat('r', FrameRingBuffer.RESPONSE_CAPACITY), lines.get(1));
+	}
+
+	/**
+	 * Unit test to verify the recording of frame buffers.
+	 * This test ensures that the consumed command is read from its start, that the buffers are left unchanged
+	 * and that the error message stands in for a missing response.
+	 */
+	@Test
+	void testRecordBuffers() {
+		FrameRingBuffer frameRingBuffer = new FrameRingBuffer(2);
+		ByteBuffer command = ByteBuffer.wrap("xx^PING\r".getBytes(StandardCharsets.US_ASCII));
+		command.position(command.limit());
+		ByteBuffer response = ByteBuffer.wrap("xxOK\r".getBytes(StandardCharsets.US_ASCII));
+		response.position(2);
+		frameRingBuffer.record(0, 0, FrameRecordType.RESPONSE, command, 2, response, null);
+		frameRingBuffer.record(0, 0, FrameRecordType.ERROR, command, 2, null, "Read timed out");
+
+		Assert.assertEquals(command.limit(), command.position());
+		Assert.assertEquals(2, response.position());
+		List<String> lines = frameRingBuffer.dump();
+		Assert.assertEquals(EPOCH + " RESPONSE 0.000ms ^PING\\r -> OK\\r", lines.get(0));
+		Assert.assertEquals(EPOCH + " ERROR 0.000ms ^PING\\r -> Read timed out", lines.get(1));
+	}
+
+	/**
+	 * Unit test to verify dumps taken while several threads record.
+	 * This test ensures that a dump never renders a slot that is being overwritten, so each line holds one exchange.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testConcurrentDump() throws Exception {
+		FrameRingBuffer frameRingBuffer = new FrameRingBuffer(8);
+		int writers = 4;
+		int records = 20000;
+		CountDownLatch done = new CountDownLatch(writers);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < writers; t++) {
+			int writer = t;
+			threads.add(new Thread(() -> {
+				for (int i = 0; i < records; i++) {
+					String exchange = writer + "-" + i;
+					frameRingBuffer.record(0, 0, FrameRecordType.RESPONSE, exchange, repeat('r', i % 40) + exchange);
+				}
+				done.countDown();
+			}));
+		}
+		threads.forEach(Thread::start);
+
+		long dumped = 0;
+		boolean finished;
+		do {
+			finished = done.await(0, TimeUnit.MILLISECONDS);
+			for (String line : frameRingBuffer.dump()) {
+				String frames = line.substring((EPOCH + " RESPONSE 0.000ms ").length());
+				String exchange = frames.substring(0, frames.indexOf(" -> "));
+				String expected = repeat('r', Integer.parseInt(exchange.substring(exchange.indexOf('-') + 1)) % 40) + exchange;
+				Assert.assertEquals(exchange + " -> " + expected, frames);
+				dumped++;
+			}
+		} while (!finished);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertTrue(dumped > 0);
+		Assert.assertEquals((long) writers * records, frameRingBuffer.getRecordedFrames());
+		Assert.assertEquals(8, frameRingBuffer.dump().size());
+	}
+
+	/**
+	 * Builds a text of one repeated character
+	 *
+	 * @param character the character
+	 * @param count the length of the text
+	 * @return the text
+	 */
+	private static String repeat(char character, int count) {
+		char[] text = new char[count];
+		Arrays.fill(text, character);
+		return new String(text);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CronExpressionTest for unit test of CronExpression
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CronExpressionTest {
+	/**
+	 * Monday, October 19th 2026 at 10:07:30 UTC
+	 */
+	private static final ZonedDateTime MONDAY = ZonedDateTime.of(2026, 10, 19, 10, 7, 30, 0, ZoneOffset.UTC);
+
+	/**
+	 * Unit test to verify the parsing of steps, ranges and lists.
+	 * This test ensures that each form of a field matches the expected minutes and hours.
+	 */
+	@Test
+	void testFieldParsing() {
+		Assert.assertEquals(at(2026, 10, 19, 10, 15), new CronExpression("*/15 * * * *").next(MONDAY));
+		Assert.assertEquals(at(2026, 10, 19, 13, 0), new CronExpression("0 9-17/4 * * *").next(MONDAY));
+		Assert.assertEquals(at(2026, 10, 19, 10, 35), new CronExpression("5,35 * * * *").next(MONDAY));
+		Assert.assertEquals(at(2026, 10, 19, 20, 0), new CronExpression("0 20/2 * * *").next(MONDAY));
+		Assert.assertEquals(at(2026, 10, 19, 22, 30), new CronExpression("  30   22 * * *  ").next(MONDAY));
+	}
+
+	/**
+	 * Unit test to verify that invalid expressions are rejected.
+	 * This test ensures that a wrong field count, an out of range value, a reversed range and a non numeric value throw.
+	 */
+	@Test
+	void testInvalidExpressions() {
+		String[] expressions = { "0 0 * *", "0 0 * * * *", "60 * * * *", "0 24 * * *", "0 0 0 * *", "0 0 * 13 *", "0 0 * * 8", "5-1 * * * *", "a * * * *",
+				"*/0 * * * *" };
+		for (String expression : expressions) {
+			try {
+				new CronExpression(expression);
+				Assert.fail("Expected an invalid expression: " + expression);
+			} catch (IllegalArgumentException e) {
+				Assert.assertNotNull(e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Unit test to verify that the next time is strictly after the given time.
+	 * This test ensures that a time matching the expression is skipped to the next occurrence.
+	 */
+	@Test
+	void testNextIsStrictlyAfter() {
+		CronExpression cronExpression = new CronExpression("15 10 * * *");
+		ZonedDateTime first = cronExpression.next(MONDAY);
+		Assert.assertEquals(at(2026, 10, 19, 10, 15), first);
+		Assert.assertEquals(at(2026, 10, 20, 10, 15), cronExpression.next(first));
+	}
+
+	/**
+	 * Unit test to verify the day of week field alone.
+	 * This test ensures that both 0 and 7 stand for Sunday.
+	 */
+	@Test
+	void testDayOfWeekOnly() {
+		Assert.assertEquals(at(2026, 10, 25, 0, 0), new CronExpression("0 0 * * 0").next(MONDAY));
+		Assert.assertEquals(at(2026, 10, 25, 0, 0), new CronExpression("0 0 * * 7").next(MONDAY));
+		Assert.assertEquals(at(2026, 10, 21, 0, 0), new CronExpression("0 0 * * 3-5").next(MONDAY));
+	}
+
+	/**
+	 * Unit test to verify the day of month field alone.
+	 * This test ensures that months without the day are skipped.
+	 */
+	@Test
+	void testDayOfMonthOnly() {
+		Assert.assertEquals(at(2026, 10, 31, 0, 0), new CronExpression("0 0 31 * *").next(MONDAY));
+		Assert.assertEquals(at(2026, 12, 31, 0, 0), new CronExpression("0 0 31 * *").next(at(2026, 10, 31, 0, 0)));
+	}
+
+	/**
+	 * Unit test to verify that a day matches either day field when both are restricted.
+	 * This test ensures that "the 13th or a Friday" fires on the next Friday and on the 13th, and that the month still applies.
+	 */
+	@Test
+	void testBothDayFieldsMatchEither() {
+		CronExpression cronExpression = new CronExpression("0 0 13 * 5");
+		ZonedDateTime time = cronExpression.next(MONDAY);
+		Assert.assertEquals(at(2026, 10, 23, 0, 0), time);
+		time = cronExpression.next(cronExpression.next(cronExpression.next(time)));
+		Assert.assertEquals(at(2026, 11, 13, 0, 0), time);
+		Assert.assertEquals(at(2026, 11, 20, 0, 0), cronExpression.next(time));
+		Assert.assertEquals(at(2027, 1, 4, 0, 0), new CronExpression("0 0 13 1 1").next(at(2026, 12, 31, 0, 0)));
+	}
+
+	/**
+	 * Unit test to verify the rollover across months and years.
+	 * This test ensures that the search moves to the next year and gives up on dates that never exist.
+	 */
+	@Test
+	void testRolloverAndImpossibleDate() {
+		Assert.assertEquals(at(2027, 1, 1, 0, 0), new CronExpression("0 0 1 1 *").next(at(2026, 12, 31, 23, 59)));
+		Assert.assertEquals(at(2028, 2, 29, 12, 0), new CronExpression("0 12 29 2 *").next(MONDAY));
+		Assert.assertNull(new CronExpression("0 0 31 2 *").next(MONDAY));
+	}
+
+	/**
+	 * Creates a UTC time
+	 *
+	 * @param year the year
+	 * @param month the month
+	 * @param day the day of month
+	 * @param hour the hour
+	 * @param minute the minute
+	 * @return the time
+	 */
+	private static ZonedDateTime at(int year, int month, int day, int hour, int minute) {
+		return ZonedDateTime.of(year, month, day, hour, minute, 0, 0, ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TimingWheelTest for unit test of TimingWheel, ticked by hand from a fixed clock
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TimingWheelTest {
+	private TimingWheel timingWheel;
+	private List<String> fired;
+	private int ticks;
+
+	@BeforeEach()
+	public void setUp() {
+		timingWheel = new TimingWheel(() -> 0L, false);
+		fired = new ArrayList<>();
+		ticks = 0;
+	}
+
+	/**
+	 * Unit test to verify that a timeout of the first level fires at its tick.
+	 * This test ensures that a deadline is rounded up to the next tick and that the task runs exactly once.
+	 */
+	@Test
+	void testFiresAtDeadlineTick() {
+		timingWheel.schedule(4500, () -> fired.add("a"));
+		tickTo(4);
+		Assert.assertTrue(fired.isEmpty());
+		tickTo(5);
+		Assert.assertEquals(1, fired.size());
+		tickTo(200);
+		Assert.assertEquals(1, fired.size());
+		Assert.assertEquals(0, timingWheel.getPending());
+	}
+
+	/**
+	 * Unit test to verify the rollover of a timeout from the second level.
+	 * This test ensures that a timeout cascades down to the first level and fires at its own tick, not at the cascade.
+	 */
+	@Test
+	void testRolloverFromSecondLevel() {
+		timingWheel.schedule(100_000, () -> fired.add("a"));
+		tickTo(99);
+		Assert.assertTrue(fired.isEmpty());
+		tickTo(100);
+		Assert.assertEquals(1, fired.size());
+	}
+
+	/**
+	 * Unit test to verify the rollover of a timeout from the third level.
+	 * This test ensures that a timeout cascades through every lower level before it fires.
+	 */
+	@Test
+	void testRolloverFromThirdLevel() {
+		timingWheel.schedule(5_000_000, () -> fired.add("a"));
+		tickTo(4999);
+		Assert.assertTrue(fired.isEmpty());
+		Assert.assertEquals(1, timingWheel.getPending());
+		tickTo(5000);
+		Assert.assertEquals(1, fired.size());
+	}
+
+	/**
+	 * Unit test to verify that timeouts sharing a bucket fire in order of their deadlines.
+	 * This test ensures that timeouts of several levels all fire at their own tick.
+	 */
+	@Test
+	void testSeveralLevelsFireInOrder() {
+		timingWheel.schedule(70_000, () -> fired.add("70"));
+		timingWheel.schedule(3_000, () -> fired.add("3"));
+		timingWheel.schedule(4_200_000, () -> fired.add("4200"));
+		timingWheel.schedule(66_000, () -> fired.add("66"));
+		tickTo(4200);
+		Assert.assertEquals("[3, 66, 70, 4200]", fired.toString());
+	}
+
+	/**
+	 * Unit test to verify that a timeout already due fires on the next tick.
+	 * This test ensures that a deadline in the past is not lost.
+	 */
+	@Test
+	void testPastDeadlineFiresOnNextTick() {
+		timingWheel.schedule(-5000, () -> fired.add("a"));
+		tickTo(1);
+		Assert.assertEquals(1, fired.size());
+	}
+
+	/**
+	 * Unit test to verify the cancellation of timeouts.
+	 * This test ensures that the head, middle and tail of a bucket can be cancelled without disturbing the others, and
+	 * that cancelling twice or after firing has no effect.
+	 */
+	@Test
+	void testCancel() {
+		TimingWheel.Timeout first = timingWheel.schedule(10_000, () -> fired.add("first"));
+		TimingWheel.Timeout middle = timingWheel.schedule(10_000, () -> fired.add("middle"));
+		timingWheel.schedule(10_000, () -> fired.add("kept"));
+		TimingWheel.Timeout last = timingWheel.schedule(10_000, () -> fired.add("last"));
+		TimingWheel.Timeout cascaded = timingWheel.schedule(1_000_000, () -> fired.add("cascaded"));
+		middle.cancel();
+		first.cancel();
+		last.cancel();
+		last.cancel();
+		Assert.assertEquals(2, timingWheel.getPending());
+		tickTo(10);
+		Assert.assertEquals("[kept]", fired.toString());
+		tickTo(999);
+		cascaded.cancel();
+		Assert.assertEquals(0, timingWheel.getPending());
+		tickTo(1100);
+		Assert.assertEquals("[kept]", fired.toString());
+		first.cancel();
+		Assert.assertEquals(0, timingWheel.getPending());
+	}
+
+	/**
+	 * Advances the wheel up to the given tick
+	 *
+	 * @param tick the tick to reach, counted from the fixed clock
+	 */
+	private void tickTo(int tick) {
+		for (; ticks < tick; ticks++) {
+			timingWheel.tick();
+		}
+	}
+}
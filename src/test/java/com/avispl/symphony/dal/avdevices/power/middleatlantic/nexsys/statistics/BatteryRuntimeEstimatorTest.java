@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BatteryRuntimeEstimatorTest for unit test of BatteryRuntimeEstimator
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class BatteryRuntimeEstimatorTest {
+	private static final double DELTA = 1e-6;
+
+	private BatteryRuntimeEstimator batteryRuntimeEstimator;
+
+	@BeforeEach()
+	public void setUp() {
+		batteryRuntimeEstimator = new BatteryRuntimeEstimator();
+	}
+
+	/**
+	 * Unit test to verify that no estimate is published before enough samples were collected.
+	 * This test ensures that the estimate, lower and upper bounds stay NaN for the first two samples of a discharge.
+	 */
+	@Test
+	void testNoEstimateBeforeMinimumSamples() {
+		batteryRuntimeEstimator.update(true, 100, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 99, 54, 60, 100);
+		Assert.assertFalse(batteryRuntimeEstimator.hasEstimate());
+		Assert.assertTrue(Double.isNaN(batteryRuntimeEstimator.getEstimate()));
+		Assert.assertTrue(Double.isNaN(batteryRuntimeEstimator.getLower()));
+		Assert.assertTrue(Double.isNaN(batteryRuntimeEstimator.getUpper()));
+	}
+
+	/**
+	 * Unit test to verify the estimate of a linear discharge at constant power.
+	 * This test ensures that a capacity losing 1% per minute predicts the time to 0% exactly, with a collapsed confidence band.
+	 */
+	@Test
+	void testLinearDischargeAtConstantPower() {
+		batteryRuntimeEstimator.update(true, 100, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 99, 54, 60, 100);
+		batteryRuntimeEstimator.update(true, 98, 54, 120, 100);
+		Assert.assertTrue(batteryRuntimeEstimator.hasEstimate());
+		Assert.assertEquals(98 * 60, batteryRuntimeEstimator.getEstimate(), DELTA);
+		Assert.assertEquals(98 * 60, batteryRuntimeEstimator.getLower(), DELTA);
+		Assert.assertEquals(98 * 60, batteryRuntimeEstimator.getUpper(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify that the estimate follows a load change at once.
+	 * This test ensures that the rate of discharge is scaled by the current power over the average power of the discharge.
+	 */
+	@Test
+	void testLoadChangeScalesEstimate() {
+		batteryRuntimeEstimator.update(true, 100, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 99, 54, 60, 100);
+		batteryRuntimeEstimator.update(true, 98, 54, 120, 100);
+		batteryRuntimeEstimator.update(true, 97, 54, 180, 200);
+		double averagePower = (100 * 120 + 150 * 60) / 180.0;
+		Assert.assertEquals(97 * 60 * averagePower / 200, batteryRuntimeEstimator.getEstimate(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify the estimate of a discharge the estimator joins after the UPS switched to battery.
+	 * This test ensures that the average power is taken over the observed part of the discharge, so a constant load is not
+	 * mistaken for a load increase.
+	 */
+	@Test
+	void testDischargeJoinedLate() {
+		batteryRuntimeEstimator.update(true, 98, 54, 120, 100);
+		batteryRuntimeEstimator.update(true, 97, 54, 180, 100);
+		batteryRuntimeEstimator.update(true, 96, 54, 240, 100);
+		Assert.assertEquals(96 * 60, batteryRuntimeEstimator.getEstimate(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify that a load change is scaled by the average power of the observed part of a discharge joined late.
+	 * This test ensures that the time on battery before the first sample does not dilute the average power.
+	 */
+	@Test
+	void testLoadChangeOfDischargeJoinedLate() {
+		batteryRuntimeEstimator.update(true, 95, 54, 300, 100);
+		batteryRuntimeEstimator.update(true, 94, 54, 360, 100);
+		batteryRuntimeEstimator.update(true, 93, 54, 420, 100);
+		batteryRuntimeEstimator.update(true, 92, 54, 480, 200);
+		double averagePower = (100 * 120 + 150 * 60) / 180.0;
+		Assert.assertEquals(92 * 60 * averagePower / 200, batteryRuntimeEstimator.getEstimate(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify the confidence band of a noisy discharge.
+	 * This test ensures that the band surrounds the estimate and that the lower bound never goes below zero.
+	 */
+	@Test
+	void testNoisyDischargeHasConfidenceBand() {
+		double[] capacities = { 100, 98.5, 98.2, 96.4, 96.1, 94.3 };
+		double[] voltages = { 54, 53.7, 53.6, 53.1, 53.0, 52.6 };
+		for (int i = 0; i < capacities.length; i++) {
+			batteryRuntimeEstimator.update(true, capacities[i], voltages[i], i * 60L, 100);
+		}
+		Assert.assertTrue(batteryRuntimeEstimator.hasEstimate());
+		Assert.assertTrue(batteryRuntimeEstimator.getLower() < batteryRuntimeEstimator.getEstimate());
+		Assert.assertTrue(batteryRuntimeEstimator.getUpper() > batteryRuntimeEstimator.getEstimate());
+		Assert.assertTrue(batteryRuntimeEstimator.getLower() >= 0);
+	}
+
+	/**
+	 * Unit test to verify that returning to input power clears the estimate.
+	 * This test ensures that a sample off battery resets the discharge and that the next discharge starts from scratch.
+	 */
+	@Test
+	void testLinePowerResetsEstimate() {
+		batteryRuntimeEstimator.update(true, 100, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 99, 54, 60, 100);
+		batteryRuntimeEstimator.update(true, 98, 54, 120, 100);
+		batteryRuntimeEstimator.update(false, 98, 54, 0, 100);
+		Assert.assertFalse(batteryRuntimeEstimator.hasEstimate());
+		batteryRuntimeEstimator.update(true, 98, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 97, 54, 60, 100);
+		Assert.assertFalse(batteryRuntimeEstimator.hasEstimate());
+	}
+
+	/**
+	 * Unit test to verify that an on-battery time going backwards starts a new discharge.
+	 * This test ensures that samples of a previous discharge missed while on line power do not bias the new fit.
+	 */
+	@Test
+	void testOnBatteryTimeRestartStartsNewDischarge() {
+		batteryRuntimeEstimator.update(true, 100, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 90, 54, 60, 100);
+		batteryRuntimeEstimator.update(true, 80, 54, 120, 100);
+		batteryRuntimeEstimator.update(true, 80, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 79, 54, 60, 100);
+		batteryRuntimeEstimator.update(true, 78, 54, 120, 100);
+		Assert.assertEquals(78 * 60, batteryRuntimeEstimator.getEstimate(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify that a battery that is not discharging gives no estimate.
+	 * This test ensures that flat capacity and voltage readings do not produce an infinite runtime.
+	 */
+	@Test
+	void testFlatReadingsGiveNoEstimate() {
+		batteryRuntimeEstimator.update(true, 100, 54, 0, 100);
+		batteryRuntimeEstimator.update(true, 100, 54, 60, 100);
+		batteryRuntimeEstimator.update(true, 100, 54, 120, 100);
+		Assert.assertFalse(batteryRuntimeEstimator.hasEstimate());
+	}
+}
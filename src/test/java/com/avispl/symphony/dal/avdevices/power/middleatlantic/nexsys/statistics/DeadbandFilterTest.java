@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeadbandFilterTest for unit test of DeadbandFilter and Deadband
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeadbandFilterTest {
+	private static final String PROPERTY = "OutputStatus#Power(W)";
+	private static final long HEARTBEAT = TimeUnit.MINUTES.toNanos(5);
+	private static final long POLL = TimeUnit.SECONDS.toNanos(30);
+
+	private DeadbandFilter deadbandFilter;
+
+	@BeforeEach()
+	public void setUp() {
+		deadbandFilter = new DeadbandFilter();
+	}
+
+	/**
+	 * Unit test to verify that values inside the deadband are suppressed and values past it are emitted.
+	 * This test ensures that the first value is always emitted and that a change equal to the deadband is not enough.
+	 */
+	@Test
+	void testAbsoluteDeadband() {
+		Deadband deadband = Deadband.parse("5");
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, 0));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "104", deadband, HEARTBEAT, POLL));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "95", deadband, HEARTBEAT, 2 * POLL));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "94", deadband, HEARTBEAT, 3 * POLL));
+	}
+
+	/**
+	 * Unit test to verify that the deadband is measured from the last emitted value, not the last seen one.
+	 * This test ensures that a slow drift made of changes inside the deadband is emitted once it adds up past the deadband.
+	 */
+	@Test
+	void testSlowDriftIsEmitted() {
+		Deadband deadband = Deadband.parse("5");
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, 0));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "102", deadband, HEARTBEAT, POLL));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "104", deadband, HEARTBEAT, 2 * POLL));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "106", deadband, HEARTBEAT, 3 * POLL));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "108", deadband, HEARTBEAT, 4 * POLL));
+	}
+
+	/**
+	 * Unit test to verify a deadband given as a percentage of the last emitted value.
+	 * This test ensures that the threshold scales with the last emitted value.
+	 */
+	@Test
+	void testPercentDeadband() {
+		Deadband deadband = Deadband.parse(" 10 %");
+		Assert.assertEquals("10.0%", deadband.toString());
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "200", deadband, HEARTBEAT, 0));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "220", deadband, HEARTBEAT, POLL));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "221", deadband, HEARTBEAT, 2 * POLL));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "200", deadband, HEARTBEAT, 3 * POLL));
+	}
+
+	/**
+	 * Unit test to verify that a flat signal is emitted once per heartbeat.
+	 * This test ensures that the heartbeat counts from the last emitted value, whether it was emitted by the deadband or
+	 * by the heartbeat.
+	 */
+	@Test
+	void testHeartbeatEmission() {
+		Deadband deadband = Deadband.parse("5");
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, 0));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, HEARTBEAT - 1));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, HEARTBEAT));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "110", deadband, HEARTBEAT, HEARTBEAT + POLL));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "110", deadband, HEARTBEAT, 2 * HEARTBEAT));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "110", deadband, HEARTBEAT, 2 * HEARTBEAT + POLL));
+	}
+
+	/**
+	 * Unit test to verify the emission of values that are not numbers and of properties without a deadband.
+	 * This test ensures that a text value is emitted whenever it changes and that a null deadband emits every value.
+	 */
+	@Test
+	void testTextValuesAndNoDeadband() {
+		Deadband deadband = Deadband.parse("5");
+		Assert.assertTrue(deadbandFilter.shouldEmit("OutputStatus#Source", "Normal", deadband, HEARTBEAT, 0));
+		Assert.assertFalse(deadbandFilter.shouldEmit("OutputStatus#Source", "Normal", deadband, HEARTBEAT, POLL));
+		Assert.assertTrue(deadbandFilter.shouldEmit("OutputStatus#Source", "Battery", deadband, HEARTBEAT, 2 * POLL));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", null, HEARTBEAT, 0));
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", null, HEARTBEAT, POLL));
+	}
+
+	/**
+	 * Unit test to verify that clearing the filter emits the next value of every property.
+	 * This test ensures that properties are tracked separately and forgotten on clear.
+	 */
+	@Test
+	void testPropertiesAreIndependentAndCleared() {
+		Deadband deadband = Deadband.parse("5");
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, 0));
+		Assert.assertTrue(deadbandFilter.shouldEmit("InputStatus#Voltage(V)", "100", deadband, HEARTBEAT, 0));
+		Assert.assertFalse(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, POLL));
+		deadbandFilter.clear();
+		Assert.assertTrue(deadbandFilter.shouldEmit(PROPERTY, "100", deadband, HEARTBEAT, 2 * POLL));
+	}
+
+	/**
+	 * Unit test to verify that a negative or malformed deadband is rejected.
+	 * This test ensures that Deadband.parse throws instead of building a filter that emits nothing.
+	 */
+	@Test
+	void testInvalidDeadband() {
+		Assert.assertThrows(IllegalArgumentException.class, () -> Deadband.parse("-1"));
+		Assert.assertThrows(IllegalArgumentException.class, () -> Deadband.parse("five%"));
+		Assert.assertThrows(IllegalArgumentException.class, () -> Deadband.parse("NaN"));
+	}
+}
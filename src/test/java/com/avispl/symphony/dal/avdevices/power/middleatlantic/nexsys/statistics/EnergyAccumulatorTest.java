@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EnergyAccumulatorTest for unit test of EnergyAccumulator
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class EnergyAccumulatorTest {
+	private static final double DELTA = 1e-9;
+	private static final long START = TimeUnit.SECONDS.toNanos(1000);
+	private static final long START_WALL_TIME = ZonedDateTime.of(2026, 10, 19, 10, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+
+	private EnergyAccumulator energyAccumulator;
+	private File checkpointDirectory;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		energyAccumulator = new EnergyAccumulator(null, ZoneOffset.UTC);
+		checkpointDirectory = Files.createTempDirectory("nexsys-energy").toFile();
+	}
+
+	@AfterEach()
+	public void destroy() {
+		File[] files = checkpointDirectory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		checkpointDirectory.delete();
+	}
+
+	/**
+	 * Unit test to verify that consecutive samples are integrated as trapezoids.
+	 * This test ensures that the energy is the average power of each interval times its length, whatever the intervals are.
+	 */
+	@Test
+	void testTrapezoidalIntegration() {
+		update(0, 100);
+		update(TimeUnit.MINUTES.toNanos(6), 300);
+		update(TimeUnit.MINUTES.toNanos(15), 300);
+		// (100 + 300) / 2 W for 6 minutes, then 300 W for 9 minutes
+		double expected = (200 * 0.1 + 300 * 0.15) / 1000;
+		Assert.assertEquals(expected, energyAccumulator.getTotal(), DELTA);
+		Assert.assertEquals(expected, energyAccumulator.getCurrentDayEnergy(), DELTA);
+		Assert.assertEquals(expected, energyAccumulator.getCurrentMonthEnergy(), DELTA);
+		Assert.assertEquals(START_WALL_TIME, energyAccumulator.getSince());
+	}
+
+	/**
+	 * Unit test to verify that a gap longer than 15 minutes between two samples is not integrated.
+	 * This test ensures that the accumulation restarts from the sample after the gap, while a gap of exactly 15 minutes is
+	 * still integrated.
+	 */
+	@Test
+	void testGapIsNotIntegrated() {
+		update(0, 1000);
+		update(TimeUnit.MINUTES.toNanos(15), 1000);
+		Assert.assertEquals(0.25, energyAccumulator.getTotal(), DELTA);
+		update(TimeUnit.MINUTES.toNanos(31), 1000);
+		Assert.assertEquals(0.25, energyAccumulator.getTotal(), DELTA);
+		update(TimeUnit.MINUTES.toNanos(37), 1000);
+		Assert.assertEquals(0.35, energyAccumulator.getTotal(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify that a poll without a power value interrupts the integration.
+	 * This test ensures that the interval around an unknown power is skipped, not bridged by the samples on both sides.
+	 */
+	@Test
+	void testUnknownPowerIsNotIntegrated() {
+		update(0, 600);
+		update(TimeUnit.MINUTES.toNanos(1), Double.NaN);
+		update(TimeUnit.MINUTES.toNanos(2), 600);
+		Assert.assertEquals(0, energyAccumulator.getTotal(), DELTA);
+		update(TimeUnit.MINUTES.toNanos(3), 600);
+		Assert.assertEquals(0.01, energyAccumulator.getTotal(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify that a sample stamped before the previous one is not integrated.
+	 * This test ensures that a clock going backwards adds no negative energy.
+	 */
+	@Test
+	void testNonIncreasingTimeIsNotIntegrated() {
+		update(TimeUnit.MINUTES.toNanos(5), 500);
+		update(TimeUnit.MINUTES.toNanos(5), 500);
+		update(TimeUnit.MINUTES.toNanos(4), 500);
+		Assert.assertEquals(0, energyAccumulator.getTotal(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify the roll-over of the day and month counters.
+	 * This test ensures that the energy of a day becomes the previous day energy on the next day, and that a period that
+	 * does not directly precede the new one is dropped.
+	 */
+	@Test
+	void testPeriodRollOver() {
+		long day = TimeUnit.DAYS.toMillis(1);
+		energyAccumulator.update(START, START_WALL_TIME, 1000);
+		energyAccumulator.update(START + TimeUnit.MINUTES.toNanos(6), START_WALL_TIME + TimeUnit.MINUTES.toMillis(6), 1000);
+		energyAccumulator.update(START + TimeUnit.HOURS.toNanos(1), START_WALL_TIME + day, 1000);
+		Assert.assertEquals(0.1, energyAccumulator.getPreviousDayEnergy(), DELTA);
+		Assert.assertEquals(0, energyAccumulator.getCurrentDayEnergy(), DELTA);
+		Assert.assertEquals(0.1, energyAccumulator.getCurrentMonthEnergy(), DELTA);
+		energyAccumulator.update(START + TimeUnit.HOURS.toNanos(2), START_WALL_TIME + 30 * day, 1000);
+		Assert.assertEquals(0, energyAccumulator.getPreviousDayEnergy(), DELTA);
+		Assert.assertEquals(0.1, energyAccumulator.getPreviousMonthEnergy(), DELTA);
+		Assert.assertEquals(0.1, energyAccumulator.getTotal(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify that the counters survive a restart through the checkpoint file.
+	 * This test ensures that a new accumulator reading the checkpoint continues from the saved counters.
+	 */
+	@Test
+	void testCheckpointRoundTrip() {
+		File checkpointFile = new File(checkpointDirectory, "energy.properties");
+		EnergyAccumulator accumulator = new EnergyAccumulator(checkpointFile, ZoneOffset.UTC);
+		accumulator.update(START, START_WALL_TIME, 2000);
+		accumulator.update(START + TimeUnit.MINUTES.toNanos(3), START_WALL_TIME + TimeUnit.MINUTES.toMillis(3), 2000);
+		accumulator.save();
+
+		EnergyAccumulator restarted = new EnergyAccumulator(checkpointFile, ZoneOffset.UTC);
+		restarted.load();
+		Assert.assertEquals(0.1, restarted.getTotal(), DELTA);
+		Assert.assertEquals(0.1, restarted.getCurrentDayEnergy(), DELTA);
+		Assert.assertEquals(START_WALL_TIME, restarted.getSince());
+	}
+
+	/**
+	 * Feeds one sample to {@link #energyAccumulator}, with the wall time following the monotonic time
+	 *
+	 * @param elapsed time since the first sample in nanoseconds
+	 * @param power output power in W
+	 */
+	private void update(long elapsed, double power) {
+		energyAccumulator.update(START + elapsed, START_WALL_TIME + TimeUnit.NANOSECONDS.toMillis(elapsed), power);
+	}
+}
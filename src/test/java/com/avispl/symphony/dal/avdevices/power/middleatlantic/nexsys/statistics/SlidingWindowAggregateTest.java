@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SlidingWindowAggregateTest for unit test of SlidingWindowAggregate
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SlidingWindowAggregateTest {
+	private static final long WINDOW = 10;
+	private static final double DELTA = 1e-9;
+
+	/**
+	 * Unit test to verify that an empty window has no aggregate.
+	 * This test ensures that every aggregate is NaN before the first sample and after every sample expired.
+	 */
+	@Test
+	void testEmptyWindow() {
+		SlidingWindowAggregate aggregate = new SlidingWindowAggregate(WINDOW);
+		Assert.assertTrue(Double.isNaN(aggregate.getMin()));
+		Assert.assertTrue(Double.isNaN(aggregate.getStandardDeviation()));
+		aggregate.add(0, 5);
+		aggregate.expire(WINDOW);
+		Assert.assertEquals(0, aggregate.getCount());
+		Assert.assertTrue(Double.isNaN(aggregate.getMin()));
+		Assert.assertTrue(Double.isNaN(aggregate.getMax()));
+		Assert.assertTrue(Double.isNaN(aggregate.getMean()));
+	}
+
+	/**
+	 * Unit test to verify the minimum and maximum while the extremes leave the window.
+	 * This test ensures that the next extreme of the remaining samples takes over once the current one expires.
+	 */
+	@Test
+	void testMinMaxUnderEviction() {
+		SlidingWindowAggregate aggregate = new SlidingWindowAggregate(WINDOW);
+		aggregate.add(0, 5);
+		aggregate.add(2, 1);
+		aggregate.add(4, 9);
+		aggregate.add(6, 3);
+		aggregate.add(8, 7);
+		Assert.assertEquals(1, aggregate.getMin(), DELTA);
+		Assert.assertEquals(9, aggregate.getMax(), DELTA);
+		aggregate.expire(12);
+		Assert.assertEquals(3, aggregate.getCount());
+		Assert.assertEquals(3, aggregate.getMin(), DELTA);
+		Assert.assertEquals(9, aggregate.getMax(), DELTA);
+		aggregate.add(15, 4);
+		Assert.assertEquals(3, aggregate.getCount());
+		Assert.assertEquals(3, aggregate.getMin(), DELTA);
+		Assert.assertEquals(7, aggregate.getMax(), DELTA);
+		aggregate.expire(17);
+		Assert.assertEquals(4, aggregate.getMin(), DELTA);
+		Assert.assertEquals(7, aggregate.getMax(), DELTA);
+		aggregate.expire(19);
+		Assert.assertEquals(4, aggregate.getMin(), DELTA);
+		Assert.assertEquals(4, aggregate.getMax(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify the minimum and maximum with repeated values.
+	 * This test ensures that the expiry of one of several equal extremes keeps the extreme while an equal sample remains.
+	 */
+	@Test
+	void testMinMaxWithRepeatedValues() {
+		SlidingWindowAggregate aggregate = new SlidingWindowAggregate(WINDOW);
+		aggregate.add(0, 2);
+		aggregate.add(1, 2);
+		aggregate.add(2, 8);
+		aggregate.add(3, 8);
+		aggregate.expire(10);
+		Assert.assertEquals(2, aggregate.getMin(), DELTA);
+		Assert.assertEquals(8, aggregate.getMax(), DELTA);
+		aggregate.expire(12);
+		Assert.assertEquals(1, aggregate.getCount());
+		Assert.assertEquals(8, aggregate.getMin(), DELTA);
+		Assert.assertEquals(8, aggregate.getMax(), DELTA);
+	}
+
+	/**
+	 * Unit test to verify the sliding aggregates against a brute force computation.
+	 * This test ensures that minimum, maximum, mean and standard deviation match a recomputation over the samples in the window.
+	 */
+	@Test
+	void testAggregatesMatchBruteForce() {
+		SlidingWindowAggregate aggregate = new SlidingWindowAggregate(WINDOW);
+		ArrayDeque<long[]> window = new ArrayDeque<>();
+		Random random = new Random(42);
+		for (long time = 0; time < 5000; time += 1 + random.nextInt(3)) {
+			double value = random.nextInt(2000) / 10.0;
+			aggregate.add(time, value);
+			window.addLast(new long[] { time, Double.doubleToLongBits(value) });
+			while (time - window.peekFirst()[0] >= WINDOW) {
+				window.pollFirst();
+			}
+			double min = Double.MAX_VALUE;
+			double max = -Double.MAX_VALUE;
+			double sum = 0;
+			for (long[] sample : window) {
+				double sampleValue = Double.longBitsToDouble(sample[1]);
+				min = Math.min(min, sampleValue);
+				max = Math.max(max, sampleValue);
+				sum += sampleValue;
+			}
+			double mean = sum / window.size();
+			double squares = 0;
+			for (long[] sample : window) {
+				double deviation = Double.longBitsToDouble(sample[1]) - mean;
+				squares += deviation * deviation;
+			}
+			Assert.assertEquals(window.size(), aggregate.getCount());
+			Assert.assertEquals(min, aggregate.getMin(), DELTA);
+			Assert.assertEquals(max, aggregate.getMax(), DELTA);
+			Assert.assertEquals(mean, aggregate.getMean(), 1e-6);
+			Assert.assertEquals(Math.sqrt(squares / window.size()), aggregate.getStandardDeviation(), 1e-6);
+		}
+	}
+
+	/**
+	 * Unit test to verify the standard deviation of values with a large offset.
+	 * This test ensures that a steady reading gives a null deviation and a small spread around a large value stays accurate
+	 * after many samples went through the window.
+	 */
+	@Test
+	void testStandardDeviationNumerics() {
+		SlidingWindowAggregate aggregate = new SlidingWindowAggregate(WINDOW);
+		long time = 0;
+		for (int i = 0; i < 200000; i++) {
+			aggregate.add(time++, 230.1 + (i % 7) * 0.37);
+		}
+		for (int i = 0; i < 2 * WINDOW; i++) {
+			aggregate.add(time++, 230.1);
+		}
+		Assert.assertEquals(0, aggregate.getStandardDeviation(), 1e-6);
+		Assert.assertEquals(230.1, aggregate.getMean(), 1e-9);
+		for (int i = 0; i < 2 * WINDOW; i++) {
+			aggregate.add(time++, 1_000_000 + (i % 2 == 0 ? 0.001 : -0.001));
+		}
+		Assert.assertEquals(0.001, aggregate.getStandardDeviation(), 1e-6);
+		Assert.assertEquals(1_000_000, aggregate.getMean(), 1e-6);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.statistics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.common.UPSPropertiesList;
+
+/**
+ * WindowedAggregatorTest for unit test of WindowedAggregator
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class WindowedAggregatorTest {
+	private static final double DELTA = 1e-9;
+
+	private WindowedAggregator windowedAggregator;
+
+	@BeforeEach()
+	public void setUp() {
+		windowedAggregator = new WindowedAggregator(new int[] { 1, 5 }, Arrays.asList(UPSPropertiesList.OUTPUT_POWER, UPSPropertiesList.CAPACITY));
+	}
+
+	/**
+	 * Unit test to verify that every window of a property gets its samples.
+	 * This test ensures that the short window drops a peak the long window still reports.
+	 */
+	@Test
+	void testWindowsOfDifferentLengths() {
+		windowedAggregator.add(UPSPropertiesList.OUTPUT_POWER, 0, 900);
+		windowedAggregator.add(UPSPropertiesList.OUTPUT_POWER, TimeUnit.SECONDS.toNanos(90), 300);
+		windowedAggregator.add(UPSPropertiesList.OUTPUT_POWER, TimeUnit.SECONDS.toNanos(120), 500);
+		SlidingWindowAggregate oneMinute = windowedAggregator.getAggregate(UPSPropertiesList.OUTPUT_POWER, 0);
+		SlidingWindowAggregate fiveMinutes = windowedAggregator.getAggregate(UPSPropertiesList.OUTPUT_POWER, 1);
+		Assert.assertEquals(500, oneMinute.getMax(), DELTA);
+		Assert.assertEquals(300, oneMinute.getMin(), DELTA);
+		Assert.assertEquals(900, fiveMinutes.getMax(), DELTA);
+		Assert.assertEquals(3, fiveMinutes.getCount());
+	}
+
+	/**
+	 * Unit test to verify the expiry of a property that gets no new sample.
+	 * This test ensures that its windows empty out while the other properties keep their samples.
+	 */
+	@Test
+	void testExpireWithoutNewSample() {
+		windowedAggregator.add(UPSPropertiesList.OUTPUT_POWER, 0, 400);
+		windowedAggregator.add(UPSPropertiesList.CAPACITY, 0, 100);
+		windowedAggregator.expire(UPSPropertiesList.OUTPUT_POWER, TimeUnit.MINUTES.toNanos(5));
+		Assert.assertEquals(0, windowedAggregator.getAggregate(UPSPropertiesList.OUTPUT_POWER, 1).getCount());
+		Assert.assertEquals(1, windowedAggregator.getAggregate(UPSPropertiesList.CAPACITY, 1).getCount());
+	}
+
+	/**
+	 * Unit test to verify that properties that are not tracked are ignored.
+	 * This test ensures that adding a sample of an untracked property has no effect and that it has no aggregate.
+	 */
+	@Test
+	void testUntrackedProperty() {
+		windowedAggregator.add(UPSPropertiesList.INPUT_VOLTAGE, 0, 120);
+		windowedAggregator.expire(UPSPropertiesList.INPUT_VOLTAGE, 0);
+		Assert.assertNull(windowedAggregator.getAggregate(UPSPropertiesList.INPUT_VOLTAGE, 0));
+		Assert.assertEquals(Arrays.asList(UPSPropertiesList.OUTPUT_POWER, UPSPropertiesList.CAPACITY), Arrays.asList(windowedAggregator.getProperties().toArray()));
+		Assert.assertArrayEquals(new int[] { 1, 5 }, windowedAggregator.getWindowMinutes());
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CommandRateLimiterTest for unit test of CommandRateLimiter
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CommandRateLimiterTest {
+	private static final long TOKEN = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/**
+	 * Unit test to verify that a full bucket lets a burst go and then spaces the frames one token apart.
+	 * This test ensures that the frames after the burst reserve consecutive tokens.
+	 */
+	@Test
+	void testBurst() {
+		CommandRateLimiter commandRateLimiter = new CommandRateLimiter(10, 3);
+		long now = System.nanoTime();
+		Assert.assertEquals(0, commandRateLimiter.reserve(now));
+		Assert.assertEquals(0, commandRateLimiter.reserve(now));
+		Assert.assertEquals(0, commandRateLimiter.reserve(now));
+		Assert.assertEquals(TOKEN, commandRateLimiter.reserve(now));
+		Assert.assertEquals(2 * TOKEN, commandRateLimiter.reserve(now));
+	}
+
+	/**
+	 * Unit test to verify the refill of the bucket over time.
+	 * This test ensures that partial tokens add up and that an idle bucket never holds more than the burst.
+	 */
+	@Test
+	void testRefill() {
+		CommandRateLimiter commandRateLimiter = new CommandRateLimiter(10, 3);
+		long now = System.nanoTime();
+		for (int i = 0; i < 3; i++) {
+			commandRateLimiter.reserve(now);
+		}
+		long later = now + TOKEN * 3 / 2;
+		Assert.assertEquals(0, commandRateLimiter.reserve(later));
+		Assert.assertEquals(TOKEN / 2, commandRateLimiter.reserve(later));
+
+		long idle = later + TimeUnit.SECONDS.toNanos(10);
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(0, commandRateLimiter.reserve(idle));
+		}
+		Assert.assertEquals(TOKEN, commandRateLimiter.reserve(idle));
+	}
+
+	/**
+	 * Unit test to verify the throttle counters.
+	 * This test ensures that only the frames that had to wait are counted, with the time they waited.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testThrottleCounting() throws Exception {
+		CommandRateLimiter commandRateLimiter = new CommandRateLimiter(100, 2);
+		long start = System.nanoTime();
+		for (int i = 0; i < 4; i++) {
+			commandRateLimiter.acquire();
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		Assert.assertEquals(2, commandRateLimiter.getThrottledCommands());
+		Assert.assertTrue(commandRateLimiter.getThrottledMillis() >= 10);
+		Assert.assertTrue(elapsed >= 19);
+	}
+
+	/**
+	 * Unit test to verify that the queue depth counts the callers waiting in the limiter and those waiting for a channel lock.
+	 * This test ensures that the maximum queue depth keeps the highest count once the waiting caller left.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testQueueDepth() throws Exception {
+		CommandRateLimiter commandRateLimiter = new CommandRateLimiter(1, 1, () -> 2);
+		commandRateLimiter.acquire();
+		Assert.assertEquals(2, commandRateLimiter.getQueueDepth());
+		Thread waiter = new Thread(() -> {
+			try {
+				commandRateLimiter.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		waiter.start();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (commandRateLimiter.getQueueDepth() != 3 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1);
+		}
+		Assert.assertEquals(3, commandRateLimiter.getQueueDepth());
+		waiter.interrupt();
+		waiter.join(5000);
+		Assert.assertEquals(2, commandRateLimiter.getQueueDepth());
+		Assert.assertEquals(3, commandRateLimiter.getMaxQueueDepth());
+		Assert.assertEquals(1, commandRateLimiter.getThrottledCommands());
+	}
+
+	/**
+	 * Unit test to verify that a rate that is not positive is rejected.
+	 * This test ensures that the constructor throws instead of creating a limiter that never lets a frame go.
+	 */
+	@Test
+	void testInvalidRate() {
+		Assert.assertThrows(IllegalArgumentException.class, () -> new CommandRateLimiter(0, 1));
+		Assert.assertThrows(IllegalArgumentException.class, () -> new CommandRateLimiter(-5, 1));
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FileSessionLeaseTest for unit test of FileSessionLease
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FileSessionLeaseTest {
+	private static final String HOST = "10.0.0.1";
+	private static final long SHORT_WAIT = 200;
+	private static final long LONG_WAIT = 5000;
+
+	private File directory;
+	private List<FileSessionLease> leases;
+	private ExecutorService executor;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		directory = Files.createTempDirectory("nexsys-lease").toFile();
+		leases = new ArrayList<>();
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach()
+	public void destroy() {
+		executor.shutdownNow();
+		for (FileSessionLease lease : leases) {
+			lease.release();
+		}
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+
+	/**
+	 * Unit test to verify two leases of the same host.
+	 * This test ensures that the second lease waits for its timeout while the first is held, and is granted once it is released.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testSameHostTakesTurns() throws Exception {
+		FileSessionLease first = createLease(HOST);
+		FileSessionLease second = createLease(HOST);
+		Assert.assertTrue(first.acquire(LONG_WAIT));
+		Assert.assertTrue(first.isHeld());
+
+		long start = System.currentTimeMillis();
+		Assert.assertFalse(second.acquire(SHORT_WAIT));
+		Assert.assertTrue(System.currentTimeMillis() - start >= SHORT_WAIT);
+		Assert.assertFalse(second.isHeld());
+
+		first.release();
+		Assert.assertFalse(first.isHeld());
+		Assert.assertTrue(second.acquire(SHORT_WAIT));
+		Assert.assertFalse(first.acquire(SHORT_WAIT));
+	}
+
+	/**
+	 * Unit test to verify the hand-over of a lease to an instance waiting for it, as done when the holder goes idle.
+	 * This test ensures that the waiting instance is granted the lease as soon as the holder releases it.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testReleaseHandsLeaseOver() throws Exception {
+		FileSessionLease holder = createLease(HOST);
+		FileSessionLease waiter = createLease(HOST);
+		Assert.assertTrue(holder.acquire(LONG_WAIT));
+
+		Future<Boolean> waiting = executor.submit(() -> waiter.acquire(LONG_WAIT));
+		Thread.sleep(SHORT_WAIT);
+		Assert.assertFalse(waiting.isDone());
+
+		long released = System.currentTimeMillis();
+		holder.release();
+		Assert.assertTrue(waiting.get(LONG_WAIT, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(System.currentTimeMillis() - released < LONG_WAIT);
+		Assert.assertTrue(waiter.isHeld());
+		Assert.assertFalse(holder.isHeld());
+	}
+
+	/**
+	 * Unit test to verify leases of distinct hosts in the same directory.
+	 * This test ensures that holding the lease of one host does not delay the lease of another.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testDistinctHostsDoNotBlock() throws Exception {
+		FileSessionLease first = createLease(HOST);
+		FileSessionLease second = createLease("10.0.0.2");
+		Assert.assertTrue(first.acquire(LONG_WAIT));
+		long start = System.currentTimeMillis();
+		Assert.assertTrue(second.acquire(SHORT_WAIT));
+		Assert.assertTrue(System.currentTimeMillis() - start < SHORT_WAIT);
+		Assert.assertTrue(first.isHeld());
+		Assert.assertTrue(second.isHeld());
+	}
+
+	/**
+	 * Unit test to verify that acquiring a held lease again and releasing a free lease are harmless.
+	 * This test ensures that one release frees a lease acquired twice, and that the lock file is named after the host.
+	 *
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testAcquireAgainAndReleaseTwice() throws Exception {
+		FileSessionLease lease = createLease("ups:22/a");
+		FileSessionLease other = createLease("ups:22/a");
+		Assert.assertTrue(lease.acquire(LONG_WAIT));
+		Assert.assertTrue(lease.acquire(0));
+		Assert.assertTrue(new File(directory, "nexsys-ups_22_a.lock").isFile());
+		lease.release();
+		lease.release();
+		Assert.assertFalse(lease.isHeld());
+		Assert.assertTrue(other.acquire(SHORT_WAIT));
+	}
+
+	/**
+	 * Creates a lease in {@link #directory}, released after the test
+	 *
+	 * @param host the host of the lease
+	 * @return the lease
+	 * @throws Exception if the lease can not be created
+	 */
+	private FileSessionLease createLease(String host) throws Exception {
+		FileSessionLease lease = new FileSessionLease(directory, host);
+		leases.add(lease);
+		return lease;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.middleatlantic.nexsys.transport;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FrameCompletionDetectorTest for unit test of FrameCompletionDetector
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FrameCompletionDetectorTest {
+	private static final String COMMAND = "~00P003VER\r";
+	private static final String ECHO = "~00P003VER\r\n";
+
+	private FrameCompletionDetector frameCompletionDetector;
+
+	@BeforeEach()
+	public void setUp() {
+		frameCompletionDetector = new FrameCompletionDetector();
+		frameCompletionDetector.reset(COMMAND);
+	}
+
+	/**
+	 * Unit test to verify the completion of a response read in several chunks.
+	 * This test ensures that the response is only complete once the answer frame is closed by a carriage return.
+	 */
+	@Test
+	void testCompletionSplitAcrossChunks() {
+		String response = "~00P003VE";
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, response));
+		response += "R\r\n~00D0";
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, response));
+		response += "06S02E03";
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, response));
+		response += "\r\n";
+		Assert.assertTrue(frameCompletionDetector.isComplete(COMMAND, response));
+	}
+
+	/**
+	 * Unit test to verify the completion of a response whose terminator straddles two reads.
+	 * This test ensures that a carriage return and line feed arriving in separate chunks complete the frame on the carriage return.
+	 */
+	@Test
+	void testTerminatorStraddlingTwoReads() {
+		String response = ECHO + "~00D006S02E03";
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, response));
+		response += "\r";
+		Assert.assertTrue(frameCompletionDetector.isComplete(COMMAND, response));
+		response += "\n";
+		Assert.assertTrue(frameCompletionDetector.isComplete(COMMAND, response));
+	}
+
+	/**
+	 * Unit test to verify that the command is compared by value.
+	 * This test ensures that an equal command held by another String instance continues the scan instead of restarting it.
+	 */
+	@Test
+	void testCommandComparedByValue() {
+		Assert.assertFalse(frameCompletionDetector.isComplete(new String(COMMAND), ECHO + "~00D006"));
+		Assert.assertTrue(frameCompletionDetector.isComplete(new String(COMMAND), ECHO + "~00D006S02E03\r"));
+	}
+
+	/**
+	 * Unit test to verify that a reset separates two exchanges of the same command.
+	 * This test ensures that the completion of the first response does not leak into the second one.
+	 */
+	@Test
+	void testResetBetweenExchangesOfSameCommand() {
+		Assert.assertTrue(frameCompletionDetector.isComplete(COMMAND, ECHO + "~00D006S02E03\r"));
+		frameCompletionDetector.reset(COMMAND);
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, ECHO + "~00D0"));
+	}
+
+	/**
+	 * Unit test to verify that a bare echo of the command completes the response.
+	 * This test ensures that NUL characters in the echo are ignored.
+	 */
+	@Test
+	void testBareEchoWithNulCharacters() {
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, "~00P\u0000003"));
+		Assert.assertTrue(frameCompletionDetector.isComplete(COMMAND, "~00P\u0000003VER\r"));
+	}
+
+	/**
+	 * Unit test to verify that a scan restarts when the response is shorter than what was already scanned.
+	 * This test ensures that a new response read without a reset is scanned from its start.
+	 */
+	@Test
+	void testShorterResponseRestartsScan() {
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, ECHO + "~00D006S02E03"));
+		Assert.assertFalse(frameCompletionDetector.isComplete(COMMAND, ECHO));
+		Assert.assertTrue(frameCompletionDetector.isComplete(COMMAND, ECHO + "~00R\r"));
+	}
+}